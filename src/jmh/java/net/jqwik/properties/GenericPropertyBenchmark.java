@@ -0,0 +1,61 @@
+package net.jqwik.properties;
+
+import net.jqwik.api.*;
+import net.jqwik.descriptor.*;
+import org.junit.platform.engine.reporting.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Measures the try loop of {@linkplain GenericProperty} for a property that is never falsified.
+ * Scores are per try; run with {@code gradle jmh}, whose gc profiler also reports bytes allocated per try.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenericPropertyBenchmark {
+
+	private static final int TRIES = 1000;
+	private static final Consumer<ReportEntry> NULL_PUBLISHER = entry -> {
+	};
+
+	@Param({"ON", "OFF"})
+	private ShrinkingMode shrinkingMode;
+
+	private PropertyConfiguration configuration;
+	private GenericProperty twoIntegers;
+	private GenericProperty stringAndList;
+
+	@Setup
+	public void setup() {
+		configuration = new PropertyConfiguration("Property", "4711", TRIES, 5, shrinkingMode, new Reporting[0]);
+		twoIntegers = new GenericProperty( //
+			"twoIntegers", //
+			Arrays.asList(Arbitraries.integers(), Arbitraries.integers()), //
+			args -> args[0] instanceof Integer && args[1] instanceof Integer //
+		);
+		stringAndList = new GenericProperty( //
+			"stringAndList", //
+			Arrays.asList(Arbitraries.strings().ofMaxLength(20), Arbitraries.integers().list().ofMaxSize(10)), //
+			args -> args[0] != null && args[1] != null //
+		);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TRIES)
+	public PropertyCheckResult twoIntegers() {
+		return twoIntegers.check(configuration, NULL_PUBLISHER);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TRIES)
+	public PropertyCheckResult stringAndList() {
+		return stringAndList.check(configuration, NULL_PUBLISHER);
+	}
+}
@@ -6,6 +6,7 @@ import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
+import net.jqwik.properties.*;
 import net.jqwik.recording.*;
 
 public class DefaultJqwikConfiguration implements JqwikConfiguration {
@@ -33,9 +34,34 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			public int maxDiscardRatio() {
 				return properties.defaultMaxDiscardRatio();
 			}
+
+			@Override
+			public int parallelism() {
+				return properties.defaultParallelism();
+			}
+
+			@Override
+			public int maxShrinkingChecks() {
+				return properties.defaultMaxShrinkingChecks();
+			}
+
+			@Override
+			public int maxShrinkingSeconds() {
+				return properties.defaultMaxShrinkingSeconds();
+			}
 		};
 	}
 
+	@Override
+	public RandomAlgorithm randomAlgorithm() {
+		return properties.randomAlgorithm();
+	}
+
+	@Override
+	public int executionThreads() {
+		return properties.executionThreads();
+	}
+
 	@Override
 	public TestEngineConfiguration testEngineConfiguration() {
 		if (null == testEngineConfiguration) {
@@ -69,11 +95,21 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 					return Collections.emptySet();
 				return previousRun.allNonSuccessfulTests().map(testRun -> testRun.getUniqueId()).collect(Collectors.toSet());
 			}
+
+			@Override
+			public Map<UniqueId, Long> previousDurations() {
+				// Durations are only used to schedule concurrent execution
+				if (properties.executionThreads() <= 1)
+					return Collections.emptyMap();
+				return previousRun.allTestRuns() //
+								  .filter(testRun -> testRun.getDurationMillis() > 0) //
+								  .collect(Collectors.toMap(TestRun::getUniqueId, TestRun::getDurationMillis, Math::max));
+			}
 		};
 	}
 
 	private boolean needsDatabaseAtAll() {
-		return properties.rerunFailuresWithSameSeed() || properties.runFailuresFirst();
+		return properties.rerunFailuresWithSameSeed() || properties.runFailuresFirst() || properties.executionThreads() > 1;
 	}
 
 }
@@ -1,7 +1,13 @@
 package net.jqwik;
 
+import net.jqwik.properties.*;
+
 public interface JqwikConfiguration {
 	PropertyDefaultValues propertyDefaultValues();
 
 	TestEngineConfiguration testEngineConfiguration();
+
+	RandomAlgorithm randomAlgorithm();
+
+	int executionThreads();
 }
@@ -4,6 +4,8 @@ import java.io.*;
 import java.util.*;
 import java.util.logging.*;
 
+import net.jqwik.properties.*;
+
 public class JqwikProperties {
 
 	private static final String DEFAULT_PROPERTIES_FILE = "jqwik.properties";
@@ -15,6 +17,11 @@ public class JqwikProperties {
 	private boolean runFailuresFirst;
 	private int defaultTries;
 	private int defaultMaxDiscardRatio;
+	private int defaultParallelism = 1;
+	private int defaultMaxShrinkingChecks = PropertyDefaultValues.DEFAULT_MAX_SHRINKING_CHECKS;
+	private int defaultMaxShrinkingSeconds = PropertyDefaultValues.DEFAULT_MAX_SHRINKING_SECONDS;
+	private int executionThreads = 1;
+	private RandomAlgorithm randomAlgorithm = RandomAlgorithm.COMPATIBLE;
 
 	public String databasePath() {
 		return databasePath;
@@ -36,6 +43,26 @@ public class JqwikProperties {
 		return defaultMaxDiscardRatio;
 	}
 
+	public int defaultParallelism() {
+		return defaultParallelism;
+	}
+
+	public int defaultMaxShrinkingChecks() {
+		return defaultMaxShrinkingChecks;
+	}
+
+	public int defaultMaxShrinkingSeconds() {
+		return defaultMaxShrinkingSeconds;
+	}
+
+	public int executionThreads() {
+		return executionThreads;
+	}
+
+	public RandomAlgorithm randomAlgorithm() {
+		return randomAlgorithm;
+	}
+
 	JqwikProperties() {
 		this(DEFAULT_PROPERTIES_FILE);
 	}
@@ -59,10 +86,26 @@ public class JqwikProperties {
 			runFailuresFirst = Boolean.parseBoolean(properties.getProperty("runFailuresFirst"));
 			defaultTries = Integer.parseInt(properties.getProperty("defaultTries"));
 			defaultMaxDiscardRatio = Integer.parseInt(properties.getProperty("defaultMaxDiscardRatio"));
+			defaultParallelism = Integer.parseInt(properties.getProperty("defaultParallelism", "1"));
+			defaultMaxShrinkingChecks = Integer.parseInt(properties.getProperty("defaultMaxShrinkingChecks",
+				Integer.toString(PropertyDefaultValues.DEFAULT_MAX_SHRINKING_CHECKS)));
+			defaultMaxShrinkingSeconds = Integer.parseInt(properties.getProperty("defaultMaxShrinkingSeconds",
+				Integer.toString(PropertyDefaultValues.DEFAULT_MAX_SHRINKING_SECONDS)));
+			executionThreads = Integer.parseInt(properties.getProperty("executionThreads", "1"));
+			randomAlgorithm = parseRandomAlgorithm(properties.getProperty("randomAlgorithm", RandomAlgorithm.COMPATIBLE.name()));
 		} catch (IOException ioe) {
 			LOG.log(Level.WARNING, String.format("Error while reading properties file [%s] found.", propertiesFileName), ioe);
 		}
 
 	}
 
+	private static RandomAlgorithm parseRandomAlgorithm(String name) {
+		try {
+			return RandomAlgorithm.valueOf(name.trim().toUpperCase());
+		} catch (IllegalArgumentException iae) {
+			String message = String.format("[%s] is not a valid random algorithm. Use one of %s.", name, Arrays.toString(RandomAlgorithm.values()));
+			throw new JqwikException(message);
+		}
+	}
+
 }
@@ -5,6 +5,7 @@ import org.junit.platform.engine.*;
 import net.jqwik.descriptor.*;
 import net.jqwik.discovery.*;
 import net.jqwik.execution.*;
+import net.jqwik.properties.*;
 import net.jqwik.recording.*;
 
 public class JqwikTestEngine implements TestEngine {
@@ -37,8 +38,11 @@ public class JqwikTestEngine implements TestEngine {
 	@Override
 	public void execute(ExecutionRequest request) {
 		TestDescriptor root = request.getRootTestDescriptor();
+		SourceOfRandomness.useAlgorithm(configuration.randomAlgorithm());
 		try (TestRunRecorder recorder = configuration.testEngineConfiguration().recorder()) {
-			new JqwikExecutor(registry, recorder, configuration.testEngineConfiguration().previousFailures()) //
+			TestEngineConfiguration testEngineConfiguration = configuration.testEngineConfiguration();
+			new JqwikExecutor(registry, recorder, testEngineConfiguration.previousFailures(), configuration.executionThreads(),
+					testEngineConfiguration.previousDurations()) //
 					.execute(root, request.getEngineExecutionListener());
 		}
 	}
@@ -1,10 +1,26 @@
 package net.jqwik;
 
 public interface PropertyDefaultValues {
+	int DEFAULT_MAX_SHRINKING_CHECKS = 10000;
+	int DEFAULT_MAX_SHRINKING_SECONDS = 10;
+
 	int tries();
 	int maxDiscardRatio();
+	int parallelism();
+
+	default int maxShrinkingChecks() {
+		return DEFAULT_MAX_SHRINKING_CHECKS;
+	}
+
+	default int maxShrinkingSeconds() {
+		return DEFAULT_MAX_SHRINKING_SECONDS;
+	}
 
 	static PropertyDefaultValues with(int tries, int maxDiscardRatio) {
+		return with(tries, maxDiscardRatio, 1);
+	}
+
+	static PropertyDefaultValues with(int tries, int maxDiscardRatio, int parallelism) {
 		return new PropertyDefaultValues() {
 			@Override
 			public int tries() {
@@ -15,6 +31,11 @@ public interface PropertyDefaultValues {
 			public int maxDiscardRatio() {
 				return maxDiscardRatio;
 			}
+
+			@Override
+			public int parallelism() {
+				return parallelism;
+			}
 		};
 	}
 }
@@ -12,4 +12,9 @@ public interface TestEngineConfiguration {
 	TestRunData previousRun();
 
 	Set<UniqueId> previousFailures();
+
+	/**
+	 * @return the durations of tests and containers in the previous run by their unique id
+	 */
+	Map<UniqueId, Long> previousDurations();
 }
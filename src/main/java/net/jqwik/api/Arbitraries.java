@@ -33,20 +33,27 @@ public class Arbitraries {
 
 	@SafeVarargs
 	public static <U> Arbitrary<U> of(U... values) {
-		return fromGenerator(RandomGenerators.choose(values));
+		return of(Arrays.asList(values));
 	}
 
 	public static <U> Arbitrary<U> of(List<U> values) {
-		return fromGenerator(RandomGenerators.choose(values));
+		if (values.isEmpty()) {
+			return fromGenerator(RandomGenerators.choose(values));
+		}
+		return new ChooseArbitrary<>(values);
 	}
 
 	public static Arbitrary<Character> of(char[] values) {
-		return fromGenerator(RandomGenerators.choose(values));
+		List<Character> validCharacters = new ArrayList<>(values.length);
+		for (char aChar : values) {
+			validCharacters.add(aChar);
+		}
+		return of(validCharacters);
 	}
 
 	@SuppressWarnings("unchecked")
 	public static <T extends Enum> Arbitrary<T> of(Class<T> enumClass) {
-		return fromGenerator(RandomGenerators.choose(enumClass));
+		return of(enumClass.getEnumConstants());
 	}
 
 	@SafeVarargs
@@ -287,7 +294,8 @@ public class Arbitraries {
 	@SafeVarargs
 	public static <T> Arbitrary<T> samples(T... samples) {
 		List<Shrinkable<T>> shrinkables = ShrinkableSample.of(samples);
-		return fromGenerator(RandomGenerators.samples(shrinkables));
+		// Each generator starts with the first sample again
+		return genSize -> RandomGenerators.samples(shrinkables);
 	}
 
 	public static <T> Arbitrary<T> constant(T value) {
@@ -32,13 +32,48 @@ public interface Arbitrary<T> {
 	 */
 	RandomGenerator<T> generator(int genSize);
 
+	/**
+	 * All values an arbitrary can generate as shrinkables - if there are not more than {@code maxNumberOfValues}.
+	 *
+	 * @return {@linkplain Optional#empty()} if there are more values or if they cannot be enumerated, which is the default
+	 */
+	default Optional<List<Shrinkable<T>>> allShrinkables(int maxNumberOfValues) {
+		return Optional.empty();
+	}
+
 	/**
 	 * Create a new arbitrary of the same type {@code T} that creates and shrinks the original arbitrary but only allows
 	 * values that are accepted by the {@code filterPredicate}.
 	 *
 	 */
 	default Arbitrary<T> filter(Predicate<T> filterPredicate) {
-		return genSize -> new FilteredGenerator<T>(Arbitrary.this.generator(genSize), filterPredicate);
+		return filter(filterPredicate, FilteredGenerator.DEFAULT_MAX_MISSES);
+	}
+
+	/**
+	 * Same as {@linkplain Arbitrary#filter(Predicate)} but generation fails only after more than {@code maxMisses}
+	 * values in a row have been rejected. Shrinking tries at most {@code maxMisses} rejected values per step.
+	 */
+	default Arbitrary<T> filter(Predicate<T> filterPredicate, int maxMisses) {
+		return new Arbitrary<T>() {
+			@Override
+			public RandomGenerator<T> generator(int genSize) {
+				return new FilteredGenerator<T>(Arbitrary.this.generator(genSize), filterPredicate, maxMisses);
+			}
+
+			@Override
+			public Optional<List<Shrinkable<T>>> allShrinkables(int maxNumberOfValues) {
+				return Arbitrary.this.allShrinkables(maxNumberOfValues).map(shrinkables -> shrinkables.stream() //
+					.filter(shrinkable -> filterPredicate.test(shrinkable.value())) //
+					.map(shrinkable -> (Shrinkable<T>) new FilteredShrinkable<>(shrinkable, filterPredicate, maxMisses, this)) //
+					.collect(Collectors.toList()));
+			}
+
+			@Override
+			public String toString() {
+				return String.format("Filtering [%s]", Arbitrary.this);
+			}
+		};
 	}
 
 	/**
@@ -46,7 +81,19 @@ public interface Arbitrary<T> {
 	 * function.
 	 */
 	default <U> Arbitrary<U> map(Function<T, U> mapper) {
-		return genSize -> Arbitrary.this.generator(genSize).map(mapper);
+		return new Arbitrary<U>() {
+			@Override
+			public RandomGenerator<U> generator(int genSize) {
+				return Arbitrary.this.generator(genSize).map(mapper);
+			}
+
+			@Override
+			public Optional<List<Shrinkable<U>>> allShrinkables(int maxNumberOfValues) {
+				return Arbitrary.this.allShrinkables(maxNumberOfValues).map(shrinkables -> shrinkables.stream() //
+					.map(shrinkable -> shrinkable.map(mapper)) //
+					.collect(Collectors.toList()));
+			}
+		};
 	}
 
 	/**
@@ -80,7 +127,17 @@ public interface Arbitrary<T> {
 	 * Fix the genSize of an arbitrary so that it can no longer be influenced from outside
 	 */
 	default Arbitrary<T> fixGenSize(int genSize) {
-		return ignoredGenSize -> Arbitrary.this.generator(genSize);
+		return new Arbitrary<T>() {
+			@Override
+			public RandomGenerator<T> generator(int ignoredGenSize) {
+				return Arbitrary.this.generator(genSize);
+			}
+
+			@Override
+			public Optional<List<Shrinkable<T>>> allShrinkables(int maxNumberOfValues) {
+				return Arbitrary.this.allShrinkables(maxNumberOfValues);
+			}
+		};
 	}
 
 	/**
@@ -57,14 +57,8 @@ public class Combinators {
 			return (genSize) -> {
 				RandomGenerator<T1> g1 = a1.generator(genSize);
 				RandomGenerator<T2> g2 = a2.generator(genSize);
-				return random -> {
-					List<Shrinkable<Object>> shrinkables = new ArrayList<>();
-					shrinkables.add((Shrinkable<Object>) g1.next(random));
-					shrinkables.add((Shrinkable<Object>) g2.next(random));
-					Function<List<Object>, R> combineFunction = params -> combinator.apply((T1) params.get(0), (T2) params.get(1));
-
-					return new CombinedShrinkable<R>(shrinkables, combineFunction);
-				};
+				Function<List<Object>, R> combineFunction = params -> combinator.apply((T1) params.get(0), (T2) params.get(1));
+				return new CombinedGenerator<>(Arrays.asList(g1, g2), combineFunction);
 			};
 		}
 	}
@@ -86,16 +80,9 @@ public class Combinators {
 				RandomGenerator<T1> g1 = a1.generator(genSize);
 				RandomGenerator<T2> g2 = a2.generator(genSize);
 				RandomGenerator<T3> g3 = a3.generator(genSize);
-				return random -> {
-					List<Shrinkable<Object>> shrinkables = new ArrayList<>();
-					shrinkables.add((Shrinkable<Object>) g1.next(random));
-					shrinkables.add((Shrinkable<Object>) g2.next(random));
-					shrinkables.add((Shrinkable<Object>) g3.next(random));
-					Function<List<Object>, R> combineFunction = params -> combinator.apply((T1) params.get(0), (T2) params.get(1),
-							(T3) params.get(2));
-
-					return new CombinedShrinkable<R>(shrinkables, combineFunction);
-				};
+				Function<List<Object>, R> combineFunction = params -> combinator.apply((T1) params.get(0), (T2) params.get(1),
+						(T3) params.get(2));
+				return new CombinedGenerator<>(Arrays.asList(g1, g2, g3), combineFunction);
 			};
 		}
 	}
@@ -120,17 +107,9 @@ public class Combinators {
 				RandomGenerator<T2> g2 = a2.generator(genSize);
 				RandomGenerator<T3> g3 = a3.generator(genSize);
 				RandomGenerator<T4> g4 = a4.generator(genSize);
-				return random -> {
-					List<Shrinkable<Object>> shrinkables = new ArrayList<>();
-					shrinkables.add((Shrinkable<Object>) g1.next(random));
-					shrinkables.add((Shrinkable<Object>) g2.next(random));
-					shrinkables.add((Shrinkable<Object>) g3.next(random));
-					shrinkables.add((Shrinkable<Object>) g4.next(random));
-					Function<List<Object>, R> combineFunction = params -> combinator.apply((T1) params.get(0), (T2) params.get(1),
-							(T3) params.get(2), (T4) params.get(3));
-
-					return new CombinedShrinkable<R>(shrinkables, combineFunction);
-				};
+				Function<List<Object>, R> combineFunction = params -> combinator.apply((T1) params.get(0), (T2) params.get(1),
+						(T3) params.get(2), (T4) params.get(3));
+				return new CombinedGenerator<>(Arrays.asList(g1, g2, g3, g4), combineFunction);
 			};
 		}
 	}
@@ -158,18 +137,9 @@ public class Combinators {
 				RandomGenerator<T3> g3 = a3.generator(genSize);
 				RandomGenerator<T4> g4 = a4.generator(genSize);
 				RandomGenerator<T5> g5 = a5.generator(genSize);
-				return random -> {
-					List<Shrinkable<Object>> shrinkables = new ArrayList<>();
-					shrinkables.add((Shrinkable<Object>) g1.next(random));
-					shrinkables.add((Shrinkable<Object>) g2.next(random));
-					shrinkables.add((Shrinkable<Object>) g3.next(random));
-					shrinkables.add((Shrinkable<Object>) g4.next(random));
-					shrinkables.add((Shrinkable<Object>) g5.next(random));
-					Function<List<Object>, R> combineFunction = params -> combinator.apply((T1) params.get(0), (T2) params.get(1),
-							(T3) params.get(2), (T4) params.get(3), (T5) params.get(4));
-
-					return new CombinedShrinkable<R>(shrinkables, combineFunction);
-				};
+				Function<List<Object>, R> combineFunction = params -> combinator.apply((T1) params.get(0), (T2) params.get(1),
+						(T3) params.get(2), (T4) params.get(3), (T5) params.get(4));
+				return new CombinedGenerator<>(Arrays.asList(g1, g2, g3, g4, g5), combineFunction);
 			};
 		}
 	}
@@ -200,19 +170,9 @@ public class Combinators {
 				RandomGenerator<T4> g4 = a4.generator(genSize);
 				RandomGenerator<T5> g5 = a5.generator(genSize);
 				RandomGenerator<T6> g6 = a6.generator(genSize);
-				return random -> {
-					List<Shrinkable<Object>> shrinkables = new ArrayList<>();
-					shrinkables.add((Shrinkable<Object>) g1.next(random));
-					shrinkables.add((Shrinkable<Object>) g2.next(random));
-					shrinkables.add((Shrinkable<Object>) g3.next(random));
-					shrinkables.add((Shrinkable<Object>) g4.next(random));
-					shrinkables.add((Shrinkable<Object>) g5.next(random));
-					shrinkables.add((Shrinkable<Object>) g6.next(random));
-					Function<List<Object>, R> combineFunction = params -> combinator.apply((T1) params.get(0), (T2) params.get(1),
-							(T3) params.get(2), (T4) params.get(3), (T5) params.get(4), (T6) params.get(5));
-
-					return new CombinedShrinkable<R>(shrinkables, combineFunction);
-				};
+				Function<List<Object>, R> combineFunction = params -> combinator.apply((T1) params.get(0), (T2) params.get(1),
+						(T3) params.get(2), (T4) params.get(3), (T5) params.get(4), (T6) params.get(5));
+				return new CombinedGenerator<>(Arrays.asList(g1, g2, g3, g4, g5, g6), combineFunction);
 			};
 		}
 	}
@@ -247,20 +207,9 @@ public class Combinators {
 				RandomGenerator<T5> g5 = a5.generator(genSize);
 				RandomGenerator<T6> g6 = a6.generator(genSize);
 				RandomGenerator<T7> g7 = a7.generator(genSize);
-				return random -> {
-					List<Shrinkable<Object>> shrinkables = new ArrayList<>();
-					shrinkables.add((Shrinkable<Object>) g1.next(random));
-					shrinkables.add((Shrinkable<Object>) g2.next(random));
-					shrinkables.add((Shrinkable<Object>) g3.next(random));
-					shrinkables.add((Shrinkable<Object>) g4.next(random));
-					shrinkables.add((Shrinkable<Object>) g5.next(random));
-					shrinkables.add((Shrinkable<Object>) g6.next(random));
-					shrinkables.add((Shrinkable<Object>) g7.next(random));
-					Function<List<Object>, R> combineFunction = params -> combinator.apply((T1) params.get(0), (T2) params.get(1),
-							(T3) params.get(2), (T4) params.get(3), (T5) params.get(4), (T6) params.get(5), (T7) params.get(6));
-
-					return new CombinedShrinkable<R>(shrinkables, combineFunction);
-				};
+				Function<List<Object>, R> combineFunction = params -> combinator.apply((T1) params.get(0), (T2) params.get(1),
+						(T3) params.get(2), (T4) params.get(3), (T5) params.get(4), (T6) params.get(5), (T7) params.get(6));
+				return new CombinedGenerator<>(Arrays.asList(g1, g2, g3, g4, g5, g6, g7), combineFunction);
 			};
 		}
 	}
@@ -298,21 +247,9 @@ public class Combinators {
 				RandomGenerator<T6> g6 = a6.generator(genSize);
 				RandomGenerator<T7> g7 = a7.generator(genSize);
 				RandomGenerator<T8> g8 = a8.generator(genSize);
-				return random -> {
-					List<Shrinkable<Object>> shrinkables = new ArrayList<>();
-					shrinkables.add((Shrinkable<Object>) g1.next(random));
-					shrinkables.add((Shrinkable<Object>) g2.next(random));
-					shrinkables.add((Shrinkable<Object>) g3.next(random));
-					shrinkables.add((Shrinkable<Object>) g4.next(random));
-					shrinkables.add((Shrinkable<Object>) g5.next(random));
-					shrinkables.add((Shrinkable<Object>) g6.next(random));
-					shrinkables.add((Shrinkable<Object>) g7.next(random));
-					shrinkables.add((Shrinkable<Object>) g8.next(random));
-					Function<List<Object>, R> combineFunction = params -> combinator.apply((T1) params.get(0), (T2) params.get(1),
-							(T3) params.get(2), (T4) params.get(3), (T5) params.get(4), (T6) params.get(5), (T7) params.get(6), (T8) params.get(7));
-
-					return new CombinedShrinkable<R>(shrinkables, combineFunction);
-				};
+				Function<List<Object>, R> combineFunction = params -> combinator.apply((T1) params.get(0), (T2) params.get(1),
+						(T3) params.get(2), (T4) params.get(3), (T5) params.get(4), (T6) params.get(5), (T7) params.get(6), (T8) params.get(7));
+				return new CombinedGenerator<>(Arrays.asList(g1, g2, g3, g4, g5, g6, g7, g8), combineFunction);
 			};
 		}
 	}
@@ -24,6 +24,7 @@ import java.lang.annotation.*;
 public @interface Property {
 	int TRIES_NOT_SET = 0;
 	int MAX_DISCARD_RATIO_NOT_SET = 0;
+	int PARALLELISM_NOT_SET = 0;
 	String SEED_NOT_SET = "";
 	String DEFAULT_STEREOTYPE = "Property";
 
@@ -38,4 +39,11 @@ public @interface Property {
 	Reporting[] reporting() default {};
 
 	String stereotype() default DEFAULT_STEREOTYPE;
+
+	/**
+	 * The number of threads on which tries are checked. Values are still generated on a single thread
+	 * so that a property reports the same falsified sample regardless of parallelism.
+	 * Only use values greater than 1 if the property method is thread safe.
+	 */
+	int parallelism() default PARALLELISM_NOT_SET;
 }
@@ -15,6 +15,18 @@ public interface RandomGenerator<T> {
 	 */
 	Shrinkable<T> next(Random random);
 
+	/**
+	 * Generates the next value without wrapping it in a shrinkable. Used by jqwik when shrinking is switched off.
+	 * Overriding implementations must consume randomness exactly like {@code next} so that a seed
+	 * generates the same values whether shrinking is switched on or off.
+	 *
+	 * @param random the source of randomness. Injected by jqwik itself.
+	 * @return the next generated value
+	 */
+	default T nextValue(Random random) {
+		return next(random).value();
+	}
+
 	/**
 	 * As opposed to {@code next} this method only chooses values from the random part
 	 * of a generator. For purely random generators this is the same as calling {@code next}.
@@ -30,30 +42,34 @@ public interface RandomGenerator<T> {
 	}
 
 	default <U> RandomGenerator<U> map(Function<T, U> mapper) {
+		return new MappedGenerator<>(this, mapper);
+	}
+
+	default <U> RandomGenerator<U> flatMap(Function<T, Arbitrary<U>> mapper, int tries) {
 		return new RandomGenerator<U>() {
 			@Override
 			public Shrinkable<U> next(Random random) {
-				return RandomGenerator.this.next(random).map(mapper);
+				Shrinkable<T> wrappedShrinkable = RandomGenerator.this.sampleRandomly(random);
+				return new FlatMappedShrinkable<>(wrappedShrinkable, mapper, tries, random.nextLong());
 			}
 
 			@Override
-			public Shrinkable<U> sampleRandomly(Random random) {
-				return RandomGenerator.this.sampleRandomly(random).map(mapper);
+			public U nextValue(Random random) {
+				T wrappedValue = RandomGenerator.this.sampleRandomly(random).value();
+				Random mappedRandom = new Random(random.nextLong());
+				return mapper.apply(wrappedValue).generator(tries).sampleRandomly(mappedRandom).value();
 			}
 		};
 	}
 
-	default <U> RandomGenerator<U> flatMap(Function<T, Arbitrary<U>> mapper, int tries) {
-		return random -> {
-			Shrinkable<T> wrappedShrinkable = this.sampleRandomly(random);
-			return new FlatMappedShrinkable<>(wrappedShrinkable, mapper, tries, random.nextLong());
-		};
-	}
-
 	default RandomGenerator<T> filter(Predicate<T> filterPredicate) {
 		return new FilteredGenerator<>(this, filterPredicate);
 	}
 
+	default RandomGenerator<T> filter(Predicate<T> filterPredicate, int maxMisses) {
+		return new FilteredGenerator<>(this, filterPredicate, maxMisses);
+	}
+
 	default RandomGenerator<T> injectNull(double nullProbability) {
 		return new RandomGenerator<T>() {
 			@Override
@@ -62,6 +78,12 @@ public interface RandomGenerator<T> {
 				return RandomGenerator.this.next(random);
 			}
 
+			@Override
+			public T nextValue(Random random) {
+				if (random.nextDouble() <= nullProbability) return null;
+				return RandomGenerator.this.nextValue(random);
+			}
+
 			@Override
 			public Shrinkable<T> sampleRandomly(Random random) {
 				if (random.nextDouble() <= nullProbability) return Shrinkable.unshrinkable(null);
@@ -81,6 +103,12 @@ public interface RandomGenerator<T> {
 				return generator.next(random);
 			}
 
+			@Override
+			public T nextValue(Random random) {
+				if (tryCount.getAndIncrement() < samples.size()) return samplesGenerator.next(random).value();
+				return generator.nextValue(random);
+			}
+
 			@Override
 			public Shrinkable<T> sampleRandomly(Random random) {
 				return generator.sampleRandomly(random);
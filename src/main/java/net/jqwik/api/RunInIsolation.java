@@ -0,0 +1,16 @@
+package net.jqwik.api;
+
+import java.lang.annotation.*;
+
+/**
+ * Use {@code @RunInIsolation} on test classes, groups or property methods
+ * that must not run concurrently with any other property or container.
+ *
+ * This only has an effect if properties are executed concurrently,
+ * i.e. {@code executionThreads} in {@code jqwik.properties} is greater than 1.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RunInIsolation {
+}
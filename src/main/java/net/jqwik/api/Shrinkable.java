@@ -5,6 +5,7 @@ import net.jqwik.properties.arbitraries.*;
 
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 public interface Shrinkable<T> {
 
@@ -14,6 +15,15 @@ public interface Shrinkable<T> {
 
 	Set<ShrinkResult<Shrinkable<T>>> shrinkNext(Predicate<T> falsifier);
 
+	/**
+	 * Like {@linkplain #shrinkNext(Predicate)} but falsified candidates come ordered, usually smallest distance first.
+	 * The falsifier is only called as far as the returned stream is consumed.
+	 */
+	default Stream<ShrinkResult<Shrinkable<T>>> shrinkNextLazily(Predicate<T> falsifier) {
+		return ShrinkingHelper.lazily(() -> shrinkNext(falsifier).stream() //
+			.sorted(Comparator.comparingInt(shrinkResult -> shrinkResult.shrunkValue().distance())));
+	}
+
 	T value();
 
 	int distance();
@@ -1,5 +1,19 @@
 package net.jqwik.api;
 
 public enum ShrinkingMode {
-	ON, OFF
+	ON,
+
+	OFF,
+
+	/**
+	 * Continue shrinking with the first smaller falsified candidate instead of looking at all candidates.
+	 * Needs far fewer checks of the property but can end up with a less simple sample.
+	 */
+	GREEDY,
+
+	/**
+	 * Shrink like {@linkplain #ON} but stop after a maximum number of checks or a maximum duration.
+	 * Both can be configured in {@code jqwik.properties}.
+	 */
+	BOUNDED
 }
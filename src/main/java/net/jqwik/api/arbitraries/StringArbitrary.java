@@ -4,6 +4,10 @@ import net.jqwik.api.*;
 
 /**
  * Fluent interface to configure arbitraries that generate String values.
+ *
+ * All allowed chars form a single set of valid chars. When shrinking, each char
+ * is shrunk towards the smallest valid char, whichever method has allowed it.
+ * E.g. chars of {@code alpha()} are shrunk towards {@code 'A'}, lower case ones included.
  */
 public interface StringArbitrary extends Arbitrary<String> {
 
@@ -35,6 +39,8 @@ public interface StringArbitrary extends Arbitrary<String> {
 	 * Allow all chars within {@code from} (included) and {@code to} (included) to show up in generated strings.
 	 *
 	 * Can be combined with other methods that allow chars.
+	 *
+	 * @throws net.jqwik.JqwikException if {@code from} is greater than {@code to}
 	 */
 	StringArbitrary withCharRange(char from, char to);
 
@@ -8,7 +8,7 @@ public class RegisteredArbitraryConfigurators {
 
 	private static List<ArbitraryConfigurator> registeredConfigurators;
 
-	public static List<ArbitraryConfigurator> getConfigurators() {
+	public static synchronized List<ArbitraryConfigurator> getConfigurators() {
 		if (null == registeredConfigurators) {
 			loadArbitraryConfigurators();
 		}
@@ -23,20 +23,20 @@ public class RegisteredArbitraryConfigurators {
 		}
 	}
 
-	public static void register(ArbitraryConfigurator configurator) {
+	public static synchronized void register(ArbitraryConfigurator configurator) {
 		if (getConfigurators().contains(configurator)) {
 			return;
 		}
 		registeredConfigurators.add(0, configurator);
 	}
 
-	public static void unregister(ArbitraryConfigurator configuratorToDelete) {
+	public static synchronized void unregister(ArbitraryConfigurator configuratorToDelete) {
 		getConfigurators().stream() //
 				.filter(provider -> provider == configuratorToDelete) //
 				.forEach(provider -> registeredConfigurators.remove(provider));
 	}
 
-	public static void unregister(Class<? extends ArbitraryConfigurator> configuratorClass) {
+	public static synchronized void unregister(Class<? extends ArbitraryConfigurator> configuratorClass) {
 		getConfigurators().stream() //
 				.filter(provider -> provider.getClass() == configuratorClass) //
 				.forEach(provider -> registeredConfigurators.remove(provider));
@@ -12,7 +12,12 @@ public class PropertyConfiguration {
 		int maxDiscardRatio = property.maxDiscardRatio() == Property.MAX_DISCARD_RATIO_NOT_SET //
 				? propertyDefaultValues.maxDiscardRatio()
 				: property.maxDiscardRatio();
-		return new PropertyConfiguration(property.stereotype(), property.seed(), tries, maxDiscardRatio, property.shrinking(), property.reporting());
+		int parallelism = property.parallelism() == Property.PARALLELISM_NOT_SET //
+				? propertyDefaultValues.parallelism()
+				: property.parallelism();
+		return new PropertyConfiguration(property.stereotype(), property.seed(), tries, maxDiscardRatio, property.shrinking(), property.reporting())
+			.withParallelism(parallelism)
+			.withShrinkingBudget(propertyDefaultValues.maxShrinkingChecks(), propertyDefaultValues.maxShrinkingSeconds());
 	}
 
 	private final String stereotype;
@@ -21,6 +26,10 @@ public class PropertyConfiguration {
 	private final int maxDiscardRatio;
 	private final ShrinkingMode shrinkingMode;
 	private final Reporting[] reporting;
+	private final String failingTrySeed;
+	private final int parallelism;
+	private final int maxShrinkingChecks;
+	private final int maxShrinkingSeconds;
 
 	public PropertyConfiguration( //
 								  String stereotype, //
@@ -29,6 +38,22 @@ public class PropertyConfiguration {
 								  int maxDiscardRatio, //
 								  ShrinkingMode shrinkingMode, //
 								  Reporting[] reporting //
+	) {
+		this(stereotype, seed, tries, maxDiscardRatio, shrinkingMode, reporting, Property.SEED_NOT_SET, 1,
+			PropertyDefaultValues.DEFAULT_MAX_SHRINKING_CHECKS, PropertyDefaultValues.DEFAULT_MAX_SHRINKING_SECONDS);
+	}
+
+	private PropertyConfiguration( //
+								  String stereotype, //
+								  String seed, //
+								  int tries, //
+								  int maxDiscardRatio, //
+								  ShrinkingMode shrinkingMode, //
+								  Reporting[] reporting, //
+								  String failingTrySeed, //
+								  int parallelism, //
+								  int maxShrinkingChecks, //
+								  int maxShrinkingSeconds //
 	) {
 		this.stereotype = stereotype;
 		this.seed = seed;
@@ -36,6 +61,10 @@ public class PropertyConfiguration {
 		this.maxDiscardRatio = maxDiscardRatio;
 		this.shrinkingMode = shrinkingMode;
 		this.reporting = reporting;
+		this.failingTrySeed = failingTrySeed;
+		this.parallelism = parallelism;
+		this.maxShrinkingChecks = maxShrinkingChecks;
+		this.maxShrinkingSeconds = maxShrinkingSeconds;
 	}
 
 	public String getSeed() {
@@ -43,7 +72,44 @@ public class PropertyConfiguration {
 	}
 
 	public PropertyConfiguration withSeed(String changedSeed) {
-		return new PropertyConfiguration(this.stereotype, changedSeed, this.tries, this.maxDiscardRatio, this.shrinkingMode, this.reporting);
+		return new PropertyConfiguration(this.stereotype, changedSeed, this.tries, this.maxDiscardRatio, this.shrinkingMode, this.reporting, this.failingTrySeed, this.parallelism, this.maxShrinkingChecks, this.maxShrinkingSeconds);
+	}
+
+	/**
+	 * @return The seed of the try that falsified the property in a previous run or {@linkplain Property#SEED_NOT_SET}
+	 */
+	public String getFailingTrySeed() {
+		return failingTrySeed;
+	}
+
+	public PropertyConfiguration withFailingTrySeed(String changedFailingTrySeed) {
+		return new PropertyConfiguration(this.stereotype, this.seed, this.tries, this.maxDiscardRatio, this.shrinkingMode, this.reporting, changedFailingTrySeed, this.parallelism, this.maxShrinkingChecks, this.maxShrinkingSeconds);
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	public PropertyConfiguration withParallelism(int changedParallelism) {
+		return new PropertyConfiguration(this.stereotype, this.seed, this.tries, this.maxDiscardRatio, this.shrinkingMode, this.reporting, this.failingTrySeed, changedParallelism, this.maxShrinkingChecks, this.maxShrinkingSeconds);
+	}
+
+	/**
+	 * @return The maximum number of property checks while shrinking in {@linkplain ShrinkingMode#BOUNDED}
+	 */
+	public int getMaxShrinkingChecks() {
+		return maxShrinkingChecks;
+	}
+
+	/**
+	 * @return The maximum duration of shrinking in {@linkplain ShrinkingMode#BOUNDED}
+	 */
+	public int getMaxShrinkingSeconds() {
+		return maxShrinkingSeconds;
+	}
+
+	public PropertyConfiguration withShrinkingBudget(int changedMaxShrinkingChecks, int changedMaxShrinkingSeconds) {
+		return new PropertyConfiguration(this.stereotype, this.seed, this.tries, this.maxDiscardRatio, this.shrinkingMode, this.reporting, this.failingTrySeed, this.parallelism, changedMaxShrinkingChecks, changedMaxShrinkingSeconds);
 	}
 
 	public String getStereotype() {
@@ -83,7 +83,9 @@ class PropertyMethodResolver implements ElementResolver {
 			return new JqwikException(message);
 		});
 		String seed = determineSeed(uniqueId, property.seed());
-		PropertyConfiguration propertyConfig = PropertyConfiguration.from(property, propertyDefaultValues).withSeed(seed);
+		PropertyConfiguration propertyConfig = PropertyConfiguration.from(property, propertyDefaultValues) //
+			.withSeed(seed) //
+			.withFailingTrySeed(determineFailingTrySeed(uniqueId, seed));
 		return new PropertyMethodDescriptor(uniqueId, method, testClass, propertyConfig);
 	}
 
@@ -95,6 +97,15 @@ class PropertyMethodResolver implements ElementResolver {
 						  .orElse(seedFromProperty);
 	}
 
+	private String determineFailingTrySeed(UniqueId uniqueId, String seed) {
+		// A failing try can only be replayed if its property is run with the same seed again
+		return testRunData.byUniqueId(uniqueId) //
+						  .filter(testRunData -> testRunData.getStatus() != TestExecutionResult.Status.SUCCESSFUL) //
+						  .filter(testRunData -> testRunData.getRandomSeed().equals(seed)) //
+						  .map(TestRun::getFailingTrySeed) //
+						  .orElse(Property.SEED_NOT_SET);
+	}
+
 	private String getSegmentType() {
 		return JqwikUniqueIDs.PROPERTY_SEGMENT_TYPE;
 	}
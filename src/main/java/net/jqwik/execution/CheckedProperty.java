@@ -35,7 +35,7 @@ public class CheckedProperty {
 		try {
 			return createGenericProperty().check(effectiveConfiguration, publisher);
 		} catch (CannotFindArbitraryException cannotFindArbitraryException) {
-			return PropertyCheckResult.erroneous(effectiveConfiguration.getStereotype(), propertyName, 0, 0, effectiveConfiguration.getSeed(), Collections.emptyList(), cannotFindArbitraryException);
+			return PropertyCheckResult.erroneous(effectiveConfiguration.getStereotype(), propertyName, 0, 0, effectiveConfiguration.getSeed(), Property.SEED_NOT_SET, Collections.emptyList(), cannotFindArbitraryException);
 		}
 	}
 
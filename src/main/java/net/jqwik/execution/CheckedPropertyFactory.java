@@ -1,14 +1,16 @@
 package net.jqwik.execution;
 
+import net.jqwik.*;
 import net.jqwik.api.*;
 import net.jqwik.descriptor.*;
 import net.jqwik.properties.*;
 import net.jqwik.support.*;
 import org.junit.platform.commons.support.*;
+import org.junit.platform.commons.util.*;
 
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.util.*;
-import java.util.function.*;
 import java.util.stream.*;
 
 public class CheckedPropertyFactory {
@@ -29,18 +31,52 @@ public class CheckedPropertyFactory {
 
 	private CheckedFunction createForAllPredicate(PropertyMethodDescriptor propertyMethodDescriptor, Object testInstance) {
 		// Todo: Bind all non @ForAll params first
-		Class<?> returnType = propertyMethodDescriptor.getTargetMethod().getReturnType();
-		Function<List, Object> function = params -> ReflectionSupport.invokeMethod(propertyMethodDescriptor.getTargetMethod(), testInstance,
-				params.toArray());
-		if (BOOLEAN_RETURN_TYPES.contains(returnType))
-			return params -> (boolean) function.apply(params);
+		Method method = propertyMethodDescriptor.getTargetMethod();
+		MethodHandle invoker = createInvoker(method, testInstance);
+		if (BOOLEAN_RETURN_TYPES.contains(method.getReturnType()))
+			return args -> {
+				try {
+					return (boolean) invoker.invokeExact(args);
+				} catch (Throwable throwable) {
+					throw ExceptionUtils.throwAsUncheckedException(throwable);
+				}
+			};
 		else
-			return params -> {
-				function.apply(params);
+			return args -> {
+				try {
+					invoker.invokeExact(args);
+				} catch (Throwable throwable) {
+					throw ExceptionUtils.throwAsUncheckedException(throwable);
+				}
 				return true;
 			};
 	}
 
+	/**
+	 * Creates a method handle of type {@code (Object[])boolean} - or {@code (Object[])void} if the method does not return a boolean -
+	 * which is bound to testInstance and spreads the array to the method's parameters.
+	 * Invoking it avoids the access checks and argument copying of reflective invocation in every try.
+	 */
+	private static MethodHandle createInvoker(Method method, Object testInstance) {
+		int arity = method.getParameterCount();
+		Class<?> returnType = BOOLEAN_RETURN_TYPES.contains(method.getReturnType()) ? boolean.class : void.class;
+		if (Modifier.isStatic(method.getModifiers())) {
+			MethodHandle methodHandle = unreflect(method).asType(MethodType.genericMethodType(arity).changeReturnType(returnType));
+			return methodHandle.asSpreader(Object[].class, arity);
+		}
+		// The receiver is cast on invocation - not when binding - just like with reflective invocation
+		MethodHandle methodHandle = unreflect(method).asType(MethodType.genericMethodType(arity + 1).changeReturnType(returnType));
+		return MethodHandles.insertArguments(methodHandle, 0, testInstance).asSpreader(Object[].class, arity);
+	}
+
+	private static MethodHandle unreflect(Method method) {
+		try {
+			return MethodHandles.lookup().unreflect(ReflectionUtils.makeAccessible(method));
+		} catch (IllegalAccessException e) {
+			throw new JqwikException(String.format("Cannot access property method [%s]", method), e);
+		}
+	}
+
 	private List<MethodParameter> extractForAllParameters(Method targetMethod) {
 		return Arrays //
 				.stream(JqwikReflectionSupport.getMethodParameters(targetMethod)) //
@@ -2,6 +2,8 @@ package net.jqwik.execution;
 
 import net.jqwik.api.*;
 
+import java.util.*;
+
 class GenericArbitrary implements Arbitrary<Object> {
 
 	private final Arbitrary wrapped;
@@ -15,4 +17,10 @@ class GenericArbitrary implements Arbitrary<Object> {
 	public RandomGenerator<Object> generator(int genSize) {
 		return wrapped.generator(genSize);
 	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Optional<List<Shrinkable<Object>>> allShrinkables(int maxNumberOfValues) {
+		return wrapped.allShrinkables(maxNumberOfValues);
+	}
 }
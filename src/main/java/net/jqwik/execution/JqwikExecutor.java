@@ -1,11 +1,15 @@
 package net.jqwik.execution;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.logging.Logger;
 
+import org.junit.platform.commons.support.*;
 import org.junit.platform.engine.*;
 
+import net.jqwik.api.*;
 import net.jqwik.descriptor.*;
 import net.jqwik.execution.pipeline.*;
 import net.jqwik.recording.TestRunRecorder;
@@ -15,6 +19,8 @@ public class JqwikExecutor {
 	private final LifecycleRegistry registry;
 	private final TestRunRecorder recorder;
 	private final Set<UniqueId> previousFailedTests;
+	private final int executionThreads;
+	private final Map<UniqueId, Long> previousDurations;
 	private final PropertyTaskCreator propertyTaskCreator = new PropertyTaskCreator();
 	private final ContainerTaskCreator containerTaskCreator = new ContainerTaskCreator();
 	private final ExecutionTaskCreator childTaskCreator = this::createTask;
@@ -22,20 +28,49 @@ public class JqwikExecutor {
 	private static final Logger LOG = Logger.getLogger(JqwikExecutor.class.getName());
 
 	public JqwikExecutor(LifecycleRegistry registry, TestRunRecorder recorder, Set<UniqueId> previousFailedTests) {
+		this(registry, recorder, previousFailedTests, 1, Collections.emptyMap());
+	}
+
+	public JqwikExecutor(LifecycleRegistry registry, TestRunRecorder recorder, Set<UniqueId> previousFailedTests, int executionThreads,
+			Map<UniqueId, Long> previousDurations) {
 		this.registry = registry;
 		this.recorder = recorder;
 		this.previousFailedTests = previousFailedTests;
+		this.executionThreads = executionThreads;
+		this.previousDurations = previousDurations;
 	}
 
 	public void execute(TestDescriptor descriptor, EngineExecutionListener engineExecutionListener) {
 		EngineExecutionListener recordingListener = new RecordingExecutionListener(recorder, engineExecutionListener);
-		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener);
+		ExecutionPipeline pipeline = createPipeline(recordingListener);
 		ExecutionTask mainTask = createTask(descriptor, pipeline);
 		pipeline.submit(mainTask);
+		pipeline.expectDurations(previousDurations);
 		letNonSuccessfulTestsExecuteFirst(pipeline);
+		letIsolatedTestsRunInIsolation(descriptor, pipeline);
 		pipeline.runToTermination();
 	}
 
+	private ExecutionPipeline createPipeline(EngineExecutionListener listener) {
+		if (executionThreads > 1)
+			return new ConcurrentExecutionPipeline(listener, executionThreads);
+		return new ExecutionPipeline(listener);
+	}
+
+	private void letIsolatedTestsRunInIsolation(TestDescriptor descriptor, ExecutionPipeline pipeline) {
+		descriptor.getDescendants().stream() //
+			.filter(this::mustRunInIsolation) //
+			.forEach(isolated -> pipeline.runIsolated(isolated.getUniqueId()));
+	}
+
+	private boolean mustRunInIsolation(TestDescriptor descriptor) {
+		if (descriptor instanceof ContainerClassDescriptor)
+			return AnnotationSupport.isAnnotated(((ContainerClassDescriptor) descriptor).getContainerClass(), RunInIsolation.class);
+		if (descriptor instanceof PropertyMethodDescriptor)
+			return AnnotationSupport.isAnnotated(((PropertyMethodDescriptor) descriptor).getTargetMethod(), RunInIsolation.class);
+		return false;
+	}
+
 	private void letNonSuccessfulTestsExecuteFirst(ExecutionPipeline pipeline) {
 		previousFailedTests.forEach(uniqueId -> pipeline.executeFirst(uniqueId));
 	}
@@ -7,12 +7,15 @@ import org.junit.platform.engine.*;
 import org.junit.platform.engine.reporting.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 public class RecordingExecutionListener implements EngineExecutionListener {
 
 	private final TestRunRecorder recorder;
 	private final EngineExecutionListener listener;
 	private Map<TestDescriptor, String> seeds = new IdentityHashMap<>();
+	private Map<TestDescriptor, String> failingTrySeeds = new IdentityHashMap<>();
+	private Map<TestDescriptor, Long> startTimes = new IdentityHashMap<>();
 
 	RecordingExecutionListener(TestRunRecorder recorder, EngineExecutionListener listener) {
 		this.recorder = recorder;
@@ -31,6 +34,7 @@ public class RecordingExecutionListener implements EngineExecutionListener {
 
 	@Override
 	public void executionStarted(TestDescriptor testDescriptor) {
+		startTimes.put(testDescriptor, System.nanoTime());
 		listener.executionStarted(testDescriptor);
 	}
 
@@ -42,10 +46,19 @@ public class RecordingExecutionListener implements EngineExecutionListener {
 
 	private void recordTestRun(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
 		String seed = seeds.computeIfAbsent(testDescriptor, ignore -> Property.SEED_NOT_SET);
-		TestRun run = new TestRun(testDescriptor.getUniqueId(), testExecutionResult.getStatus(), seed);
+		String failingTrySeed = failingTrySeeds.computeIfAbsent(testDescriptor, ignore -> Property.SEED_NOT_SET);
+		long durationMillis = durationMillis(testDescriptor);
+		TestRun run = new TestRun(testDescriptor.getUniqueId(), testExecutionResult.getStatus(), seed, failingTrySeed, durationMillis);
 		recorder.record(run);
 	}
 
+	private long durationMillis(TestDescriptor testDescriptor) {
+		Long startTime = startTimes.remove(testDescriptor);
+		if (startTime == null)
+			return 0;
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+	}
+
 	@Override
 	public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
 		rememberSeed(testDescriptor, entry);
@@ -58,6 +71,9 @@ public class RecordingExecutionListener implements EngineExecutionListener {
 			String reportedSeed = getReportedSeed(entries);
 			seeds.put(testDescriptor, reportedSeed);
 		}
+		if (entries.containsKey(CheckResultReportEntry.TRY_SEED_REPORT_KEY)) {
+			failingTrySeeds.put(testDescriptor, entries.get(CheckResultReportEntry.TRY_SEED_REPORT_KEY));
+		}
 	}
 
 	private String getReportedSeed(Map<String, String> entries) {
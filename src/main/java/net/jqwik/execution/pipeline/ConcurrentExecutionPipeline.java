@@ -0,0 +1,124 @@
+package net.jqwik.execution.pipeline;
+
+import net.jqwik.*;
+import org.junit.platform.engine.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Runs tasks whose predecessors have all finished on a fixed number of threads.
+ * Ready tasks are started in the same order in which {@linkplain ExecutionPipeline} would execute them.
+ */
+public class ConcurrentExecutionPipeline extends ExecutionPipeline {
+
+	private final int numberOfThreads;
+	private final List<UniqueId> isolatedOwners = new ArrayList<>();
+	private int countRunningTasks = 0;
+	private boolean isolatedTaskRunning = false;
+	private Throwable failure = null;
+
+	public ConcurrentExecutionPipeline(EngineExecutionListener executionListener, int numberOfThreads) {
+		super(new SynchronizedExecutionListener(executionListener));
+		this.numberOfThreads = numberOfThreads;
+	}
+
+	@Override
+	public void runIsolated(UniqueId ownerId) {
+		isolatedOwners.add(ownerId);
+	}
+
+	@Override
+	public void runToTermination() {
+		buildDag();
+		markIsolatedTasks();
+		ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads, new WorkerThreadFactory());
+		try {
+			scheduleAllTasks(executor);
+		} finally {
+			executor.shutdownNow();
+		}
+		rethrowFailure();
+	}
+
+	private void markIsolatedTasks() {
+		for (UniqueId ownerId : isolatedOwners) {
+			nodesOwnedBy(ownerId).forEach(node -> node.isolated = true);
+		}
+	}
+
+	private synchronized void scheduleAllTasks(ExecutorService executor) {
+		while (hasUnfinishedTasks()) {
+			if (failure != null && countRunningTasks == 0)
+				return;
+			TaskNode next = failure == null ? nextExecutableNode() : null;
+			if (next != null) {
+				start(next, executor);
+				continue;
+			}
+			if (countRunningTasks == 0)
+				failIfTasksAreStuck();
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new JqwikException("Execution of tasks was interrupted", e);
+			}
+		}
+	}
+
+	private TaskNode nextExecutableNode() {
+		if (countRunningTasks >= numberOfThreads || isolatedTaskRunning)
+			return null;
+		return nextReadyNode(node -> !node.isolated || countRunningTasks == 0);
+	}
+
+	private void start(TaskNode node, ExecutorService executor) {
+		countRunningTasks++;
+		isolatedTaskRunning = node.isolated;
+		executor.execute(() -> {
+			Throwable taskFailure = null;
+			try {
+				node.task.execute(executionListener);
+			} catch (Throwable throwable) {
+				taskFailure = throwable;
+			} finally {
+				finish(node, taskFailure);
+			}
+		});
+	}
+
+	private synchronized void finish(TaskNode node, Throwable taskFailure) {
+		countRunningTasks--;
+		isolatedTaskRunning = false;
+		markFinished(node);
+		if (taskFailure != null && failure == null)
+			failure = taskFailure;
+		notifyAll();
+	}
+
+	private void rethrowFailure() {
+		if (failure == null)
+			return;
+		if (failure instanceof RuntimeException)
+			throw (RuntimeException) failure;
+		if (failure instanceof Error)
+			throw (Error) failure;
+		throw new JqwikException(failure.getMessage(), failure);
+	}
+
+	private static class WorkerThreadFactory implements ThreadFactory {
+		// Shrinking is deeply recursive and needs more stack than threads usually get by default
+		private static final long STACK_SIZE = 16 * 1024 * 1024;
+
+		private final AtomicInteger countThreads = new AtomicInteger(0);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(null, runnable, "jqwik-worker-" + countThreads.incrementAndGet(), STACK_SIZE);
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
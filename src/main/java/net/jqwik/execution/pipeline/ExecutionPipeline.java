@@ -3,14 +3,31 @@ package net.jqwik.execution.pipeline;
 import org.junit.platform.engine.*;
 
 import java.util.*;
-import java.util.stream.*;
+import java.util.function.*;
 
+/**
+ * Executes submitted tasks in an order that respects their predecessors.
+ *
+ * Tasks are kept in a DAG with a counter of unfinished predecessors per task. Tasks without unfinished
+ * predecessors wait in a ready queue which is ordered by
+ * <ul>
+ *     <li>tasks to execute first - and their predecessors - before all others</li>
+ *     <li>longest expected duration first</li>
+ *     <li>order of submission of the task itself or the earliest submitted task that needs it</li>
+ * </ul>
+ */
 public class ExecutionPipeline implements Pipeline {
 
-	private final List<ExecutionTask> tasks = new ArrayList<>();
-	private final Map<ExecutionTask, Boolean> taskFinished = new IdentityHashMap<>();
-	private final Map<ExecutionTask, ExecutionTask[]> taskPredecessors = new IdentityHashMap<>();
-	private final EngineExecutionListener executionListener;
+	private final Map<ExecutionTask, TaskNode> nodes = new IdentityHashMap<>();
+	private final List<TaskNode> nodesInSubmissionOrder = new ArrayList<>();
+	private final Map<UniqueId, List<TaskNode>> nodesByOwnerPrefix = new HashMap<>();
+	private final Map<UniqueId, Long> expectedDurations = new HashMap<>();
+	private final TreeSet<TaskNode> readyNodes = new TreeSet<>();
+	private long nextExecuteFirstRank = 0;
+	private boolean dagBuilt = false;
+	private int countUnfinishedTasks = 0;
+
+	final EngineExecutionListener executionListener;
 
 	public ExecutionPipeline(EngineExecutionListener executionListener) {
 		this.executionListener = executionListener;
@@ -18,18 +35,25 @@ public class ExecutionPipeline implements Pipeline {
 
 	@Override
 	public void submit(ExecutionTask task, ExecutionTask... predecessors) {
-		if (taskFinished.containsKey(task))
+		if (nodes.containsKey(task))
 			throw new DuplicateExecutionTaskException(task);
-		taskFinished.putIfAbsent(task, false);
-		taskPredecessors.put(task, predecessors);
-		if (!taskFinished.get(task))
-			tasks.add(task);
+		TaskNode node = new TaskNode(task, predecessors, nodesInSubmissionOrder.size());
+		nodes.put(task, node);
+		nodesInSubmissionOrder.add(node);
+		indexByOwnerPrefixes(node);
+		countUnfinishedTasks++;
+		if (dagBuilt) {
+			connectToPredecessors(node);
+			propagateFirstNeededToPredecessors(node);
+		}
 	}
 
-	private void ensurePredecessorsSubmitted(ExecutionTask task, ExecutionTask[] predecessors) {
-		for (ExecutionTask predecessor : predecessors) {
-			if (!taskFinished.containsKey(predecessor))
-				throw new PredecessorNotSubmittedException(task, predecessor);
+	private void indexByOwnerPrefixes(TaskNode node) {
+		List<UniqueId.Segment> segments = node.task.ownerId().getSegments();
+		UniqueId prefix = null;
+		for (UniqueId.Segment segment : segments) {
+			prefix = prefix == null ? UniqueId.root(segment.getType(), segment.getValue()) : prefix.append(segment);
+			nodesByOwnerPrefix.computeIfAbsent(prefix, ignore -> new ArrayList<>()).add(node);
 		}
 	}
 
@@ -38,58 +62,211 @@ public class ExecutionPipeline implements Pipeline {
 	}
 
 	public void executeFirst(UniqueId ownerId) {
-		List<ExecutionTask> tasks = activeTasksOwnedBy(ownerId);
-		executeFirst(tasks);
+		List<TaskNode> ownedNodes = nodesByOwnerPrefix.getOrDefault(ownerId, Collections.emptyList());
+		executeFirstNodes(ownedNodes);
 	}
 
-	private List<ExecutionTask> activeTasksOwnedBy(UniqueId ownerId) {
-		return tasks.stream().filter(task -> isSameOrOwner(ownerId, task.ownerId())).collect(Collectors.toList());
+	public void executeFirst(List<ExecutionTask> executionTaskList) {
+		List<TaskNode> taskNodes = new ArrayList<>();
+		for (ExecutionTask task : executionTaskList) {
+			TaskNode node = nodes.get(task);
+			if (node != null)
+				taskNodes.add(node);
+		}
+		executeFirstNodes(taskNodes);
 	}
 
-	private boolean isSameOrOwner(UniqueId ownerId, UniqueId taskId) {
-		List<UniqueId.Segment> ownerSegments = ownerId.getSegments();
-		List<UniqueId.Segment> taskSegments = taskId.getSegments();
-		if (ownerSegments.size() > taskSegments.size())
-			return false;
-		for (int i = 0; i < ownerSegments.size(); i++) {
-			if (!ownerSegments.get(i).equals(taskSegments.get(i)))
-				return false;
+	// Every call puts its tasks in front of the tasks from all previous calls
+	private void executeFirstNodes(List<TaskNode> taskNodes) {
+		nextExecuteFirstRank -= taskNodes.size();
+		long rank = nextExecuteFirstRank;
+		for (TaskNode node : taskNodes) {
+			if (!node.finished)
+				raiseRank(node, rank);
+			rank++;
 		}
-		return true;
 	}
 
-	public void executeFirst(List<ExecutionTask> executionTaskList) {
-		for (int i = executionTaskList.size() - 1; i >= 0; i--) {
-			moveToTopOfQueue(executionTaskList.get(i));
-		}
+	/**
+	 * Tasks owned by ownerId will not run concurrently with any other task.
+	 * Nothing to do here since this pipeline runs all tasks one after the other.
+	 */
+	public void runIsolated(UniqueId ownerId) {
 	}
 
-	private void moveToTopOfQueue(ExecutionTask task) {
-		if (tasks.contains(task)) {
-			tasks.remove(task);
-			tasks.add(0, task);
+	/**
+	 * Among tasks that are ready for execution those with the longest expected duration will be executed first.
+	 * Tasks without expected duration come last.
+	 */
+	public void expectDurations(Map<UniqueId, Long> durationsByOwnerId) {
+		expectedDurations.putAll(durationsByOwnerId);
+		for (TaskNode node : nodesInSubmissionOrder) {
+			updateNode(node, () -> node.expectedDuration = expectedDurations.getOrDefault(node.task.ownerId(), 0L));
 		}
 	}
 
 	public void runToTermination() {
-		while (!tasks.isEmpty()) {
-			ExecutionTask head = tasks.get(0);
-			if (movedPredecessorsToTopOfQueue(head))
-				continue;
-			head.execute(executionListener);
-			taskFinished.put(head, true);
-			tasks.remove(0);
+		buildDag();
+		TaskNode next;
+		while ((next = nextReadyNode(node -> true)) != null) {
+			next.task.execute(executionListener);
+			markFinished(next);
+		}
+		failIfTasksAreStuck();
+	}
+
+	void buildDag() {
+		if (dagBuilt)
+			return;
+		dagBuilt = true;
+		for (TaskNode node : nodesInSubmissionOrder) {
+			connectToPredecessors(node);
+		}
+		for (TaskNode node : nodesInSubmissionOrder) {
+			propagateFirstNeededToPredecessors(node);
+			if (node.rank < 0)
+				propagateRankToPredecessors(node);
 		}
 	}
 
-	private boolean movedPredecessorsToTopOfQueue(ExecutionTask head) {
-		ExecutionTask[] predecessors = taskPredecessors.get(head);
-		ensurePredecessorsSubmitted(head, predecessors);
-		List<ExecutionTask> unfinishedPredecessors = Arrays.stream(predecessors) //
-				.filter(predecessor -> !taskFinished.get(predecessor)) //
-				.collect(Collectors.toList());
-		executeFirst(unfinishedPredecessors);
-		return !unfinishedPredecessors.isEmpty();
+	private void connectToPredecessors(TaskNode node) {
+		for (ExecutionTask predecessorTask : node.predecessorTasks) {
+			TaskNode predecessor = nodes.get(predecessorTask);
+			if (predecessor == null)
+				throw new PredecessorNotSubmittedException(node.task, predecessorTask);
+			node.predecessors.add(predecessor);
+			if (!predecessor.finished) {
+				predecessor.successors.add(node);
+				node.countUnfinishedPredecessors++;
+			}
+		}
+		node.expectedDuration = expectedDurations.getOrDefault(node.task.ownerId(), 0L);
+		if (node.countUnfinishedPredecessors == 0 && !node.finished)
+			readyNodes.add(node);
+	}
+
+	/**
+	 * @return the first ready task which is accepted by filter or null if there is none
+	 */
+	TaskNode nextReadyNode(Predicate<TaskNode> filter) {
+		for (TaskNode node : readyNodes) {
+			if (filter.test(node)) {
+				readyNodes.remove(node);
+				return node;
+			}
+		}
+		return null;
+	}
+
+	void markFinished(TaskNode node) {
+		node.finished = true;
+		countUnfinishedTasks--;
+		for (TaskNode successor : node.successors) {
+			successor.countUnfinishedPredecessors--;
+			if (successor.countUnfinishedPredecessors == 0)
+				readyNodes.add(successor);
+		}
 	}
 
+	boolean hasUnfinishedTasks() {
+		return countUnfinishedTasks > 0;
+	}
+
+	/**
+	 * Call when no task is ready and none is running anymore.
+	 */
+	void failIfTasksAreStuck() {
+		if (!hasUnfinishedTasks())
+			return;
+		List<ExecutionTask> stuckTasks = new ArrayList<>();
+		for (TaskNode node : nodesInSubmissionOrder) {
+			if (!node.finished)
+				stuckTasks.add(node.task);
+		}
+		throw new UnexecutableTasksException(stuckTasks);
+	}
+
+	List<TaskNode> nodesOwnedBy(UniqueId ownerId) {
+		return nodesByOwnerPrefix.getOrDefault(ownerId, Collections.emptyList());
+	}
+
+	private void raiseRank(TaskNode node, long rank) {
+		if (node.rank <= rank)
+			return;
+		updateNode(node, () -> node.rank = rank);
+		if (dagBuilt)
+			propagateRankToPredecessors(node);
+	}
+
+	private void propagateRankToPredecessors(TaskNode node) {
+		Deque<TaskNode> toVisit = new ArrayDeque<>();
+		toVisit.push(node);
+		while (!toVisit.isEmpty()) {
+			TaskNode current = toVisit.pop();
+			for (TaskNode predecessor : current.predecessors) {
+				if (predecessor.finished || predecessor.rank <= current.rank)
+					continue;
+				updateNode(predecessor, () -> predecessor.rank = current.rank);
+				toVisit.push(predecessor);
+			}
+		}
+	}
+
+	// Visiting nodes in order of submission reaches every node with its smallest value first
+	private void propagateFirstNeededToPredecessors(TaskNode node) {
+		Deque<TaskNode> toVisit = new ArrayDeque<>();
+		toVisit.push(node);
+		while (!toVisit.isEmpty()) {
+			TaskNode current = toVisit.pop();
+			for (TaskNode predecessor : current.predecessors) {
+				if (predecessor.finished || predecessor.firstNeededAt <= current.firstNeededAt)
+					continue;
+				updateNode(predecessor, () -> predecessor.firstNeededAt = current.firstNeededAt);
+				toVisit.push(predecessor);
+			}
+		}
+	}
+
+	// Nodes must be taken out of the sorted ready queue while their sort keys change
+	private void updateNode(TaskNode node, Runnable update) {
+		boolean wasReady = readyNodes.remove(node);
+		update.run();
+		if (wasReady)
+			readyNodes.add(node);
+	}
+
+	static class TaskNode implements Comparable<TaskNode> {
+		final ExecutionTask task;
+		private final ExecutionTask[] predecessorTasks;
+		private final int submissionIndex;
+		private int firstNeededAt;
+		private final List<TaskNode> predecessors = new ArrayList<>();
+		private final List<TaskNode> successors = new ArrayList<>();
+		private int countUnfinishedPredecessors = 0;
+		private long rank = 0;
+		private long expectedDuration = 0;
+		private boolean finished = false;
+		boolean isolated = false;
+
+		private TaskNode(ExecutionTask task, ExecutionTask[] predecessorTasks, int submissionIndex) {
+			this.task = task;
+			this.predecessorTasks = predecessorTasks;
+			this.submissionIndex = submissionIndex;
+			this.firstNeededAt = submissionIndex;
+		}
+
+		@Override
+		public int compareTo(TaskNode other) {
+			int compareRank = Long.compare(rank, other.rank);
+			if (compareRank != 0)
+				return compareRank;
+			int compareDuration = Long.compare(other.expectedDuration, expectedDuration);
+			if (compareDuration != 0)
+				return compareDuration;
+			int compareFirstNeeded = Integer.compare(firstNeededAt, other.firstNeededAt);
+			if (compareFirstNeeded != 0)
+				return compareFirstNeeded;
+			return Integer.compare(submissionIndex, other.submissionIndex);
+		}
+	}
 }
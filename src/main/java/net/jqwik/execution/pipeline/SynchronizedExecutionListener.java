@@ -0,0 +1,41 @@
+package net.jqwik.execution.pipeline;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.reporting.*;
+
+/**
+ * Serializes all calls into the wrapped listener which is not required to be thread safe.
+ */
+class SynchronizedExecutionListener implements EngineExecutionListener {
+
+	private final EngineExecutionListener listener;
+
+	SynchronizedExecutionListener(EngineExecutionListener listener) {
+		this.listener = listener;
+	}
+
+	@Override
+	public synchronized void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		listener.dynamicTestRegistered(testDescriptor);
+	}
+
+	@Override
+	public synchronized void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		listener.executionSkipped(testDescriptor, reason);
+	}
+
+	@Override
+	public synchronized void executionStarted(TestDescriptor testDescriptor) {
+		listener.executionStarted(testDescriptor);
+	}
+
+	@Override
+	public synchronized void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+		listener.executionFinished(testDescriptor, testExecutionResult);
+	}
+
+	@Override
+	public synchronized void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		listener.reportingEntryPublished(testDescriptor, entry);
+	}
+}
@@ -0,0 +1,14 @@
+package net.jqwik.execution.pipeline;
+
+import net.jqwik.*;
+
+import java.util.*;
+
+public class UnexecutableTasksException extends JqwikException {
+
+	private static final long serialVersionUID = 1L;
+
+	public UnexecutableTasksException(List<ExecutionTask> tasks) {
+		super(String.format("Tasks %s can never be run because some of their predecessors never finish, e.g. in a cycle.", tasks.toString()));
+	}
+}
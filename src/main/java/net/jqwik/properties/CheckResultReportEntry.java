@@ -4,21 +4,31 @@ import java.util.*;
 
 import org.junit.platform.engine.reporting.ReportEntry;
 
+import net.jqwik.api.Property;
 import net.jqwik.support.JqwikStringSupport;
 
 public class CheckResultReportEntry {
 
 	public static final String SEED_REPORT_KEY = "seed";
+	public static final String TRY_SEED_REPORT_KEY = "trySeed";
 	public static final String TRIES_REPORT_KEY = "tries";
 	public static final String CHECKS_REPORT_KEY = "checks";
 	public static final String SAMPLE_REPORT_KEY = "sample";
 	public static final String ORIGINAL_SAMPLE_REPORT_KEY = "originalSample";
+	public static final String GENERATION_REPORT_KEY = "generation";
+	public static final String EXHAUSTIVE_GENERATION = "exhaustive";
+	public static final String SHRINKING_REPORT_KEY = "shrinking";
 
 	public static ReportEntry from(PropertyCheckResult checkResult) {
 		Map<String, String> entries = new HashMap<>();
 		entries.put(SEED_REPORT_KEY, checkResult.randomSeed());
+		if (!checkResult.failingTrySeed().equals(Property.SEED_NOT_SET))
+			entries.put(TRY_SEED_REPORT_KEY, checkResult.failingTrySeed());
 		entries.put(TRIES_REPORT_KEY, Integer.toString(checkResult.countTries()));
 		entries.put(CHECKS_REPORT_KEY, Integer.toString(checkResult.countChecks()));
+		if (checkResult.checkedExhaustively())
+			entries.put(GENERATION_REPORT_KEY, EXHAUSTIVE_GENERATION);
+		checkResult.shrinkingStatistics().ifPresent(statistics -> entries.put(SHRINKING_REPORT_KEY, statistics));
 		checkResult.sample().ifPresent(sample -> {
 			if (!sample.isEmpty())
 				entries.put(SAMPLE_REPORT_KEY, JqwikStringSupport.displayString(sample));
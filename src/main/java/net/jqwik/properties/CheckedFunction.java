@@ -3,5 +3,17 @@ package net.jqwik.properties;
 import java.util.*;
 import java.util.function.*;
 
+/**
+ * The predicate checked for each try of a property.
+ * Arguments are passed as array in the order of the property's parameters.
+ */
+@FunctionalInterface
 public interface CheckedFunction extends Predicate<List<Object>> {
+
+	boolean test(Object[] args);
+
+	@Override
+	default boolean test(List<Object> args) {
+		return test(args.toArray());
+	}
 }
@@ -0,0 +1,36 @@
+package net.jqwik.properties;
+
+import java.util.*;
+
+/**
+ * Unsynchronized copy of {@linkplain Random}'s linear congruential generator which generates
+ * exactly the same values as {@linkplain Random} for the same seed.
+ * In contrast to {@linkplain Random} its state is not updated atomically.
+ */
+class CompatibleRandom extends Random {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final long MULTIPLIER = 0x5DEECE66DL;
+	private static final long ADDEND = 0xBL;
+	private static final long MASK = (1L << 48) - 1;
+
+	// Set in setSeed() which is already called by the super constructor
+	private long state;
+
+	CompatibleRandom(long seed) {
+		super(seed);
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		super.setSeed(seed);
+		state = (seed ^ MULTIPLIER) & MASK;
+	}
+
+	@Override
+	protected int next(int bits) {
+		state = (state * MULTIPLIER + ADDEND) & MASK;
+		return (int) (state >>> (48 - bits));
+	}
+}
@@ -0,0 +1,212 @@
+package net.jqwik.properties;
+
+import org.junit.platform.engine.reporting.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.logging.*;
+
+/**
+ * Collects how many values each filter accepted and rejected during generation and shrinking of a property.
+ * Each use of a filter is counted on its own, even if several uses share the same filter predicate,
+ * and is described by its {@code toString()} in the report.
+ *
+ * There is one collector per property check. Code running in other threads on behalf of the property,
+ * e.g. parallel tries or shrinking, counts into the same collector if it is bound with {@linkplain #bindToCurrentProperty(Function)}.
+ */
+public class FilterStatisticsCollector {
+
+	public static final String KEY_FILTER_STATISTICS = "filter statistics";
+
+	private static final Logger LOG = Logger.getLogger(FilterStatisticsCollector.class.getName());
+
+	static final double WARNING_REJECTION_RATIO = 0.9;
+	static final long MIN_GENERATED_FOR_WARNING = 100;
+
+	// Filters used outside of a property's check are not counted
+	private static final FilterStatisticsCollector NOT_COLLECTING = new FilterStatisticsCollector(false);
+
+	private static ThreadLocal<FilterStatisticsCollector> collector = ThreadLocal.withInitial(() -> NOT_COLLECTING);
+
+	public static void start() {
+		collector.set(new FilterStatisticsCollector(true));
+	}
+
+	public static void clearAll() {
+		collector.remove();
+	}
+
+	public static FilterStatisticsCollector get() {
+		return collector.get();
+	}
+
+	/**
+	 * Run {@code generation} without counting what its filters accept or reject,
+	 * e.g. when values of earlier tries are generated again.
+	 */
+	public static <T> T withoutCollecting(Supplier<T> generation) {
+		return collectingInto(NOT_COLLECTING, generation);
+	}
+
+	/**
+	 * @return A function that counts into the collector of the current thread's property
+	 * in whichever thread it is applied
+	 */
+	public static <T, R> Function<T, R> bindToCurrentProperty(Function<T, R> function) {
+		FilterStatisticsCollector propertyCollector = get();
+		return t -> collectingInto(propertyCollector, () -> function.apply(t));
+	}
+
+	private static <T> T collectingInto(FilterStatisticsCollector collectorToUse, Supplier<T> code) {
+		FilterStatisticsCollector current = get();
+		collector.set(collectorToUse);
+		try {
+			return code.get();
+		} finally {
+			collector.set(current);
+		}
+	}
+
+	public static void report(String propertyName, Consumer<ReportEntry> reporter) {
+		FilterStatisticsCollector collector = get();
+		if (!collector.hasRejections())
+			return;
+		collector.warnAboutRestrictiveFilters(propertyName);
+		reporter.accept(collector.createReportEntry());
+	}
+
+	private final boolean collecting;
+	// Guarded by this since threads of the same property count concurrently
+	private final Map<Object, FilterCounts> counts = new LinkedHashMap<>();
+
+	public FilterStatisticsCollector() {
+		this(true);
+	}
+
+	private FilterStatisticsCollector(boolean collecting) {
+		this.collecting = collecting;
+	}
+
+	/**
+	 * @return Whether counts are kept. Filters should not even measure their time otherwise.
+	 */
+	public boolean isCollecting() {
+		return collecting;
+	}
+
+	public void countGeneration(Object filter, long rejected, long nanos) {
+		if (!collecting)
+			return;
+		synchronized (this) {
+			FilterCounts filterCounts = countsToUpdate(filter);
+			filterCounts.accepted++;
+			filterCounts.rejected += rejected;
+			filterCounts.nanos += nanos;
+		}
+	}
+
+	public void countFailedGeneration(Object filter, long rejected, long nanos) {
+		if (!collecting)
+			return;
+		synchronized (this) {
+			FilterCounts filterCounts = countsToUpdate(filter);
+			filterCounts.rejected += rejected;
+			filterCounts.nanos += nanos;
+		}
+	}
+
+	public void countShrinking(Object filter, long rejected, long nanos) {
+		if (!collecting)
+			return;
+		synchronized (this) {
+			FilterCounts filterCounts = countsToUpdate(filter);
+			filterCounts.rejectedWhileShrinking += rejected;
+			filterCounts.nanos += nanos;
+		}
+	}
+
+	public synchronized FilterCounts countsFor(Object filter) {
+		return counts.getOrDefault(filter, new FilterCounts(0, filter.toString())).copy();
+	}
+
+	private FilterCounts countsToUpdate(Object filter) {
+		return counts.computeIfAbsent(filter, ignore -> new FilterCounts(counts.size() + 1, filter.toString()));
+	}
+
+	private synchronized boolean hasRejections() {
+		return counts.values().stream().anyMatch(filterCounts -> filterCounts.rejected + filterCounts.rejectedWhileShrinking > 0);
+	}
+
+	private synchronized void warnAboutRestrictiveFilters(String propertyName) {
+		counts.values().stream() //
+			.filter(FilterCounts::isTooRestrictive) //
+			.forEach(filterCounts -> LOG.warning(String.format( //
+				"Filter %s (%s) of property [%s] rejected %s %% of %s generated values. Consider generating fitting values directly.", //
+				filterCounts.number, filterCounts.description, propertyName, Math.round(filterCounts.rejectionRatio() * 100), filterCounts.generated())));
+	}
+
+	public synchronized ReportEntry createReportEntry() {
+		StringBuilder statistics = new StringBuilder();
+		counts.values().forEach(filterCounts -> statistics.append(String.format( //
+			"%n    filter %s (%s) : accepted %s of %s (%s %%), rejected %s while shrinking, %s ms", //
+			filterCounts.number, //
+			filterCounts.description, //
+			filterCounts.accepted, //
+			filterCounts.generated(), //
+			Math.round((1.0 - filterCounts.rejectionRatio()) * 100), //
+			filterCounts.rejectedWhileShrinking, //
+			TimeUnit.NANOSECONDS.toMillis(filterCounts.nanos) //
+		)));
+		return ReportEntry.from(KEY_FILTER_STATISTICS, statistics.toString());
+	}
+
+	public static class FilterCounts {
+		private final int number;
+		private final String description;
+		private long accepted = 0;
+		private long rejected = 0;
+		private long rejectedWhileShrinking = 0;
+		private long nanos = 0;
+
+		private FilterCounts(int number, String description) {
+			this.number = number;
+			this.description = description;
+		}
+
+		private FilterCounts copy() {
+			FilterCounts copy = new FilterCounts(number, description);
+			copy.accepted = accepted;
+			copy.rejected = rejected;
+			copy.rejectedWhileShrinking = rejectedWhileShrinking;
+			copy.nanos = nanos;
+			return copy;
+		}
+
+		public long accepted() {
+			return accepted;
+		}
+
+		public long rejected() {
+			return rejected;
+		}
+
+		public long rejectedWhileShrinking() {
+			return rejectedWhileShrinking;
+		}
+
+		private long generated() {
+			return accepted + rejected;
+		}
+
+		private double rejectionRatio() {
+			if (generated() == 0)
+				return 0.0;
+			return (double) rejected / generated();
+		}
+
+		private boolean isTooRestrictive() {
+			return generated() >= MIN_GENERATED_FOR_WARNING && rejectionRatio() > WARNING_REJECTION_RATIO;
+		}
+	}
+}
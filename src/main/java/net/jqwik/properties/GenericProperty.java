@@ -7,17 +7,28 @@ import org.junit.platform.commons.util.*;
 import org.junit.platform.engine.reporting.*;
 import org.opentest4j.*;
 
+import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
+import java.util.logging.*;
 import java.util.stream.*;
 
 import static net.jqwik.properties.PropertyCheckResult.Status.*;
 
 public class GenericProperty {
 
+	private static final Logger LOG = Logger.getLogger(GenericProperty.class.getName());
+
+	private static final int TRIES_PER_THREAD_IN_BATCH = 16;
+
+	// Values without a fitting equals() cannot be recognized when they are generated again for shrinking
+	static final String NOT_REPRODUCIBLE = "not shrunk since the generators did not reproduce an equal sample";
+
 	private final String name;
 	private final List<Arbitrary> arbitraries;
-	private final Predicate<List<Object>> forAllPredicate;
+	private final CheckedFunction forAllPredicate;
 
 	public GenericProperty(String name, List<Arbitrary> arbitraries, CheckedFunction forAllPredicate) {
 		this.name = name;
@@ -27,14 +38,20 @@ public class GenericProperty {
 
 	public PropertyCheckResult check(PropertyConfiguration configuration, Consumer<ReportEntry> reporter) {
 		StatisticsCollector.clearAll();
-		PropertyCheckResult checkResult = checkWithoutReporting(configuration, reporter);
-		reportResult(reporter, checkResult);
-		reportStatistics(reporter);
-		return checkResult;
+		FilterStatisticsCollector.start();
+		try {
+			PropertyCheckResult checkResult = checkWithoutReporting(configuration, reporter);
+			reportResult(reporter, checkResult);
+			reportStatistics(reporter);
+			return checkResult;
+		} finally {
+			FilterStatisticsCollector.clearAll();
+		}
 	}
 
 	private void reportStatistics(Consumer<ReportEntry> reporter) {
 		StatisticsCollector.report(reporter);
+		FilterStatisticsCollector.report(name, reporter);
 	}
 
 	private void reportResult(Consumer<ReportEntry> publisher, PropertyCheckResult checkResult) {
@@ -43,41 +60,261 @@ public class GenericProperty {
 	}
 
 	private PropertyCheckResult checkWithoutReporting(PropertyConfiguration configuration, Consumer<ReportEntry> reporter) {
-		List<RandomGenerator> generators = arbitraries.stream().map(a1 -> a1.generator(configuration.getTries()))
-				.collect(Collectors.toList());
+		Optional<List<List<Shrinkable<Object>>>> allParameters = allParametersIfFewerThanTries(configuration.getTries());
+		if (allParameters.isPresent())
+			return PropertyCheckResult.checkedExhaustively(checkExhaustively(configuration, reporter, allParameters.get()));
+		if (!configuration.getFailingTrySeed().equals(Property.SEED_NOT_SET)) {
+			PropertyCheckResult replayResult = replayFailingTry(configuration, reporter);
+			if (replayResult.status() == FALSIFIED || replayResult.status() == ERRONEOUS)
+				return replayResult;
+		}
+		if (configuration.getParallelism() > 1)
+			return checkTriesInParallel(configuration, reporter);
+		return checkTries(configuration, reporter, trySeed -> true);
+	}
+
+	private PropertyCheckResult replayFailingTry(PropertyConfiguration configuration, Consumer<ReportEntry> reporter) {
+		// Tries before the failing one are still generated - but not checked - since generators can depend on the try count
+		long failingTrySeed = SourceOfRandomness.parseSeed(configuration.getFailingTrySeed());
+		return checkTries(configuration, reporter, trySeed -> trySeed == failingTrySeed);
+	}
+
+	private Optional<List<List<Shrinkable<Object>>>> allParametersIfFewerThanTries(int maxTries) {
+		// Properties without parameters keep being tried as often as configured
+		if (arbitraries.isEmpty())
+			return Optional.empty();
+		List<List<Shrinkable<Object>>> allParameters = new ArrayList<>();
+		long countCombinations = 1;
+		for (Arbitrary<?> arbitrary : arbitraries) {
+			Optional<List<Shrinkable<Object>>> allValues = allShrinkables(arbitrary, maxTries);
+			if (!allValues.isPresent())
+				return Optional.empty();
+			countCombinations *= allValues.get().size();
+			if (countCombinations > maxTries)
+				return Optional.empty();
+			allParameters.add(allValues.get());
+		}
+		return Optional.of(allParameters);
+	}
+
+	// Parameter values are only passed on as objects
+	@SuppressWarnings("unchecked")
+	private Optional<List<Shrinkable<Object>>> allShrinkables(Arbitrary<?> arbitrary, int maxNumberOfValues) {
+		return ((Arbitrary<Object>) arbitrary).allShrinkables(maxNumberOfValues);
+	}
+
+	// Combinations are checked in order and on a single thread since there are fewer of them than tries
+	private PropertyCheckResult checkExhaustively(PropertyConfiguration configuration, Consumer<ReportEntry> reporter, List<List<Shrinkable<Object>>> allParameters) {
+		boolean reportGenerated = Reporting.GENERATED.containedIn(configuration.getReporting());
+		int countCombinations = allParameters.stream().mapToInt(List::size).reduce(1, (a, b) -> a * b);
+		int countChecks = 0;
+		Try aTry = new Try(allParameters.size());
+		List<Shrinkable<Object>> shrinkables = new ArrayList<>(allParameters.size());
+		for (int countTries = 1; countTries <= countCombinations; countTries++) {
+			combination(allParameters, countTries - 1, shrinkables, aTry.args);
+			aTry.start(countTries, 0L);
+			runTry(aTry, reportGenerated, reporter);
+			if (aTry.outcome == TryOutcome.ABORTED)
+				continue;
+			countChecks++;
+			if (aTry.outcome != TryOutcome.SATISFIED)
+				return createFailedResult(configuration, reporter, countChecks, aTry, Property.SEED_NOT_SET, () -> Optional.of(shrinkables));
+		}
+		return createFinishedResult(configuration, countCombinations, countChecks);
+	}
+
+	// The last parameter changes fastest
+	private void combination(List<List<Shrinkable<Object>>> allParameters, int index, List<Shrinkable<Object>> shrinkables, Object[] params) {
+		shrinkables.clear();
+		for (int i = allParameters.size() - 1; i >= 0; i--) {
+			List<Shrinkable<Object>> allValues = allParameters.get(i);
+			shrinkables.add(0, allValues.get(index % allValues.size()));
+			index /= allValues.size();
+		}
+		for (int i = 0; i < params.length; i++) {
+			params[i] = shrinkables.get(i).value();
+		}
+	}
+
+	private PropertyCheckResult checkTries(PropertyConfiguration configuration, Consumer<ReportEntry> reporter, LongPredicate isTryToCheck) {
+		RandomGenerator[] generators = createGenerators(configuration);
+		TrySeeds trySeeds = SourceOfRandomness.createTrySeeds(configuration.getSeed());
+		boolean reportGenerated = Reporting.GENERATED.containedIn(configuration.getReporting());
 		int maxTries = configuration.getTries();
 		int countChecks = 0;
-		Random random = SourceOfRandomness.create(configuration.getSeed());
+		// One try and its parameter buffers are reused for all tries since only a failing try survives the loop
+		Try aTry = new Try(generators.length);
 		for (int countTries = 1; countTries <= maxTries; countTries++) {
-			List<Shrinkable> shrinkableParams = generateParameters(generators, random);
-			try {
-				countChecks++;
-				if (!testPredicate(shrinkableParams, configuration.getReporting(), reporter)) {
-					return shrinkAndCreateCheckResult(configuration, reporter, countChecks, countTries, shrinkableParams, null);
-				}
-			} catch (AssertionError ae) {
-				return shrinkAndCreateCheckResult(configuration, reporter,
-						countChecks, countTries, shrinkableParams, ae);
-			} catch (TestAbortedException tae) {
-				countChecks--;
+			long trySeed = trySeeds.nextTrySeed();
+			generateParameters(generators, trySeeds.forTry(trySeed), aTry.args);
+			if (!isTryToCheck.test(trySeed))
 				continue;
-			} catch (Throwable throwable) {
-				BlacklistedExceptions.rethrowIfBlacklisted(throwable);
-				return PropertyCheckResult.erroneous(configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(),
-						extractParams(shrinkableParams), throwable);
+			aTry.start(countTries, trySeed);
+			runTry(aTry, reportGenerated, reporter);
+			if (aTry.outcome == TryOutcome.ABORTED)
+				continue;
+			countChecks++;
+			if (aTry.outcome != TryOutcome.SATISFIED)
+				return createFailedResult(configuration, reporter, countChecks, aTry);
+		}
+		return createFinishedResult(configuration, countChecks);
+	}
+
+	private PropertyCheckResult checkTriesInParallel(PropertyConfiguration configuration, Consumer<ReportEntry> reporter) {
+		// Values are generated sequentially since generators are neither thread safe nor independent of the try count
+		RandomGenerator[] generators = createGenerators(configuration);
+		TrySeeds trySeeds = SourceOfRandomness.createTrySeeds(configuration.getSeed());
+		boolean reportGenerated = Reporting.GENERATED.containedIn(configuration.getReporting());
+		Consumer<ReportEntry> synchronizedReporter = entry -> {
+			synchronized (reporter) {
+				reporter.accept(entry);
 			}
+		};
+		int maxTries = configuration.getTries();
+		int batchSize = configuration.getParallelism() * TRIES_PER_THREAD_IN_BATCH;
+		int countChecks = 0;
+		ForkJoinPool pool = new ForkJoinPool(configuration.getParallelism());
+		try {
+			for (int firstTry = 1; firstTry <= maxTries; firstTry += batchSize) {
+				List<Try> batch = new ArrayList<>();
+				int lastTry = Math.min(maxTries, firstTry + batchSize - 1);
+				for (int countTries = firstTry; countTries <= lastTry; countTries++) {
+					long trySeed = trySeeds.nextTrySeed();
+					Try aTry = new Try(generators.length);
+					generateParameters(generators, trySeeds.forTry(trySeed), aTry.args);
+					aTry.start(countTries, trySeed);
+					batch.add(aTry);
+				}
+				runInParallel(pool, batch, reportGenerated, synchronizedReporter);
+				// Evaluating tries in order makes the first failing try - and its shrinking - independent of parallelism
+				for (Try aTry : batch) {
+					StatisticsCollector.get().addCounts(aTry.statistics);
+					if (aTry.outcome == TryOutcome.ABORTED)
+						continue;
+					countChecks++;
+					if (aTry.outcome != TryOutcome.SATISFIED)
+						return createFailedResult(configuration, reporter, countChecks, aTry);
+				}
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		return createFinishedResult(configuration, countChecks);
+	}
+
+	private void runInParallel(ForkJoinPool pool, List<Try> batch, boolean reportGenerated, Consumer<ReportEntry> reporter) {
+		AtomicInteger firstFailingTry = new AtomicInteger(Integer.MAX_VALUE);
+		Function<Try, Try> runTryInWorker = FilterStatisticsCollector.bindToCurrentProperty(aTry -> {
+			// Tries after a failing one will never be evaluated
+			if (aTry.countTries > firstFailingTry.get())
+				return aTry;
+			StatisticsCollector.clearAll();
+			runTry(aTry, reportGenerated, reporter);
+			aTry.statistics = StatisticsCollector.get().getCounts();
+			StatisticsCollector.clearAll();
+			if (aTry.outcome == TryOutcome.FALSIFIED || aTry.outcome == TryOutcome.ERRONEOUS)
+				firstFailingTry.accumulateAndGet(aTry.countTries, Math::min);
+			return aTry;
+		});
+		pool.submit(() -> batch.parallelStream().forEach(runTryInWorker::apply)).join();
+	}
+
+	private void runTry(Try aTry, boolean reportGenerated, Consumer<ReportEntry> reporter) {
+		try {
+			aTry.outcome = testPredicate(aTry, reportGenerated, reporter) ? TryOutcome.SATISFIED : TryOutcome.FALSIFIED;
+		} catch (AssertionError ae) {
+			aTry.outcome = TryOutcome.FALSIFIED;
+			aTry.throwable = ae;
+		} catch (TestAbortedException tae) {
+			aTry.outcome = TryOutcome.ABORTED;
+		} catch (Throwable throwable) {
+			BlacklistedExceptions.rethrowIfBlacklisted(throwable);
+			aTry.outcome = TryOutcome.ERRONEOUS;
+			aTry.throwable = throwable;
+		}
+	}
+
+	private PropertyCheckResult createFailedResult(PropertyConfiguration configuration, Consumer<ReportEntry> reporter, int countChecks, Try aTry) {
+		return createFailedResult(configuration, reporter, countChecks, aTry, Long.toString(aTry.trySeed),
+				() -> regenerateShrinkablesOfFailingTry(configuration, aTry));
+	}
+
+	private PropertyCheckResult createFailedResult(PropertyConfiguration configuration, Consumer<ReportEntry> reporter, int countChecks, Try aTry,
+			String failingTrySeed, Supplier<Optional<List<Shrinkable<Object>>>> shrinkablesOfTry) {
+		List<Object> params = Arrays.asList(aTry.args);
+		if (aTry.outcome == TryOutcome.ERRONEOUS)
+			return PropertyCheckResult.erroneous(configuration.getStereotype(), name, aTry.countTries, countChecks, configuration.getSeed(),
+					failingTrySeed, params, aTry.throwable);
+		if (configuration.getShrinkingMode() == ShrinkingMode.OFF)
+			return PropertyCheckResult.falsified(configuration.getStereotype(), name, aTry.countTries, countChecks, configuration.getSeed(),
+					failingTrySeed, params, params, aTry.throwable);
+		Optional<List<Shrinkable<Object>>> shrinkables = shrinkablesOfTry.get();
+		if (!shrinkables.isPresent())
+			return PropertyCheckResult.falsified(configuration.getStereotype(), name, aTry.countTries, countChecks, configuration.getSeed(),
+					failingTrySeed, params, params, aTry.throwable, NOT_REPRODUCIBLE);
+		return shrinkAndCreateCheckResult(configuration, reporter, countChecks, aTry.countTries, failingTrySeed, shrinkables.get(),
+				(AssertionError) aTry.throwable);
+	}
+
+	private Optional<List<Shrinkable<Object>>> regenerateShrinkablesOfFailingTry(PropertyConfiguration configuration, Try aTry) {
+		List<Shrinkable<Object>> shrinkables = FilterStatisticsCollector.withoutCollecting(() -> regenerateShrinkables(configuration, aTry.countTries));
+		// The property is not run again since that would repeat its side effects and statistics
+		if (!isSameTry(shrinkables, aTry.args))
+			return Optional.empty();
+		return Optional.of(shrinkables);
+	}
+
+	// Shrinkables are only needed for a falsified try. They are generated again from scratch
+	// since generators can depend on the try count.
+	@SuppressWarnings("unchecked")
+	private List<Shrinkable<Object>> regenerateShrinkables(PropertyConfiguration configuration, int failingTry) {
+		RandomGenerator[] generators = createGenerators(configuration);
+		TrySeeds trySeeds = SourceOfRandomness.createTrySeeds(configuration.getSeed());
+		Object[] skippedParams = new Object[generators.length];
+		for (int countTries = 1; countTries < failingTry; countTries++) {
+			generateParameters(generators, trySeeds.forTry(trySeeds.nextTrySeed()), skippedParams);
+		}
+		Random random = trySeeds.forTry(trySeeds.nextTrySeed());
+		List<Shrinkable<Object>> shrinkables = new ArrayList<>(generators.length);
+		for (RandomGenerator generator : generators) {
+			shrinkables.add(generator.next(random));
 		}
+		return shrinkables;
+	}
+
+	// Differences can also stem from the property changing its parameters
+	private boolean isSameTry(List<Shrinkable<Object>> shrinkables, Object[] params) {
+		for (int i = 0; i < params.length; i++) {
+			if (!Objects.deepEquals(shrinkables.get(i).value(), params[i]))
+				return false;
+		}
+		return true;
+	}
+
+	private PropertyCheckResult createFinishedResult(PropertyConfiguration configuration, int countChecks) {
+		return createFinishedResult(configuration, configuration.getTries(), countChecks);
+	}
+
+	private PropertyCheckResult createFinishedResult(PropertyConfiguration configuration, int maxTries, int countChecks) {
 		if (countChecks == 0 || maxDiscardRatioExceeded(countChecks, maxTries, configuration.getMaxDiscardRatio()))
 			return PropertyCheckResult.exhausted(configuration.getStereotype(), name, maxTries, countChecks, configuration.getSeed());
 		return PropertyCheckResult.satisfied(configuration.getStereotype(), name, maxTries, countChecks, configuration.getSeed());
 	}
 
-	private boolean testPredicate(List<Shrinkable> shrinkableParams, Reporting[] reporting, Consumer<ReportEntry> reporter) {
-		List<Object> plainParams = extractParams(shrinkableParams);
-		if (Reporting.GENERATED.containedIn(reporting)) {
-			reporter.accept(ReportEntry.from("generated", JqwikStringSupport.displayString(plainParams)));
+	private RandomGenerator[] createGenerators(PropertyConfiguration configuration) {
+		RandomGenerator[] generators = new RandomGenerator[arbitraries.size()];
+		for (int i = 0; i < generators.length; i++) {
+			generators[i] = arbitraries.get(i).generator(configuration.getTries());
 		}
-		return forAllPredicate.test(plainParams);
+		return generators;
+	}
+
+	private boolean testPredicate(Try aTry, boolean reportGenerated, Consumer<ReportEntry> reporter) {
+		Object[] args = aTry.args;
+		if (reportGenerated) {
+			reporter.accept(ReportEntry.from("generated", JqwikStringSupport.displayString(Arrays.asList(args))));
+		}
+		return forAllPredicate.test(args);
 	}
 
 	private boolean maxDiscardRatioExceeded(int countChecks, int countTries, int maxDiscardRatio) {
@@ -85,25 +322,70 @@ public class GenericProperty {
 		return actualDiscardRatio > maxDiscardRatio;
 	}
 
-	private List<Object> extractParams(List<Shrinkable> shrinkableParams) {
+	private List<Object> extractParams(List<Shrinkable<Object>> shrinkableParams) {
 		return shrinkableParams.stream().map(Shrinkable::value).collect(Collectors.toList());
 	}
 
-	@SuppressWarnings("unchecked")
 	private PropertyCheckResult shrinkAndCreateCheckResult(PropertyConfiguration configuration, Consumer<ReportEntry> reporter, int countChecks,
-			int countTries, List<Shrinkable> shrinkables, AssertionError error) {
+			int countTries, String failingTrySeed, List<Shrinkable<Object>> shrinkables, AssertionError error) {
 		List<Object> originalParams = extractParams(shrinkables);
-		if (configuration.getShrinkingMode() == ShrinkingMode.OFF) {
-			return PropertyCheckResult.falsified(configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(), originalParams, originalParams, error);
+		ParameterListShrinker<Object> shrinker = new ParameterListShrinker<>(shrinkables, reporter, configuration.getReporting());
+		ShrinkingSession session = startShrinkingSession(configuration);
+		ShrinkResult<List<Shrinkable<Object>>> shrinkResult;
+		try {
+			shrinkResult = configuration.getShrinkingMode() == ShrinkingMode.GREEDY //
+					? shrinker.shrinkGreedily(forAllPredicate, error) //
+					: shrinker.shrink(forAllPredicate, error);
+			if (session.wasCutShort())
+				LOG.warning(String.format("Shrinking of property [%s] was cut short: %s", name, session.statistics()));
+		} finally {
+			session.close();
 		}
-		ParameterListShrinker shrinker = new ParameterListShrinker(shrinkables, reporter, configuration.getReporting());
-		ShrinkResult<List<Shrinkable>> shrinkResult = shrinker.shrink(forAllPredicate, error);
 		List<Object> shrunkParams = extractParams(shrinkResult.shrunkValue());
 		Throwable throwable = shrinkResult.throwable().orElse(null);
-		return PropertyCheckResult.falsified(configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(), shrunkParams, originalParams, throwable);
+		return PropertyCheckResult.falsified(configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(), failingTrySeed, shrunkParams, originalParams, throwable,
+				shrinker.lastSessionStatistics().orElse(null));
+	}
+
+	private ShrinkingSession startShrinkingSession(PropertyConfiguration configuration) {
+		// Candidates are only checked concurrently if the property has been declared thread safe by its parallelism
+		if (configuration.getShrinkingMode() == ShrinkingMode.BOUNDED)
+			return ShrinkingSession.start(configuration.getMaxShrinkingChecks(), Duration.ofSeconds(configuration.getMaxShrinkingSeconds()),
+					configuration.getParallelism());
+		return ShrinkingSession.start(Integer.MAX_VALUE, null, configuration.getParallelism());
 	}
 
-	private List<Shrinkable> generateParameters(List<RandomGenerator> generators, Random random) {
-		return generators.stream().map(generator -> generator.next(random)).collect(Collectors.toList());
+	// Most tries succeed so there is no need to wrap their values in shrinkables
+	private void generateParameters(RandomGenerator[] generators, Random random, Object[] params) {
+		for (int i = 0; i < generators.length; i++) {
+			params[i] = generators[i].nextValue(random);
+		}
+	}
+
+	private enum TryOutcome {
+		SATISFIED,
+		FALSIFIED,
+		ERRONEOUS,
+		ABORTED
+	}
+
+	private static class Try {
+		private final Object[] args;
+		private int countTries;
+		private long trySeed;
+		private TryOutcome outcome;
+		private Throwable throwable;
+		private Map<List<Object>, Integer> statistics = Collections.emptyMap();
+
+		private Try(int countParams) {
+			this.args = new Object[countParams];
+		}
+
+		private void start(int countTries, long trySeed) {
+			this.countTries = countTries;
+			this.trySeed = trySeed;
+			this.outcome = null;
+			this.throwable = null;
+		}
 	}
 }
@@ -14,6 +14,7 @@ public class ParameterListShrinker<T> {
 	private final List<Shrinkable<T>> parametersToShrink;
 	private final Consumer<ReportEntry> reporter;
 	private final Reporting[] reporting;
+	private String lastSessionStatistics;
 
 	public ParameterListShrinker(List<Shrinkable<T>> parametersToShrink, Consumer<ReportEntry> reporter, Reporting[] reporting) {
 		this.parametersToShrink = parametersToShrink;
@@ -22,31 +23,91 @@ public class ParameterListShrinker<T> {
 	}
 
 	public ShrinkResult<List<Shrinkable<T>>> shrink(Predicate<List<T>> forAllFalsifier, Throwable originalError) {
+		return shrink(forAllFalsifier, originalError, false);
+	}
+
+	/**
+	 * Shrink each parameter with {@linkplain ValueShrinker#shrinkGreedily(Predicate, Throwable)}
+	 */
+	public ShrinkResult<List<Shrinkable<T>>> shrinkGreedily(Predicate<List<T>> forAllFalsifier, Throwable originalError) {
+		return shrink(forAllFalsifier, originalError, true);
+	}
+
+	private ShrinkResult<List<Shrinkable<T>>> shrink(Predicate<List<T>> forAllFalsifier, Throwable originalError, boolean greedily) {
+		ShrinkingSession session = ShrinkingSession.start();
+		try {
+			lastSessionStatistics = null;
+			ShrinkResult<List<Shrinkable<T>>> shrinkResult = shrinkAllPositions(session.memoize(forAllFalsifier), originalError, greedily);
+			lastSessionStatistics = session.statistics();
+			return shrinkResult;
+		} finally {
+			session.close();
+		}
+	}
+
+	private ShrinkResult<List<Shrinkable<T>>> shrinkAllPositions(Predicate<List<T>> forAllFalsifier, Throwable originalError, boolean greedily) {
 		ArrayList<Shrinkable<T>> resultShrinkables = new ArrayList<>(parametersToShrink);
 
 		Throwable[] lastFalsifiedError = new Throwable[] { originalError };
 		for (int position = 0; position < resultShrinkables.size(); position++) {
-			ShrinkResult<Shrinkable<T>> shrunkPositionResult = shrinkPosition(position, resultShrinkables, forAllFalsifier);
+			ShrinkResult<Shrinkable<T>> shrunkPositionResult = shrinkPosition(position, resultShrinkables, forAllFalsifier, greedily);
 			shrunkPositionResult.throwable().ifPresent(throwable -> lastFalsifiedError[0] = throwable);
 			resultShrinkables.set(position, shrunkPositionResult.shrunkValue());
 		}
 		return ShrinkResult.of(resultShrinkables, lastFalsifiedError[0]);
 	}
 
-	private ShrinkResult<Shrinkable<T>> shrinkPosition(int position, ArrayList<Shrinkable<T>> shrinkables, Predicate<List<T>> forAllFalsifier) {
+	/**
+	 * @return How many checks of the last shrinking were answered from the session's cache
+	 */
+	public Optional<String> lastSessionStatistics() {
+		return Optional.ofNullable(lastSessionStatistics);
+	}
+
+	private ShrinkResult<Shrinkable<T>> shrinkPosition(int position, ArrayList<Shrinkable<T>> shrinkables, Predicate<List<T>> forAllFalsifier,
+			boolean greedily) {
 		Shrinkable<T> currentShrinkable = shrinkables.get(position);
 		Predicate<T> elementFalsifier = createFalsifierForPosition(position, shrinkables, forAllFalsifier);
 		ValueShrinker<T> shrinker = new ValueShrinker<>(currentShrinkable);
+		if (greedily)
+			return shrinker.shrinkGreedily(elementFalsifier, null);
 		return shrinker.shrink(elementFalsifier, null);
 	}
 
 	public Set<ShrinkResult<List<Shrinkable<T>>>> shrinkNext(Predicate<List<T>> forAllFalsifier) {
+		List<Integer> positions = IntStream.range(0, parametersToShrink.size()).boxed().collect(Collectors.toList());
+		return ShrinkingSession.findFirst( //
+				positions, //
+				position -> shrinkPositionNext(position, forAllFalsifier), //
+				shrinkResults -> !shrinkResults.isEmpty() //
+		).orElse(Collections.emptySet());
+	}
+
+	/**
+	 * Like {@linkplain #shrinkNext(Predicate)} but only checks as many candidates as are consumed from the returned stream.
+	 * Candidates of later positions are only checked if no candidate of an earlier position was falsified.
+	 */
+	public Stream<ShrinkResult<List<Shrinkable<T>>>> shrinkNextLazily(Predicate<List<T>> forAllFalsifier) {
+		List<Supplier<Stream<ShrinkResult<List<Shrinkable<T>>>>>> positions = new ArrayList<>();
 		for (int i = 0; i < parametersToShrink.size(); i++) {
-			Set<ShrinkResult<List<Shrinkable<T>>>> shrinkResults = shrinkPositionNext(i, forAllFalsifier);
-			if (!shrinkResults.isEmpty())
-				return shrinkResults;
+			int position = i;
+			positions.add(() -> shrinkPositionNextLazily(position, forAllFalsifier));
 		}
-		return Collections.emptySet();
+		return ShrinkingHelper.concatLazily(positions);
+	}
+
+	private Stream<ShrinkResult<List<Shrinkable<T>>>> shrinkPositionNextLazily(int position, Predicate<List<T>> forAllFalsifier) {
+		Shrinkable<T> currentShrinkable = parametersToShrink.get(position);
+		Predicate<T> elementFalsifier = createFalsifierForPosition(position, parametersToShrink, forAllFalsifier);
+		return currentShrinkable.shrinkNextLazily(elementFalsifier) //
+				.map(shrinkParameterResult -> shrinkParameterResult //
+						.map(shrinkable -> withParameterAt(position, shrinkable)));
+	}
+
+	private List<Shrinkable<T>> withParameterAt(int position, Shrinkable<T> shrinkable) {
+		List<Shrinkable<T>> newParameters = new ArrayList<>(parametersToShrink);
+		newParameters.set(position, shrinkable);
+		return newParameters;
 	}
 
 	private Set<ShrinkResult<List<Shrinkable<T>>>> shrinkPositionNext(int position, Predicate<List<T>> forAllFalsifier) {
@@ -55,11 +116,7 @@ public class ParameterListShrinker<T> {
 		Set<ShrinkResult<Shrinkable<T>>> shrinkParameterResults = currentShrinkable.shrinkNext(elementFalsifier);
 		return shrinkParameterResults.stream() //
 				.map(shrinkParameterResult -> shrinkParameterResult //
-						.map(shrinkable -> {
-							List<Shrinkable<T>> newParameters = new ArrayList<>(parametersToShrink);
-							newParameters.set(position, shrinkable);
-							return newParameters;
-						})) //
+						.map(shrinkable -> withParameterAt(position, shrinkable))) //
 				.collect(Collectors.toSet());
 	}
 
@@ -84,7 +141,10 @@ public class ParameterListShrinker<T> {
 	}
 
 	private void reportFalsifiedParams(List<T> effectiveParams) {
-		reporter.accept(ReportEntry.from("falsified", JqwikStringSupport.displayString(effectiveParams)));
+		// Candidates may be checked concurrently
+		synchronized (reporter) {
+			reporter.accept(ReportEntry.from("falsified", JqwikStringSupport.displayString(effectiveParams)));
+		}
 	}
 
 	private boolean isFalsifiedReportingSwitchedOn() {
@@ -2,6 +2,7 @@ package net.jqwik.properties;
 
 import java.util.*;
 
+import net.jqwik.api.*;
 import net.jqwik.support.*;
 
 public interface PropertyCheckResult {
@@ -30,12 +31,31 @@ public interface PropertyCheckResult {
 
 	String randomSeed();
 
+	/**
+	 * @return The seed of the try that falsified the property or {@linkplain net.jqwik.api.Property#SEED_NOT_SET}
+	 */
+	String failingTrySeed();
+
 	Optional<List<Object>> sample();
 
 	Optional<List<Object>> originalSample();
 
 	Optional<Throwable> throwable();
 
+	/**
+	 * @return true if all possible combinations of parameters have been tried exactly once
+	 */
+	default boolean checkedExhaustively() {
+		return false;
+	}
+
+	/**
+	 * @return How many checks were needed to shrink a falsified sample and how many of them were answered from cache
+	 */
+	default Optional<String> shrinkingStatistics() {
+		return Optional.empty();
+	}
+
 	abstract class ResultBase implements PropertyCheckResult {
 
 		protected final Status status;
@@ -77,6 +97,11 @@ public interface PropertyCheckResult {
 			return randomSeed;
 		}
 
+		@Override
+		public String failingTrySeed() {
+			return Property.SEED_NOT_SET;
+		}
+
 		@Override
 		public Optional<List<Object>> sample() {
 			return Optional.empty();
@@ -103,9 +128,24 @@ public interface PropertyCheckResult {
 		};
 	}
 
-	static PropertyCheckResult falsified(String stereotype, String propertyName, int tries, int checks, String randomSeed, List<Object> sample,
-			List<Object> originalSample, Throwable throwable) {
+	static PropertyCheckResult falsified(String stereotype, String propertyName, int tries, int checks, String randomSeed, String failingTrySeed,
+			List<Object> sample, List<Object> originalSample, Throwable throwable) {
+		return falsified(stereotype, propertyName, tries, checks, randomSeed, failingTrySeed, sample, originalSample, throwable, null);
+	}
+
+	static PropertyCheckResult falsified(String stereotype, String propertyName, int tries, int checks, String randomSeed, String failingTrySeed,
+			List<Object> sample, List<Object> originalSample, Throwable throwable, String shrinkingStatistics) {
 		return new ResultBase(Status.FALSIFIED, propertyName, tries, checks, randomSeed) {
+			@Override
+			public Optional<String> shrinkingStatistics() {
+				return Optional.ofNullable(shrinkingStatistics);
+			}
+
+			@Override
+			public String failingTrySeed() {
+				return failingTrySeed;
+			}
+
 			@Override
 			public Optional<List<Object>> sample() {
 				return Optional.of(sample);
@@ -131,8 +171,13 @@ public interface PropertyCheckResult {
 	}
 
 	static PropertyCheckResult erroneous(String stereotype, String propertyName, int tries, int checks, String randomSeed,
-			List<Object> sample, Throwable throwable) {
+			String failingTrySeed, List<Object> sample, Throwable throwable) {
 		return new ResultBase(Status.ERRONEOUS, propertyName, tries, checks, randomSeed) {
+			@Override
+			public String failingTrySeed() {
+				return failingTrySeed;
+			}
+
 			@Override
 			public Optional<List<Object>> sample() {
 				return Optional.ofNullable(sample);
@@ -150,6 +195,70 @@ public interface PropertyCheckResult {
 		};
 	}
 
+	static PropertyCheckResult checkedExhaustively(PropertyCheckResult result) {
+		return new PropertyCheckResult() {
+			@Override
+			public Status status() {
+				return result.status();
+			}
+
+			@Override
+			public String propertyName() {
+				return result.propertyName();
+			}
+
+			@Override
+			public int countTries() {
+				return result.countTries();
+			}
+
+			@Override
+			public int countChecks() {
+				return result.countChecks();
+			}
+
+			@Override
+			public String randomSeed() {
+				return result.randomSeed();
+			}
+
+			@Override
+			public String failingTrySeed() {
+				return result.failingTrySeed();
+			}
+
+			@Override
+			public Optional<List<Object>> sample() {
+				return result.sample();
+			}
+
+			@Override
+			public Optional<List<Object>> originalSample() {
+				return result.originalSample();
+			}
+
+			@Override
+			public Optional<Throwable> throwable() {
+				return result.throwable();
+			}
+
+			@Override
+			public boolean checkedExhaustively() {
+				return true;
+			}
+
+			@Override
+			public Optional<String> shrinkingStatistics() {
+				return result.shrinkingStatistics();
+			}
+
+			@Override
+			public String toString() {
+				return String.format("%s (checked exhaustively)", result);
+			}
+		};
+	}
+
 	static PropertyCheckResult exhausted(String stereotype, String propertyName, int tries, int checks, String randomSeed) {
 		return new ResultBase(Status.EXHAUSTED, propertyName, tries, checks, randomSeed) {
 			@Override
@@ -0,0 +1,72 @@
+package net.jqwik.properties;
+
+import java.util.*;
+
+/**
+ * The pseudo random number generator used for generating values of properties.
+ * Can be chosen through key {@code randomAlgorithm} in {@code jqwik.properties}.
+ */
+public enum RandomAlgorithm {
+
+	/**
+	 * Same values as {@linkplain java.util.Random}. Existing seeds will reproduce the same values.
+	 */
+	COMPATIBLE {
+		@Override
+		Random create(long seed) {
+			return new CompatibleRandom(seed);
+		}
+
+		@Override
+		TrySeeds trySeeds(long propertySeed) {
+			// All tries share one random so that values stay the same as with a single java.util.Random.
+			// A try can therefore only be reached by generating all tries before it and is identified by its number.
+			// Its 48 bit state cannot be part of the try seed since the number of tries needs more than the 16 bits left.
+			CompatibleRandom random = new CompatibleRandom(propertySeed);
+			return new TrySeeds() {
+				private long countTries = 0;
+
+				@Override
+				public long nextTrySeed() {
+					return ++countTries;
+				}
+
+				@Override
+				public Random forTry(long trySeed) {
+					return random;
+				}
+			};
+		}
+	},
+
+	/**
+	 * Faster, non synchronized xoroshiro128+ generator. Seeds from {@linkplain #COMPATIBLE} will generate different values.
+	 */
+	XOROSHIRO {
+		@Override
+		Random create(long seed) {
+			return new XoroshiroRandom(seed);
+		}
+
+		@Override
+		TrySeeds trySeeds(long propertySeed) {
+			return new TrySeeds() {
+				private long countTries = 0;
+
+				@Override
+				public long nextTrySeed() {
+					return XoroshiroRandom.splitMix(propertySeed, ++countTries);
+				}
+
+				@Override
+				public Random forTry(long trySeed) {
+					return new XoroshiroRandom(trySeed);
+				}
+			};
+		}
+	};
+
+	abstract Random create(long seed);
+
+	abstract TrySeeds trySeeds(long propertySeed);
+}
@@ -3,6 +3,7 @@ package net.jqwik.properties;
 import net.jqwik.api.*;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 public class ShrinkingHelper {
@@ -21,4 +22,73 @@ public class ShrinkingHelper {
 		}
 		return minDistance;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Check all candidates - concurrently within a parallel {@linkplain ShrinkingSession} - and collect the falsified ones.
+	 */
+	public static <T> Set<ShrinkResult<Shrinkable<T>>> falsifyAll(List<Shrinkable<T>> candidates, Predicate<T> falsifier) {
+		Set<ShrinkResult<Shrinkable<T>>> falsified = new HashSet<>();
+		ShrinkingSession.evaluateAll(candidates, candidate -> SafeFalsifier.falsify(falsifier, candidate)) //
+			.forEach(shrinkResult -> shrinkResult.ifPresent(falsified::add));
+		return falsified;
+	}
+
+	public static <T> List<Shrinkable<T>> sortedByDistance(Collection<Shrinkable<T>> candidates) {
+		List<Shrinkable<T>> sorted = new ArrayList<>(candidates);
+		sorted.sort(Comparator.comparingInt(Shrinkable::distance));
+		return sorted;
+	}
+
+	/**
+	 * Check candidates in the given order. The falsifier is only called as far as the returned stream is consumed.
+	 */
+	public static <T> Stream<ShrinkResult<Shrinkable<T>>> falsifyInOrder(List<Shrinkable<T>> candidates, Predicate<T> falsifier) {
+		return falsifyInOrder(candidates.stream(), falsifier);
+	}
+
+	public static <T> Stream<ShrinkResult<Shrinkable<T>>> falsifyInOrder(Stream<Shrinkable<T>> candidates, Predicate<T> falsifier) {
+		return candidates //
+			.map(candidate -> SafeFalsifier.falsify(falsifier, candidate)) //
+			.filter(Optional::isPresent) //
+			.map(Optional::get);
+	}
+
+	/**
+	 * Create a stream only when its first element is requested.
+	 */
+	public static <T> Stream<T> lazily(Supplier<Stream<T>> stream) {
+		return concatLazily(Collections.singletonList(stream));
+	}
+
+	@SafeVarargs
+	public static <T> Stream<T> concatLazily(Supplier<Stream<T>>... streams) {
+		return concatLazily(Arrays.asList(streams));
+	}
+
+	/**
+	 * Concatenate streams one after the other. Each stream is only created when all elements of the streams before
+	 * have been consumed. Unlike {@code flatMap()} in Java 8 this keeps short-circuiting operations like {@code findFirst()} lazy.
+	 */
+	public static <T> Stream<T> concatLazily(List<Supplier<Stream<T>>> streams) {
+		Iterator<T> iterator = new Iterator<T>() {
+			private final Iterator<Supplier<Stream<T>>> suppliers = streams.iterator();
+			private Iterator<T> current = Collections.emptyIterator();
+
+			@Override
+			public boolean hasNext() {
+				while (!current.hasNext() && suppliers.hasNext()) {
+					current = suppliers.next().get().iterator();
+				}
+				return current.hasNext();
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				return current.next();
+			}
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+	}
+}
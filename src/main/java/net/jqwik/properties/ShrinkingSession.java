@@ -0,0 +1,274 @@
+package net.jqwik.properties;
+
+import org.junit.platform.commons.util.*;
+
+import java.lang.reflect.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * Remembers the outcome of each check of the falsifier while a falsified value is being shrunk
+ * so that candidates reached on several shrinking paths are only checked once.
+ *
+ * Shrinkers started within a running session - e.g. for a single parameter - share its cache.
+ * Their falsifiers are derived from the falsifier memoized first, which is the only one memoized.
+ *
+ * A session can be bounded by a number of checks and a duration. Once one of them is used up
+ * all candidates not checked yet are treated as not falsified so that shrinking stops
+ * with the simplest falsified value found so far.
+ *
+ * With a parallelism greater than 1 independent candidates are checked concurrently.
+ * Their results are always collected in the order of candidates so that the shrunk value
+ * does not depend on which check finishes first.
+ */
+public class ShrinkingSession {
+
+	public static final int DEFAULT_MAX_CACHED_RESULTS = 10000;
+	public static final int DEFAULT_MAX_CACHED_SIZE = 1000;
+
+	private static ThreadLocal<ShrinkingSession> current = new ThreadLocal<>();
+
+	/**
+	 * Start a new session or join the one running in the current thread.
+	 * Each call must be matched by a call to {@linkplain #close()}.
+	 */
+	public static ShrinkingSession start() {
+		return start(Integer.MAX_VALUE, null);
+	}
+
+	/**
+	 * Like {@linkplain #start()} but a new session will stop checking candidates after {@code maxChecks}
+	 * or when {@code maxDuration} has passed. A {@code null} duration does not limit time.
+	 */
+	public static ShrinkingSession start(int maxChecks, Duration maxDuration) {
+		return start(maxChecks, maxDuration, 1);
+	}
+
+	/**
+	 * Like {@linkplain #start(int, Duration)} but a new session checks candidates on {@code parallelism} threads.
+	 * Only use a value greater than 1 if the checked property is thread safe.
+	 */
+	public static ShrinkingSession start(int maxChecks, Duration maxDuration, int parallelism) {
+		ShrinkingSession session = current.get();
+		if (session == null) {
+			session = new ShrinkingSession(DEFAULT_MAX_CACHED_RESULTS, DEFAULT_MAX_CACHED_SIZE, maxChecks, maxDuration);
+			if (parallelism > 1)
+				session.pool = new ForkJoinPool(parallelism);
+			current.set(session);
+		}
+		session.depth++;
+		return session;
+	}
+
+	/**
+	 * Apply {@code evaluation} to all candidates - concurrently if the session running in the current thread
+	 * has a parallelism greater than 1. Evaluations in worker threads are always sequential.
+	 *
+	 * @return The results in the order of candidates
+	 */
+	public static <C, R> List<R> evaluateAll(List<C> candidates, Function<C, R> evaluation) {
+		ForkJoinPool pool = currentPool();
+		if (pool == null || candidates.size() < 2)
+			return candidates.stream().map(evaluation).collect(Collectors.toList());
+		Function<C, R> evaluationInWorker = FilterStatisticsCollector.bindToCurrentProperty(evaluation);
+		return pool.submit(() -> candidates.parallelStream().map(evaluationInWorker).collect(Collectors.toList())).join();
+	}
+
+	/**
+	 * Find the first candidate whose result is accepted by {@code isFound}. With a parallel session
+	 * candidates are evaluated in batches of parallelism size; candidates after the found one in its batch
+	 * are evaluated in vain but do not change the result.
+	 */
+	public static <C, R> Optional<R> findFirst(List<C> candidates, Function<C, R> evaluation, Predicate<R> isFound) {
+		ForkJoinPool pool = currentPool();
+		int batchSize = pool == null ? 1 : pool.getParallelism();
+		for (int first = 0; first < candidates.size(); first += batchSize) {
+			List<C> batch = candidates.subList(first, Math.min(candidates.size(), first + batchSize));
+			for (R result : evaluateAll(batch, evaluation)) {
+				if (isFound.test(result))
+					return Optional.of(result);
+			}
+		}
+		return Optional.empty();
+	}
+
+	private static ForkJoinPool currentPool() {
+		ShrinkingSession session = current.get();
+		return session == null ? null : session.pool;
+	}
+
+	private final int maxCachedSize;
+	private final Map<Object, Outcome> cache;
+	private final int maxChecks;
+	private final long maxNanos;
+	private final long startNanos = System.nanoTime();
+	private ForkJoinPool pool = null;
+	private int depth = 0;
+	private boolean memoizing = false;
+	private long hits = 0;
+	private long misses = 0;
+	private long cutShortAfterNanos = -1;
+
+	/**
+	 * @param maxCachedResults Outcomes least recently used are forgotten when more are cached
+	 * @param maxCachedSize    Values with more elements or characters are always checked and not kept alive by the cache;
+	 *                         0 caches values of any size
+	 */
+	ShrinkingSession(int maxCachedResults, int maxCachedSize) {
+		this(maxCachedResults, maxCachedSize, Integer.MAX_VALUE, null);
+	}
+
+	ShrinkingSession(int maxCachedResults, int maxCachedSize, int maxChecks, Duration maxDuration) {
+		this.maxCachedSize = maxCachedSize;
+		this.maxChecks = maxChecks;
+		this.maxNanos = maxDuration == null ? Long.MAX_VALUE : maxDuration.toNanos();
+		this.cache = new LinkedHashMap<Object, Outcome>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Outcome> eldest) {
+				return size() > maxCachedResults;
+			}
+		};
+	}
+
+	public void close() {
+		if (--depth > 0)
+			return;
+		if (current.get() == this)
+			current.remove();
+		if (pool != null)
+			pool.shutdownNow();
+	}
+
+	public <T> Predicate<T> memoize(Predicate<T> falsifier) {
+		synchronized (cache) {
+			if (memoizing)
+				return falsifier;
+			memoizing = true;
+		}
+		return value -> test(falsifier, value);
+	}
+
+	private <T> boolean test(Predicate<T> falsifier, T value) {
+		boolean cacheable = isCacheable(value);
+		Outcome outcome;
+		synchronized (cache) {
+			outcome = cacheable ? cache.get(value) : null;
+			if (outcome != null) {
+				hits++;
+			} else if (budgetUsedUp()) {
+				return true;
+			} else {
+				misses++;
+			}
+		}
+		if (outcome == null) {
+			outcome = Outcome.of(falsifier, value);
+			if (cacheable) {
+				synchronized (cache) {
+					cache.put(value, outcome);
+				}
+			}
+		}
+		return outcome.result();
+	}
+
+	private boolean budgetUsedUp() {
+		if (cutShortAfterNanos >= 0)
+			return true;
+		long elapsedNanos = System.nanoTime() - startNanos;
+		if (misses >= maxChecks || elapsedNanos > maxNanos) {
+			cutShortAfterNanos = elapsedNanos;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @return true if candidates were left unchecked because the session's budget was used up
+	 */
+	public boolean wasCutShort() {
+		synchronized (cache) {
+			return cutShortAfterNanos >= 0;
+		}
+	}
+
+	private boolean isCacheable(Object value) {
+		return maxCachedSize <= 0 || size(value) <= maxCachedSize;
+	}
+
+	// Parameter lists are measured by the size of their elements
+	private static int size(Object value) {
+		if (value instanceof List) {
+			long sum = 0;
+			for (Object element : (List<?>) value) {
+				sum += shallowSize(element);
+			}
+			return (int) Math.min(sum, Integer.MAX_VALUE);
+		}
+		return shallowSize(value);
+	}
+
+	private static int shallowSize(Object value) {
+		if (value instanceof Collection)
+			return ((Collection<?>) value).size();
+		if (value instanceof Map)
+			return ((Map<?, ?>) value).size();
+		if (value instanceof CharSequence)
+			return ((CharSequence) value).length();
+		if (value != null && value.getClass().isArray())
+			return Array.getLength(value);
+		return 1;
+	}
+
+	public long hits() {
+		synchronized (cache) {
+			return hits;
+		}
+	}
+
+	public long misses() {
+		synchronized (cache) {
+			return misses;
+		}
+	}
+
+	public String statistics() {
+		synchronized (cache) {
+			long checks = hits + misses;
+			long hitRate = checks == 0 ? 0 : Math.round(100.0 * hits / checks);
+			String statistics = String.format("%s checks, %s from cache (%s %%)", checks, hits, hitRate);
+			if (cutShortAfterNanos >= 0)
+				return String.format("cut short after %s ms: %s", TimeUnit.NANOSECONDS.toMillis(cutShortAfterNanos), statistics);
+			return statistics;
+		}
+	}
+
+	private static class Outcome {
+
+		private static <T> Outcome of(Predicate<T> falsifier, T value) {
+			try {
+				return new Outcome(falsifier.test(value), null);
+			} catch (Throwable throwable) {
+				BlacklistedExceptions.rethrowIfBlacklisted(throwable);
+				return new Outcome(false, throwable);
+			}
+		}
+
+		private final boolean result;
+		private final Throwable throwable;
+
+		private Outcome(boolean result, Throwable throwable) {
+			this.result = result;
+			this.throwable = throwable;
+		}
+
+		private boolean result() {
+			if (throwable != null)
+				throw ExceptionUtils.throwAsUncheckedException(throwable);
+			return result;
+		}
+	}
+}
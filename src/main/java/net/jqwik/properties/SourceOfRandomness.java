@@ -10,17 +10,35 @@ public class SourceOfRandomness {
 
 	private static Supplier<Random> RNG = ThreadLocalRandom::current;
 
+	private static volatile RandomAlgorithm algorithm = RandomAlgorithm.COMPATIBLE;
+
 	private static ThreadLocal<Random> current = ThreadLocal.withInitial(Random::new);
 
+	public static void useAlgorithm(RandomAlgorithm randomAlgorithm) {
+		algorithm = randomAlgorithm;
+	}
+
+	public static RandomAlgorithm algorithm() {
+		return algorithm;
+	}
+
 	public static String createRandomSeed() {
 		return Long.toString(RNG.get().nextLong());
 	}
 
 	public static Random create(String seed) {
+		Random random = algorithm.create(parseSeed(seed));
+		current.set(random);
+		return random;
+	}
+
+	public static TrySeeds createTrySeeds(String seed) {
+		return algorithm.trySeeds(parseSeed(seed));
+	}
+
+	public static long parseSeed(String seed) {
 		try {
-			Random random = new Random(Long.parseLong(seed));
-			current.set(random);
-			return random;
+			return Long.parseLong(seed);
 		} catch (NumberFormatException nfe) {
 			throw new JqwikException(String.format("[%s] is not a valid random seed.", seed));
 		}
@@ -0,0 +1,20 @@
+package net.jqwik.properties;
+
+import java.util.*;
+
+/**
+ * Derives a seed for each try of a property from the property's seed.
+ * A single try can then be replayed from its seed without running all tries before it.
+ */
+public interface TrySeeds {
+
+	/**
+	 * @return the seed of the next try
+	 */
+	long nextTrySeed();
+
+	/**
+	 * @return the source of randomness for a try which generates the same values for the same try seed
+	 */
+	Random forTry(long trySeed);
+}
@@ -5,6 +5,7 @@ import org.opentest4j.*;
 
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 public class ValueShrinker<T> {
 	private final Shrinkable<T> shrinkable;
@@ -14,30 +15,65 @@ public class ValueShrinker<T> {
 	}
 
 	public ShrinkResult<Shrinkable<T>> shrink(Predicate<T> falsifier, Throwable originalError) {
-		Set<ShrinkResult<Shrinkable<T>>> allFalsified = collectAllFalsified(shrinkable.shrinkNext(falsifier), new HashSet<>(), falsifier);
-		return allFalsified.stream() //
-			.filter(shrinkResult -> !isViolatedAssumption(shrinkResult)) //
-			.sorted(Comparator.comparingInt(result -> result.shrunkValue().distance())) //
-			.findFirst().orElse(ShrinkResult.of(shrinkable, originalError));
+		ShrinkingSession session = ShrinkingSession.start();
+		try {
+			Predicate<T> memoizedFalsifier = session.memoize(falsifier);
+			Set<ShrinkResult<Shrinkable<T>>> allFalsified = collectAllFalsified(shrinkable.shrinkNext(memoizedFalsifier), new HashSet<>(), memoizedFalsifier);
+			return allFalsified.stream() //
+				.filter(shrinkResult -> !isViolatedAssumption(shrinkResult)) //
+				.sorted(Comparator.comparingInt(result -> result.shrunkValue().distance())) //
+				.findFirst().orElse(ShrinkResult.of(shrinkable, originalError));
+		} finally {
+			session.close();
+		}
+	}
+
+	/**
+	 * Continue with the first falsified candidate of {@linkplain Shrinkable#shrinkNextLazily(Predicate)} until no candidate
+	 * is falsified anymore. Usually needs far fewer checks than {@linkplain #shrink(Predicate, Throwable)}
+	 * but can end up in a local minimum.
+	 */
+	public ShrinkResult<Shrinkable<T>> shrinkGreedily(Predicate<T> falsifier, Throwable originalError) {
+		ShrinkingSession session = ShrinkingSession.start();
+		try {
+			Predicate<T> memoizedFalsifier = session.memoize(falsifier);
+			ShrinkResult<Shrinkable<T>> current = ShrinkResult.of(shrinkable, originalError);
+			while (true) {
+				int currentDistance = current.shrunkValue().distance();
+				// Only accepting smaller candidates makes sure that shrinking terminates
+				Optional<ShrinkResult<Shrinkable<T>>> next = current.shrunkValue().shrinkNextLazily(memoizedFalsifier) //
+					.filter(shrinkResult -> !isViolatedAssumption(shrinkResult)) //
+					.filter(shrinkResult -> shrinkResult.shrunkValue().distance() < currentDistance) //
+					.findFirst();
+				if (!next.isPresent())
+					return current;
+				current = next.get();
+			}
+		} finally {
+			session.close();
+		}
 	}
 
 	private boolean isViolatedAssumption(ShrinkResult<Shrinkable<T>> shrinkResult) {
 		return shrinkResult.throwable().isPresent() && shrinkResult.throwable().get().getClass().isAssignableFrom(TestAbortedException.class);
 	}
 
+	// A loop instead of recursion because the number of shrinking steps is not bounded
 	private Set<ShrinkResult<Shrinkable<T>>> collectAllFalsified(
 		Set<ShrinkResult<Shrinkable<T>>> toTry, Set<ShrinkResult<Shrinkable<T>>> allFalsified, Predicate<T> falsifier
 	) {
-		if (toTry.isEmpty()) return allFalsified;
-		toTry.removeAll(allFalsified);
-		Set<ShrinkResult<Shrinkable<T>>> toTryNext = new HashSet<>();
-		ShrinkingHelper.minDistanceStream(toTry) //
-			.limit(10) // This is a more or less random value to constrain the number of options considered
-			.forEach(shrinkResult -> {
-				allFalsified.add(shrinkResult);
-				toTryNext.addAll(shrinkResult.shrunkValue().shrinkNext(falsifier));
-			});
-		return collectAllFalsified(toTryNext, allFalsified, falsifier);
+		while (!toTry.isEmpty()) {
+			toTry.removeAll(allFalsified);
+			Set<ShrinkResult<Shrinkable<T>>> toTryNext = new HashSet<>();
+			List<ShrinkResult<Shrinkable<T>>> toShrinkFurther = ShrinkingHelper.minDistanceStream(toTry) //
+				.limit(10) // This is a more or less random value to constrain the number of options considered
+				.collect(Collectors.toList());
+			allFalsified.addAll(toShrinkFurther);
+			ShrinkingSession.evaluateAll(toShrinkFurther, shrinkResult -> shrinkResult.shrunkValue().shrinkNext(falsifier)) //
+				.forEach(toTryNext::addAll);
+			toTry = toTryNext;
+		}
+		return allFalsified;
 	}
 
 }
@@ -0,0 +1,72 @@
+package net.jqwik.properties;
+
+import java.util.*;
+
+/**
+ * Unsynchronized xoroshiro128+ generator seeded through SplitMix64.
+ * Not thread safe - each property check creates and uses its own instance.
+ */
+class XoroshiroRandom extends Random {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	// Not initialized in declaration since super constructor calls setSeed()
+	private long s0;
+	private long s1;
+
+	XoroshiroRandom(long seed) {
+		super(seed);
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		s0 = splitMix(seed + GOLDEN_GAMMA);
+		s1 = splitMix(seed + 2 * GOLDEN_GAMMA);
+	}
+
+	/**
+	 * @return the n-th value of the SplitMix64 sequence starting at seed
+	 */
+	static long splitMix(long seed, long n) {
+		return splitMix(seed + n * GOLDEN_GAMMA);
+	}
+
+	private static long splitMix(long state) {
+		long z = state;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	@Override
+	protected int next(int bits) {
+		return (int) (nextLong() >>> (64 - bits));
+	}
+
+	@Override
+	public long nextLong() {
+		long result = s0 + s1;
+		long t = s1 ^ s0;
+		s0 = Long.rotateLeft(s0, 24) ^ t ^ (t << 16);
+		s1 = Long.rotateLeft(t, 37);
+		return result;
+	}
+
+	@Override
+	public int nextInt() {
+		return (int) (nextLong() >>> 32);
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return nextLong() < 0;
+	}
+
+	@Override
+	public double nextDouble() {
+		return (nextLong() >>> 11) * DOUBLE_UNIT;
+	}
+}
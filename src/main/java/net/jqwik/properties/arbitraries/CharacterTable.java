@@ -0,0 +1,98 @@
+package net.jqwik.properties.arbitraries;
+
+import java.util.*;
+
+/**
+ * All valid chars as sorted and disjoint ranges. The index of a char is its position among all valid chars,
+ * so that choosing a random index gives each valid char the same probability.
+ */
+final class CharacterTable {
+
+	private static final int MAX_CACHED_TABLES = 256;
+
+	// Tables are immutable and can therefore be shared by all generators with the same char ranges
+	private static final Map<String, CharacterTable> CACHED_TABLES = new LinkedHashMap<String, CharacterTable>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CharacterTable> eldest) {
+			return size() > MAX_CACHED_TABLES;
+		}
+	};
+
+	static CharacterTable of(List<Range<Character>> ranges) {
+		char[] bounds = mergedBounds(ranges);
+		String key = new String(bounds);
+		synchronized (CACHED_TABLES) {
+			return CACHED_TABLES.computeIfAbsent(key, ignore -> new CharacterTable(bounds));
+		}
+	}
+
+	// Pairs of min and max of each range
+	private static char[] mergedBounds(List<Range<Character>> ranges) {
+		List<Range<Character>> sorted = new ArrayList<>(ranges);
+		sorted.sort(Comparator.comparing(range -> range.min));
+		char[] bounds = new char[sorted.size() * 2];
+		int countBounds = 0;
+		for (Range<Character> range : sorted) {
+			boolean overlapsOrTouchesLast = countBounds > 0 && range.min <= bounds[countBounds - 1] + 1;
+			if (overlapsOrTouchesLast) {
+				bounds[countBounds - 1] = (char) Math.max(bounds[countBounds - 1], range.max);
+			} else {
+				bounds[countBounds++] = range.min;
+				bounds[countBounds++] = range.max;
+			}
+		}
+		return Arrays.copyOf(bounds, countBounds);
+	}
+
+	private final char[] mins;
+	private final char[] maxs;
+	private final int[] firstIndices;
+	private final int size;
+
+	private CharacterTable(char[] bounds) {
+		int countRanges = bounds.length / 2;
+		this.mins = new char[countRanges];
+		this.maxs = new char[countRanges];
+		this.firstIndices = new int[countRanges];
+		int index = 0;
+		for (int i = 0; i < countRanges; i++) {
+			mins[i] = bounds[2 * i];
+			maxs[i] = bounds[2 * i + 1];
+			firstIndices[i] = index;
+			index += maxs[i] - mins[i] + 1;
+		}
+		this.size = index;
+	}
+
+	int size() {
+		return size;
+	}
+
+	char charAt(int index) {
+		int range = floorPosition(Arrays.binarySearch(firstIndices, index));
+		return (char) (mins[range] + index - firstIndices[range]);
+	}
+
+	/**
+	 * @return the index of {@code aChar} or -1 if it is not a valid char
+	 */
+	int indexOf(char aChar) {
+		int range = floorPosition(Arrays.binarySearch(mins, aChar));
+		if (range < 0 || aChar > maxs[range])
+			return -1;
+		return firstIndices[range] + aChar - mins[range];
+	}
+
+	private static int floorPosition(int binarySearchResult) {
+		if (binarySearchResult >= 0)
+			return binarySearchResult;
+		int insertionPoint = -binarySearchResult - 1;
+		return insertionPoint - 1;
+	}
+
+	char randomChar(Random random) {
+		return charAt(random.nextInt(size));
+	}
+}
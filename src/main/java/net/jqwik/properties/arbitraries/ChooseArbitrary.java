@@ -0,0 +1,33 @@
+package net.jqwik.properties.arbitraries;
+
+import net.jqwik.api.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Chooses randomly from a fixed list of values, all of which can be enumerated.
+ */
+public class ChooseArbitrary<T> implements Arbitrary<T> {
+
+	private final List<T> values;
+
+	public ChooseArbitrary(List<T> values) {
+		this.values = values;
+	}
+
+	@Override
+	public RandomGenerator<T> generator(int genSize) {
+		return RandomGenerators.choose(values);
+	}
+
+	@Override
+	public Optional<List<Shrinkable<T>>> allShrinkables(int maxNumberOfValues) {
+		if (values.size() > maxNumberOfValues)
+			return Optional.empty();
+		ValuesShrinkCandidates<T> shrinkCandidates = new ValuesShrinkCandidates<>(values);
+		return Optional.of(values.stream() //
+			.map(value -> (Shrinkable<T>) new ShrinkableValue<>(value, shrinkCandidates)) //
+			.collect(Collectors.toList()));
+	}
+}
@@ -0,0 +1,36 @@
+package net.jqwik.properties.arbitraries;
+
+import net.jqwik.api.*;
+
+import java.util.*;
+import java.util.function.*;
+
+public class CombinedGenerator<T> implements RandomGenerator<T> {
+
+	private final List<RandomGenerator<?>> generators;
+	private final Function<List<Object>, T> combineFunction;
+
+	public CombinedGenerator(List<RandomGenerator<?>> generators, Function<List<Object>, T> combineFunction) {
+		this.generators = generators;
+		this.combineFunction = combineFunction;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Shrinkable<T> next(Random random) {
+		List<Shrinkable<Object>> shrinkables = new ArrayList<>(generators.size());
+		for (RandomGenerator<?> generator : generators) {
+			shrinkables.add((Shrinkable<Object>) generator.next(random));
+		}
+		return new CombinedShrinkable<>(shrinkables, combineFunction);
+	}
+
+	@Override
+	public T nextValue(Random random) {
+		List<Object> values = new ArrayList<>(generators.size());
+		for (RandomGenerator<?> generator : generators) {
+			values.add(generator.nextValue(random));
+		}
+		return combineFunction.apply(values);
+	}
+}
@@ -21,22 +21,37 @@ public class CombinedShrinkable<T> implements Shrinkable<T> {
 
 	@Override
 	public Set<ShrinkResult<Shrinkable<T>>> shrinkNext(Predicate<T> falsifier) {
+		List<Integer> positions = IntStream.range(0, shrinkables.size()).boxed().collect(Collectors.toList());
 		Set<ShrinkResult<Shrinkable<T>>> shrinkResults = new HashSet<>();
+		ShrinkingSession.evaluateAll(positions, position -> {
+			Predicate<Object> shrinkableFalsifier = falsifierForPosition(falsifier, position);
+			Set<ShrinkResult<Shrinkable<Object>>> singleShrinkableShrinkResults = shrinkables.get(position).shrinkNext(shrinkableFalsifier);
+			return toSetOfCombinedShrinkables(singleShrinkableShrinkResults, position);
+		}).forEach(shrinkResults::addAll);
+		return shrinkResults;
+	}
+
+	@Override
+	public Stream<ShrinkResult<Shrinkable<T>>> shrinkNextLazily(Predicate<T> falsifier) {
+		List<Supplier<Stream<ShrinkResult<Shrinkable<T>>>>> positions = new ArrayList<>();
 		for (int i = 0; i < shrinkables.size(); i++) {
-			Predicate<Object> shrinkableFalsifier = falsifierForPosition(falsifier, i);
-			Set<ShrinkResult<Shrinkable<Object>>> singleShrinkableShrinkResults = shrinkables.get(i).shrinkNext(shrinkableFalsifier);
-			shrinkResults.addAll(toSetOfCombinedShrinkables(singleShrinkableShrinkResults, i));
+			int position = i;
+			positions.add(() -> shrinkables.get(position).shrinkNextLazily(falsifierForPosition(falsifier, position)) //
+				.map(shrinkResult -> shrinkResult.map(shrunkValue -> toCombinedShrinkable(shrunkValue, position))) //
+				.filter(shrinkResult -> shrinkResult.shrunkValue().distance() < distance()));
 		}
-		return shrinkResults;
+		return ShrinkingHelper.concatLazily(positions);
+	}
+
+	private Shrinkable<T> toCombinedShrinkable(Shrinkable<Object> shrunkValue, int position) {
+		List<Shrinkable<Object>> newShrinkables = new ArrayList<>(shrinkables);
+		newShrinkables.set(position, shrunkValue);
+		return new CombinedShrinkable<>(newShrinkables, combineFunction);
 	}
 
 	private Set<ShrinkResult<Shrinkable<T>>> toSetOfCombinedShrinkables(Set<ShrinkResult<Shrinkable<Object>>> singleSet, int position) {
 		return singleSet.stream() //
-			.map(shrinkResult -> shrinkResult.map(shrunkValue -> {
-				List<Shrinkable<Object>> newShrinkables = new ArrayList<>(shrinkables);
-				newShrinkables.set(position, shrunkValue);
-				return (Shrinkable<T>) new CombinedShrinkable<>(newShrinkables, combineFunction);
-			})) //
+			.map(shrinkResult -> shrinkResult.map(shrunkValue -> toCombinedShrinkable(shrunkValue, position))) //
 			.filter(shrinkResult -> shrinkResult.shrunkValue().distance() < distance()) //
 			.collect(Collectors.toSet());
 	}
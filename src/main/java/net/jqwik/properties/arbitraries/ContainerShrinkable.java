@@ -9,68 +9,124 @@ import java.util.stream.*;
 
 public class ContainerShrinkable<T, E> implements Shrinkable<T> {
 
-	public static final Function<List<Character>, String> CREATE_STRING = list -> list.stream() //
-			.map(c -> Character.toString(c)) //
-			.collect(Collectors.joining());
+	public static final Function<List<Character>, String> CREATE_STRING = list -> {
+		StringBuilder builder = new StringBuilder(list.size());
+		for (Character c : list) {
+			builder.append(c.charValue());
+		}
+		return builder.toString();
+	};
 
 	public static Shrinkable<String> stringOf(List<Shrinkable<Character>> chars, int minSize) {
 		return new ContainerShrinkable<>(chars, CREATE_STRING, minSize);
 	}
 
-	private final ListShrinkCandidates<E> listShrinker;
 	private final List<Shrinkable<E>> elements;
 	private final Function<List<E>, T> containerCreator;
-	private final T value;
 	private final int minSize;
+	// Created on demand since most generated containers are never shrunk and many are never even looked at
+	private T value;
+	// Volatile since candidates can be checked concurrently while shrinking
+	private volatile boolean valueCreated = false;
+	private ListShrinkCandidates<E> listShrinker;
 
 	public ContainerShrinkable(List<Shrinkable<E>> elements, Function<List<E>, T> containerCreator, int minSize) {
 		this.elements = elements;
 		this.containerCreator = containerCreator;
-		this.value = createContainer(elements); // premature optimization?
 		this.minSize = minSize;
-		this.listShrinker = new ListShrinkCandidates<>(this.minSize);
+	}
+
+	private ContainerShrinkable(List<Shrinkable<E>> elements, Function<List<E>, T> containerCreator, int minSize, T value) {
+		this(elements, containerCreator, minSize);
+		this.value = value;
+		this.valueCreated = true;
 	}
 
 	@Override
 	public Set<ShrinkResult<Shrinkable<T>>> shrinkNext(Predicate<T> falsifier) {
-		Set<List<Shrinkable<E>>> candidates = listShrinker.nextCandidates(elements);
-		Set<ShrinkResult<Shrinkable<T>>> shrunkList = candidates.stream() //
-				.map(shrunkValue -> SafeFalsifier.falsify(falsifier, new ContainerShrinkable<>(shrunkValue, containerCreator, minSize))) //
-				.filter(optional -> optional.isPresent()) //
-				.map(optional -> optional.get()) //
-				.collect(Collectors.toSet());
-		nextShrinkElements(falsifier) //
-				.map(shrinkResult -> shrinkResult
-						.map(shrunkValue -> (Shrinkable<T>) new ContainerShrinkable<>(shrunkValue, containerCreator, minSize))) //
+		Set<ShrinkResult<Shrinkable<T>>> shrunkList = ShrinkingHelper.falsifyAll(cutCandidates(), falsifier);
+		Map<List<E>, T> falsifiedContainers = Collections.synchronizedMap(new HashMap<>());
+		nextShrinkElements(valuesFalsifier(falsifier, falsifiedContainers)) //
+				.map(shrinkResult -> shrinkResult.map(shrunkValue -> toShrinkable(shrunkValue, falsifiedContainers))) //
 				.forEach(shrunkList::add);
 		return shrunkList;
 	}
 
-	private Stream<ShrinkResult<List<Shrinkable<E>>>> nextShrinkElements(Predicate<T> falsifier) {
-		Predicate<List<E>> valuesFalsifier = list -> {
+	// Shorter containers come first since cutting elements usually shrinks more than shrinking a single element
+	@Override
+	public Stream<ShrinkResult<Shrinkable<T>>> shrinkNextLazily(Predicate<T> falsifier) {
+		Map<List<E>, T> falsifiedContainers = Collections.synchronizedMap(new HashMap<>());
+		return ShrinkingHelper.concatLazily( //
+			() -> ShrinkingHelper.falsifyInOrder(lazyCutCandidates(), falsifier), //
+			() -> elementShrinker().shrinkNextLazily(valuesFalsifier(falsifier, falsifiedContainers)) //
+				.map(shrinkResult -> shrinkResult.map(shrunkValue -> toShrinkable(shrunkValue, falsifiedContainers))) //
+		);
+	}
+
+	// Hand out the container that was falsified so that mappers and filters on top see the same instance
+	private Shrinkable<T> toShrinkable(List<Shrinkable<E>> shrunkElements, Map<List<E>, T> falsifiedContainers) {
+		List<E> values = valuesOf(shrunkElements);
+		if (falsifiedContainers.containsKey(values))
+			return new ContainerShrinkable<>(shrunkElements, containerCreator, minSize, falsifiedContainers.get(values));
+		return new ContainerShrinkable<>(shrunkElements, containerCreator, minSize);
+	}
+
+	private List<Shrinkable<T>> cutCandidates() {
+		return listShrinker().nextCandidates(elements).stream() //
+			.map(shrunkValue -> new ContainerShrinkable<>(shrunkValue, containerCreator, minSize)) //
+			.collect(Collectors.toList());
+	}
+
+	private Stream<Shrinkable<T>> lazyCutCandidates() {
+		return listShrinker().nextCandidatesLazily(elements) //
+			.map(shrunkValue -> new ContainerShrinkable<>(shrunkValue, containerCreator, minSize));
+	}
+
+	private Stream<ShrinkResult<List<Shrinkable<E>>>> nextShrinkElements(Predicate<List<E>> valuesFalsifier) {
+		Set<ShrinkResult<List<Shrinkable<E>>>> shrunkElements = elementShrinker().shrinkNext(valuesFalsifier);
+		return shrunkElements.stream();
+	}
+
+	private ParameterListShrinker<E> elementShrinker() {
+		return new ParameterListShrinker<>(elements, e -> {}, new Reporting[0]);
+	}
+
+	private Predicate<List<E>> valuesFalsifier(Predicate<T> falsifier, Map<List<E>, T> falsifiedContainers) {
+		return list -> {
 			T container = containerCreator.apply(list);
+			falsifiedContainers.put(list, container);
 			return falsifier.test(container);
 		};
-		ParameterListShrinker<E> listElementShrinker = new ParameterListShrinker<>(elements, e -> {}, new Reporting[0]);
-		Set<ShrinkResult<List<Shrinkable<E>>>> shrunkElements = listElementShrinker.shrinkNext(valuesFalsifier);
-		return shrunkElements.stream();
 	}
 
 	@Override
 	public T value() {
+		if (!valueCreated) {
+			value = createContainer(elements);
+			valueCreated = true;
+		}
 		return value;
 	}
 
+	private ListShrinkCandidates<E> listShrinker() {
+		if (listShrinker == null)
+			listShrinker = new ListShrinkCandidates<>(minSize);
+		return listShrinker;
+	}
+
 	private T createContainer(List<Shrinkable<E>> shrinkables) {
-		List<E> values = shrinkables.stream() //
+		return containerCreator.apply(valuesOf(shrinkables));
+	}
+
+	private List<E> valuesOf(List<Shrinkable<E>> shrinkables) {
+		return shrinkables.stream() //
 				.map(Shrinkable::value) //
 				.collect(Collectors.toList());
-		return containerCreator.apply(values);
 	}
 
 	@Override
 	public int distance() {
-		return listShrinker.distance(elements);
+		return listShrinker().distance(elements);
 	}
 
 	@Override
@@ -85,11 +141,11 @@ public class ContainerShrinkable<T, E> implements Shrinkable<T> {
 		if (o == null || !(o instanceof Shrinkable))
 			return false;
 		Shrinkable<?> that = (Shrinkable<?>) o;
-		return Objects.equals(value, that.value());
+		return Objects.equals(value(), that.value());
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(value);
+		return Objects.hash(value());
 	}
 }
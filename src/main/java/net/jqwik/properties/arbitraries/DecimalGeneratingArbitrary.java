@@ -25,17 +25,37 @@ class DecimalGeneratingArbitrary implements Arbitrary<BigDecimal> {
 		return decimalGenerator(partitionPoints);
 	}
 
+	/**
+	 * Use double generation and shrinking. Only valid if min and max are within double range.
+	 */
+	RandomGenerator<Double> doubleGenerator(int genSize) {
+		double doubleMin = min.doubleValue();
+		double doubleMax = max.doubleValue();
+		double[] partitionPoints = RandomDecimalGenerators.calculateDefaultPartitionPoints(genSize, doubleMin, doubleMax);
+		DoubleShrinkCandidates shrinkCandidates = new DoubleShrinkCandidates(doubleMin, doubleMax, scale);
+		List<Shrinkable<Double>> samples =
+			sampleValues() //
+				.map(BigDecimal::doubleValue) //
+				.map(value -> new ShrinkableValue<>(value, shrinkCandidates)) //
+				.collect(Collectors.toList());
+		return RandomGenerators.doubles(doubleMin, doubleMax, scale, partitionPoints).withShrinkableSamples(samples);
+	}
+
 	private RandomGenerator<BigDecimal> decimalGenerator(BigDecimal[] partitionPoints) {
 		BigDecimalShrinkCandidates shrinkCandidates = new BigDecimalShrinkCandidates(min, max, scale);
-		BigDecimal smallest = BigDecimal.ONE.movePointLeft(scale);
-		BigDecimal[] sampleValues = {BigDecimal.ZERO, BigDecimal.ONE, BigDecimal.ONE.negate(), smallest, smallest.negate(), min, max};
 		List<Shrinkable<BigDecimal>> samples =
-			Arrays.stream(sampleValues) //
-				  .distinct() //
-				  .filter(aDecimal -> aDecimal.compareTo(min) >= 0 && aDecimal.compareTo(max) <= 0) //
+			sampleValues() //
 				  .map(value -> new ShrinkableValue<>(value, shrinkCandidates)) //
 				  .collect(Collectors.toList());
 		return RandomGenerators.bigDecimals(min, max, scale, partitionPoints).withShrinkableSamples(samples);
 	}
 
+	private Stream<BigDecimal> sampleValues() {
+		BigDecimal smallest = BigDecimal.ONE.movePointLeft(scale);
+		BigDecimal[] sampleValues = {BigDecimal.ZERO, BigDecimal.ONE, BigDecimal.ONE.negate(), smallest, smallest.negate(), min, max};
+		return Arrays.stream(sampleValues) //
+					 .distinct() //
+					 .filter(aDecimal -> aDecimal.compareTo(min) >= 0 && aDecimal.compareTo(max) <= 0);
+	}
+
 }
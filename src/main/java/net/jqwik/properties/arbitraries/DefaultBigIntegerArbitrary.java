@@ -4,6 +4,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
 import java.math.*;
+import java.util.*;
 
 public class DefaultBigIntegerArbitrary extends AbstractArbitraryBase implements BigIntegerArbitrary {
 
@@ -34,4 +35,9 @@ public class DefaultBigIntegerArbitrary extends AbstractArbitraryBase implements
 	public RandomGenerator<BigInteger> generator(int genSize) {
 		return generatingArbitrary.generator(genSize);
 	}
+
+	@Override
+	public Optional<List<Shrinkable<BigInteger>>> allShrinkables(int maxNumberOfValues) {
+		return generatingArbitrary.allShrinkables(maxNumberOfValues);
+	}
 }
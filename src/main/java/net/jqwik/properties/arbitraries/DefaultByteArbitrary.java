@@ -4,6 +4,8 @@ import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
 import java.math.*;
+import java.util.*;
+import java.util.stream.*;
 
 public class DefaultByteArbitrary extends AbstractArbitraryBase implements ByteArbitrary {
 
@@ -18,7 +20,14 @@ public class DefaultByteArbitrary extends AbstractArbitraryBase implements ByteA
 
 	@Override
 	public RandomGenerator<Byte> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::byteValueExact);
+		return generatingArbitrary.integerGenerator(genSize).map(Integer::byteValue);
+	}
+
+	@Override
+	public Optional<List<Shrinkable<Byte>>> allShrinkables(int maxNumberOfValues) {
+		return generatingArbitrary.allIntegerShrinkables(maxNumberOfValues).map(shrinkables -> shrinkables.stream() //
+			.map(shrinkable -> shrinkable.map(Integer::byteValue)) //
+			.collect(Collectors.toList()));
 	}
 
 	@Override
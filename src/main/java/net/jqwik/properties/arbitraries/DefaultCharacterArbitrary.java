@@ -3,6 +3,8 @@ package net.jqwik.properties.arbitraries;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
+import java.util.*;
+
 public class DefaultCharacterArbitrary extends AbstractArbitraryBase implements CharacterArbitrary {
 
 	public static final int MAX_ASCII_CODEPOINT = 0x007F;
@@ -18,6 +20,18 @@ public class DefaultCharacterArbitrary extends AbstractArbitraryBase implements
 		return RandomGenerators.chars(min, max);
 	}
 
+	@Override
+	public Optional<List<Shrinkable<Character>>> allShrinkables(int maxNumberOfValues) {
+		if (min > max || max - min >= maxNumberOfValues)
+			return Optional.empty();
+		IntegerShrinkCandidates shrinkCandidates = new IntegerShrinkCandidates(min, max);
+		List<Shrinkable<Character>> shrinkables = new ArrayList<>(max - min + 1);
+		for (int aChar = min; aChar <= max; aChar++) {
+			shrinkables.add(new ShrinkableValue<>(aChar, shrinkCandidates).map(anInt -> (char) (int) anInt));
+		}
+		return Optional.of(shrinkables);
+	}
+
 	@Override
 	public CharacterArbitrary between(char min, char max) {
 		DefaultCharacterArbitrary clone = typedClone();
@@ -19,7 +19,7 @@ public class DefaultDoubleArbitrary extends AbstractArbitraryBase implements Dou
 
 	@Override
 	public RandomGenerator<Double> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigDecimal::doubleValue);
+		return generatingArbitrary.doubleGenerator(genSize);
 	}
 
 	@Override
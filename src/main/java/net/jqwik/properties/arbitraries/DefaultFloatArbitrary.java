@@ -18,7 +18,7 @@ public class DefaultFloatArbitrary extends AbstractArbitraryBase implements Floa
 
 	@Override
 	public RandomGenerator<Float> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigDecimal::floatValue);
+		return generatingArbitrary.doubleGenerator(genSize).map(Double::floatValue);
 	}
 
 	@Override
@@ -4,6 +4,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
 import java.math.*;
+import java.util.*;
 
 public class DefaultIntegerArbitrary extends AbstractArbitraryBase implements IntegerArbitrary {
 
@@ -18,7 +19,12 @@ public class DefaultIntegerArbitrary extends AbstractArbitraryBase implements In
 
 	@Override
 	public RandomGenerator<Integer> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::intValueExact);
+		return generatingArbitrary.integerGenerator(genSize);
+	}
+
+	@Override
+	public Optional<List<Shrinkable<Integer>>> allShrinkables(int maxNumberOfValues) {
+		return generatingArbitrary.allIntegerShrinkables(maxNumberOfValues);
 	}
 
 	@Override
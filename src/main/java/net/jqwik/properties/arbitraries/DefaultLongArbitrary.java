@@ -4,6 +4,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
 import java.math.*;
+import java.util.*;
 
 public class DefaultLongArbitrary extends AbstractArbitraryBase implements LongArbitrary {
 
@@ -18,7 +19,12 @@ public class DefaultLongArbitrary extends AbstractArbitraryBase implements LongA
 
 	@Override
 	public RandomGenerator<Long> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::longValueExact);
+		return generatingArbitrary.longGenerator(genSize);
+	}
+
+	@Override
+	public Optional<List<Shrinkable<Long>>> allShrinkables(int maxNumberOfValues) {
+		return generatingArbitrary.allLongShrinkables(maxNumberOfValues);
 	}
 
 	@Override
@@ -4,6 +4,8 @@ import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
 import java.math.*;
+import java.util.*;
+import java.util.stream.*;
 
 public class DefaultShortArbitrary extends AbstractArbitraryBase implements ShortArbitrary {
 
@@ -18,7 +20,14 @@ public class DefaultShortArbitrary extends AbstractArbitraryBase implements Shor
 
 	@Override
 	public RandomGenerator<Short> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::shortValueExact);
+		return generatingArbitrary.integerGenerator(genSize).map(Integer::shortValue);
+	}
+
+	@Override
+	public Optional<List<Shrinkable<Short>>> allShrinkables(int maxNumberOfValues) {
+		return generatingArbitrary.allIntegerShrinkables(maxNumberOfValues).map(shrinkables -> shrinkables.stream() //
+			.map(shrinkable -> shrinkable.map(Integer::shortValue)) //
+			.collect(Collectors.toList()));
 	}
 
 	@Override
@@ -1,5 +1,6 @@
 package net.jqwik.properties.arbitraries;
 
+import net.jqwik.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
@@ -10,22 +11,18 @@ public class DefaultStringArbitrary extends AbstractArbitraryBase implements Str
 
 	private static final int DEFAULT_MAX_LENGTH = 255;
 
-	private List<Arbitrary<Character>> characterArbitraries = new ArrayList<>();
+	private List<Range<Character>> charRanges = new ArrayList<>();
 
 	private int minLength = 0;
 	private int maxLength = DEFAULT_MAX_LENGTH;
 
-	private CharacterArbitrary defaultCharacterArbitrary() {
-		return Arbitraries.chars().ascii();
-	}
-
 	@Override
 	public RandomGenerator<String> generator(int genSize) {
 		final int cutoffLength = RandomGenerators.defaultCutoffSize(minLength, maxLength, genSize);
 		List<Shrinkable<String>> samples = Arrays.stream(new String[] { "" })
 				.filter(s -> s.length() >= minLength && s.length() <= maxLength).map(Shrinkable::unshrinkable)
 				.collect(Collectors.toList());
-		return RandomGenerators.strings(createCharacterGenerator(), minLength, maxLength, cutoffLength).withShrinkableSamples(samples);
+		return RandomGenerators.strings(effectiveCharRanges(), minLength, maxLength, cutoffLength).withShrinkableSamples(samples);
 	}
 
 	@Override
@@ -44,7 +41,7 @@ public class DefaultStringArbitrary extends AbstractArbitraryBase implements Str
 
 	@Override
 	public StringArbitrary withChars(char[] chars) {
-		DefaultStringArbitrary clone = typedClone();
+		DefaultStringArbitrary clone = cloneWithSameChars();
 		clone.addChars(chars);
 		return clone;
 	}
@@ -54,21 +51,21 @@ public class DefaultStringArbitrary extends AbstractArbitraryBase implements Str
 		if (from == 0 && to == 0) {
 			return this;
 		}
-		DefaultStringArbitrary clone = typedClone();
+		DefaultStringArbitrary clone = cloneWithSameChars();
 		clone.addCharRange(from, to);
 		return clone;
 	}
 
 	@Override
 	public StringArbitrary ascii() {
-		DefaultStringArbitrary clone = typedClone();
-		clone.characterArbitraries.add(Arbitraries.chars().ascii());
+		DefaultStringArbitrary clone = cloneWithSameChars();
+		clone.addAscii();
 		return clone;
 	}
 
 	@Override
 	public StringArbitrary alpha() {
-		DefaultStringArbitrary clone = typedClone();
+		DefaultStringArbitrary clone = cloneWithSameChars();
 		clone.addCharRange('a', 'z');
 		clone.addCharRange('A', 'Z');
 		return clone;
@@ -76,29 +73,41 @@ public class DefaultStringArbitrary extends AbstractArbitraryBase implements Str
 
 	@Override
 	public StringArbitrary numeric() {
-		DefaultStringArbitrary clone = typedClone();
+		DefaultStringArbitrary clone = cloneWithSameChars();
 		clone.addCharRange('0', '9');
 		return clone;
 	}
 
+	// A shallow clone would share the list of char ranges with the original arbitrary
+	private DefaultStringArbitrary cloneWithSameChars() {
+		DefaultStringArbitrary clone = typedClone();
+		clone.charRanges = new ArrayList<>(charRanges);
+		return clone;
+	}
+
+	private void addAscii() {
+		addCharRange((char) Character.MIN_CODE_POINT, (char) DefaultCharacterArbitrary.MAX_ASCII_CODEPOINT);
+	}
+
 	private void addCharRange(char from, char to) {
-		characterArbitraries.add(Arbitraries.chars().between(from, to));
+		if (from > to)
+			throw new JqwikException(String.format("Char range from [%s] must not be greater than to [%s].", from, to));
+		charRanges.add(Range.of(from, to));
 	}
 
 	private void addChars(char[] chars) {
-		characterArbitraries.add(Arbitraries.of(chars));
+		for (char aChar : chars) {
+			charRanges.add(Range.of(aChar, aChar));
+		}
 	}
 
-	private RandomGenerator<Character> createCharacterGenerator() {
-		if (characterArbitraries.isEmpty()) {
-			return defaultCharacterArbitrary().generator(1);
+	private List<Range<Character>> effectiveCharRanges() {
+		if (charRanges.isEmpty()) {
+			DefaultStringArbitrary ascii = cloneWithSameChars();
+			ascii.addAscii();
+			return ascii.charRanges;
 		}
-		Arbitrary<Character> first = characterArbitraries.get(0);
-		@SuppressWarnings("unchecked")
-		Arbitrary<Character>[] rest = characterArbitraries.subList(1, characterArbitraries.size()).toArray(new Arbitrary[characterArbitraries.size() - 1]);
-
-		Arbitrary<Character> allValidCharacters = Arbitraries.oneOf(first, rest);
-		return allValidCharacters.generator(1);
+		return charRanges;
 	}
 
 }
@@ -0,0 +1,124 @@
+package net.jqwik.properties.arbitraries;
+
+import java.util.*;
+
+/**
+ * Same shrinking behaviour as {@linkplain BigDecimalShrinkCandidates} but using double arithmetic.
+ */
+public class DoubleShrinkCandidates implements ShrinkCandidates<Double> {
+
+	// Beyond this magnitude doubles can no longer represent every integral value
+	private static final double MAX_EXACT_INTEGRAL = 1L << 53;
+	private static final int MAX_DECIMALS = 17;
+
+	private final double min;
+	private final double max;
+	private final double scaleFactor;
+	private final double integralMin;
+	private final double integralMax;
+
+	public DoubleShrinkCandidates(double min, double max, int scale) {
+		this.min = Math.min(min, max);
+		this.max = Math.max(min, max);
+		this.scaleFactor = Math.pow(10, scale);
+		this.integralMin = truncate(this.min);
+		this.integralMax = truncate(this.max);
+	}
+
+	@Override
+	public int distance(Double value) {
+		double rawDistance = Math.abs(determineTarget(value) - value);
+		return (int) (Math.min(rawDistance * scaleFactor, Integer.MAX_VALUE));
+	}
+
+	@Override
+	public Set<Double> nextCandidates(Double value) {
+		Set<Double> candidates = new HashSet<>();
+		if (!includes(value))
+			return candidates;
+		shrinkDecimals(value, candidates);
+		shrinkIntegral(value, candidates);
+		candidates.remove(value);
+		return candidates;
+	}
+
+	private void shrinkDecimals(double value, Set<Double> candidates) {
+		int decimals = countDecimals(value);
+		if (decimals == 0)
+			return;
+		double factor = Math.pow(10, decimals - 1);
+		long scaledOneDigitLess = (long) Math.rint(value * factor * 10) / 10;
+		addIfIncluded(scaledOneDigitLess / factor, candidates);
+		addIfIncluded((scaledOneDigitLess + (value < 0 ? -1 : 1)) / factor, candidates);
+	}
+
+	private void shrinkIntegral(double value, Set<Double> candidates) {
+		double integral = truncate(value);
+		if (integral < integralMin || integral > integralMax)
+			return;
+		double diff = integral - determineIntegralTarget(integral);
+		if (diff == 0)
+			return;
+		double delta = truncate(diff / 2);
+		if (Math.abs(delta) < 1)
+			delta = Math.signum(diff);
+		candidates.add(normalizeZero(integral - delta));
+		candidates.add(normalizeZero(integral - Math.signum(diff)));
+	}
+
+	/**
+	 * @return the number of decimal places of value or 0 if it has no decimals or they cannot be determined exactly
+	 */
+	private static int countDecimals(double value) {
+		if (value == truncate(value))
+			return 0;
+		double factor = 1;
+		for (int decimals = 1; decimals <= MAX_DECIMALS; decimals++) {
+			factor *= 10;
+			double scaled = value * factor;
+			if (Math.abs(scaled) >= MAX_EXACT_INTEGRAL)
+				return 0;
+			if (Math.abs(scaled - Math.rint(scaled)) <= 2 * Math.ulp(scaled))
+				return decimals;
+		}
+		return 0;
+	}
+
+	private void addIfIncluded(double candidate, Set<Double> candidates) {
+		if (includes(candidate))
+			candidates.add(normalizeZero(candidate));
+	}
+
+	private boolean includes(double value) {
+		return value >= min && value <= max;
+	}
+
+	private double determineIntegralTarget(double integral) {
+		if (integralMin <= 0 && integralMax >= 0)
+			return 0;
+		if (integral < 0)
+			return integralMax;
+		return integralMin;
+	}
+
+	private double determineTarget(double value) {
+		if (!includes(value)) {
+			return value;
+		}
+		if (min <= 0 && max >= 0)
+			return 0;
+		if (value < 0)
+			return max;
+		return min;
+	}
+
+	private static double truncate(double value) {
+		return value < 0 ? Math.ceil(value) : Math.floor(value);
+	}
+
+	private static double normalizeZero(double value) {
+		// Turns -0.0 into 0.0
+		return value + 0.0;
+	}
+
+}
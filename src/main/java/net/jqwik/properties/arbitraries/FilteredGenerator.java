@@ -2,28 +2,44 @@ package net.jqwik.properties.arbitraries;
 
 import net.jqwik.*;
 import net.jqwik.api.*;
+import net.jqwik.properties.*;
 
 import java.util.*;
 import java.util.function.*;
 
 public class FilteredGenerator<T> implements RandomGenerator<T> {
-	private static final long MAX_MISSES = 10000;
+	public static final int DEFAULT_MAX_MISSES = 10000;
+
 	private final RandomGenerator<T> toFilter;
 	private final Predicate<T> filterPredicate;
+	private final int maxMisses;
 
 	public FilteredGenerator(RandomGenerator<T> toFilter, Predicate<T> filterPredicate) {
+		this(toFilter, filterPredicate, DEFAULT_MAX_MISSES);
+	}
+
+	public FilteredGenerator(RandomGenerator<T> toFilter, Predicate<T> filterPredicate, int maxMisses) {
+		if (maxMisses < 0) {
+			throw new JqwikException(String.format("Max misses [%s] must not be negative.", maxMisses));
+		}
 		this.toFilter = toFilter;
 		this.filterPredicate = filterPredicate;
+		this.maxMisses = maxMisses;
 	}
 
 	@Override
 	public Shrinkable<T> next(Random random) {
-		return nextUntilAccepted(random, toFilter::next);
+		return new FilteredShrinkable<>(nextUntilAccepted(random, toFilter::next, Shrinkable::value), filterPredicate, maxMisses, this);
 	}
 
 	@Override
 	public Shrinkable<T> sampleRandomly(Random random) {
-		return nextUntilAccepted(random, toFilter::sampleRandomly);
+		return new FilteredShrinkable<>(nextUntilAccepted(random, toFilter::sampleRandomly, Shrinkable::value), filterPredicate, maxMisses, this);
+	}
+
+	@Override
+	public T nextValue(Random random) {
+		return nextUntilAccepted(random, toFilter::nextValue, Function.identity());
 	}
 
 	@Override
@@ -31,18 +47,24 @@ public class FilteredGenerator<T> implements RandomGenerator<T> {
 		return String.format("Filtering [%s]", toFilter);
 	}
 
-	private Shrinkable<T> nextUntilAccepted(Random random, Function<Random, Shrinkable<T>> fetchShrinkable) {
+	// Statistics are counted per generator so that two parameters using the same predicate show up separately
+	private <R> R nextUntilAccepted(Random random, Function<Random, R> fetch, Function<R, T> toValue) {
+		FilterStatisticsCollector statistics = FilterStatisticsCollector.get();
+		long start = statistics.isCollecting() ? System.nanoTime() : 0;
 		long count = 0;
 		while (true) {
-			Shrinkable<T> next = fetchShrinkable.apply(random);
-			if (filterPredicate.test(next.value())) {
-				return new FilteredShrinkable<>(next, filterPredicate);
+			R next = fetch.apply(random);
+			if (filterPredicate.test(toValue.apply(next))) {
+				if (statistics.isCollecting())
+					statistics.countGeneration(this, count, System.nanoTime() - start);
+				return next;
 			} else {
-				if (++count > MAX_MISSES) {
-					throw new JqwikException(String.format("%s missed more than %s times.", toString(), MAX_MISSES));
+				if (++count > maxMisses) {
+					if (statistics.isCollecting())
+						statistics.countFailedGeneration(this, count, System.nanoTime() - start);
+					throw new JqwikException(String.format("%s missed more than %s times.", toString(), maxMisses));
 				}
 			}
-
 		}
 	}
 
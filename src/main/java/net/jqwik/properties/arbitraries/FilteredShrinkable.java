@@ -10,36 +10,56 @@ import net.jqwik.properties.*;
 public class FilteredShrinkable<T> implements Shrinkable<T> {
 	private final Shrinkable<T> toFilter;
 	private final Predicate<T> filterPredicate;
+	private final int maxMisses;
+	// The use of the filter whose statistics are counted, e.g. the generator that created the original value
+	private final Object filter;
 
 	public FilteredShrinkable(Shrinkable<T> toFilter, Predicate<T> filterPredicate) {
+		this(toFilter, filterPredicate, FilteredGenerator.DEFAULT_MAX_MISSES);
+	}
+
+	public FilteredShrinkable(Shrinkable<T> toFilter, Predicate<T> filterPredicate, int maxMisses) {
+		this(toFilter, filterPredicate, maxMisses, filterPredicate);
+	}
+
+	public FilteredShrinkable(Shrinkable<T> toFilter, Predicate<T> filterPredicate, int maxMisses, Object filter) {
 		this.toFilter = toFilter;
 		this.filterPredicate = filterPredicate;
+		this.maxMisses = maxMisses;
+		this.filter = filter;
 	}
 
+	// Rejected candidates are shrunk further until they fit. At most maxMisses of them are tried
+	// so that a restrictive filter cannot make a single shrinking step run forever.
 	@Override
 	public Set<ShrinkResult<Shrinkable<T>>> shrinkNext(Predicate<T> falsifier) {
-		Set<ShrinkResult<Shrinkable<T>>> branches = toFilter.shrinkNext(falsifier) //
-															.stream() //
-															.map(shrinkResult -> shrinkResult //
-						.map(shrinkable -> (Shrinkable<T>) new FilteredShrinkable<>(shrinkable, filterPredicate))) //
-															.collect(Collectors.toSet());
-		return firstFalsifiedFitPerBranch(branches, falsifier);
-	}
-
-	private Set<ShrinkResult<Shrinkable<T>>> firstFalsifiedFitPerBranch(Set<ShrinkResult<Shrinkable<T>>> branches,
-																		Predicate<T> falsifier) {
+		FilterStatisticsCollector statistics = FilterStatisticsCollector.get();
+		long start = statistics.isCollecting() ? System.nanoTime() : 0;
+		long misses = 0;
 		Set<ShrinkResult<Shrinkable<T>>> fits = new HashSet<>();
-		for (ShrinkResult<Shrinkable<T>> branch : branches) {
-			if (filterPredicate.test(branch.shrunkValue().value()))
-				fits.add(branch);
-			else {
-				Set<ShrinkResult<Shrinkable<T>>> newBranches = branch.shrunkValue().shrinkNext(falsifier);
-				fits.addAll(firstFalsifiedFitPerBranch(newBranches, falsifier));
-			}
+		Deque<ShrinkResult<Shrinkable<T>>> toCheck = new ArrayDeque<>(toFilter.shrinkNext(falsifier));
+		while (!toCheck.isEmpty()) {
+			ShrinkResult<Shrinkable<T>> candidate = toCheck.pop();
+			if (filterPredicate.test(candidate.shrunkValue().value()))
+				fits.add(candidate.map(this::filtered));
+			else if (++misses <= maxMisses)
+				candidate.shrunkValue().shrinkNext(falsifier).forEach(toCheck::push);
 		}
+		if (statistics.isCollecting())
+			statistics.countShrinking(filter, misses, System.nanoTime() - start);
 		return fits;
 	}
 
+	@Override
+	public Stream<ShrinkResult<Shrinkable<T>>> shrinkNextLazily(Predicate<T> falsifier) {
+		Iterator<ShrinkResult<Shrinkable<T>>> fits = new FittingCandidates(falsifier);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(fits, Spliterator.ORDERED), false);
+	}
+
+	private Shrinkable<T> filtered(Shrinkable<T> shrinkable) {
+		return new FilteredShrinkable<>(shrinkable, filterPredicate, maxMisses, filter);
+	}
+
 	@Override
 	public T value() {
 		return toFilter.value();
@@ -69,4 +89,58 @@ public class FilteredShrinkable<T> implements Shrinkable<T> {
 	public int hashCode() {
 		return toFilter.hashCode();
 	}
+
+	// Depth first walk through rejected candidates that only goes as far as fitting candidates are requested
+	private class FittingCandidates implements Iterator<ShrinkResult<Shrinkable<T>>> {
+		private final Predicate<T> falsifier;
+		private final Deque<Iterator<ShrinkResult<Shrinkable<T>>>> toCheck = new ArrayDeque<>();
+		private ShrinkResult<Shrinkable<T>> next;
+		private long misses = 0;
+
+		private FittingCandidates(Predicate<T> falsifier) {
+			this.falsifier = falsifier;
+			toCheck.push(toFilter.shrinkNextLazily(falsifier).iterator());
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (next == null)
+				next = findNext();
+			return next != null;
+		}
+
+		@Override
+		public ShrinkResult<Shrinkable<T>> next() {
+			if (!hasNext())
+				throw new NoSuchElementException();
+			ShrinkResult<Shrinkable<T>> current = next;
+			next = null;
+			return current;
+		}
+
+		private ShrinkResult<Shrinkable<T>> findNext() {
+			FilterStatisticsCollector statistics = FilterStatisticsCollector.get();
+			long start = statistics.isCollecting() ? System.nanoTime() : 0;
+			long newMisses = 0;
+			try {
+				while (!toCheck.isEmpty()) {
+					Iterator<ShrinkResult<Shrinkable<T>>> candidates = toCheck.peek();
+					if (!candidates.hasNext()) {
+						toCheck.pop();
+						continue;
+					}
+					ShrinkResult<Shrinkable<T>> candidate = candidates.next();
+					if (filterPredicate.test(candidate.shrunkValue().value()))
+						return candidate.map(FilteredShrinkable.this::filtered);
+					newMisses++;
+					if (++misses <= maxMisses)
+						toCheck.push(candidate.shrunkValue().shrinkNextLazily(falsifier).iterator());
+				}
+				return null;
+			} finally {
+				if (statistics.isCollecting())
+					statistics.countShrinking(filter, newMisses, System.nanoTime() - start);
+			}
+		}
+	}
 }
@@ -10,65 +10,140 @@ import java.util.stream.*;
 public class FlatMappedShrinkable<T, U> implements Shrinkable<U> {
 
 	private final Shrinkable<T> toMap;
-	private final Function<T, Arbitrary<U>> mapper;
-	private final int tries;
-	private final long randomSeed;
-	private final Shrinkable<U> shrinkable;
+	private final InnerShrinkables<T, U> innerShrinkables;
+	private volatile Shrinkable<U> shrinkable;
 
 	public FlatMappedShrinkable(Shrinkable<T> toMap, Function<T, Arbitrary<U>> mapper, int tries, long randomSeed) {
+		this(toMap, new InnerShrinkables<>(mapper, tries, randomSeed));
+	}
+
+	private FlatMappedShrinkable(Shrinkable<T> toMap, InnerShrinkables<T, U> innerShrinkables) {
+		this(toMap, innerShrinkables, null);
+	}
+
+	private FlatMappedShrinkable(Shrinkable<T> toMap, InnerShrinkables<T, U> innerShrinkables, Shrinkable<U> shrinkable) {
 		this.toMap = toMap;
-		this.mapper = mapper;
-		this.tries = tries;
-		this.randomSeed = randomSeed;
-		this.shrinkable = generateShrinkable(toMap.value());
+		this.innerShrinkables = innerShrinkables;
+		this.shrinkable = shrinkable;
 	}
 
-	private Shrinkable<U> generateShrinkable(T value) {
-		RandomGenerator<U> generator = mapper.apply(value).generator(tries);
-		return generator.sampleRandomly(new Random(randomSeed));
+	private Shrinkable<U> shrinkable() {
+		if (shrinkable == null)
+			shrinkable = innerShrinkables.forValue(toMap.value());
+		return shrinkable;
 	}
 
 	@Override
 	public Set<ShrinkResult<Shrinkable<U>>> shrinkNext(Predicate<U> falsifier) {
-		Predicate<T> toMapPredicate = aT -> falsifier.test(generateShrinkable(aT).value());
-		Set<ShrinkResult<Shrinkable<U>>> shrinkToMapResults = shrinkToMap(toMapPredicate);
-		if (shrinkToMapResults.isEmpty())
-			return shrinkable.shrinkNext(falsifier);
-		return shrinkToMapResults;
+		Predicate<T> toMapPredicate = aT -> falsifier.test(innerShrinkables.forValue(aT).value());
+		Set<ShrinkResult<Shrinkable<U>>> shrinkResults = shrinkToMap(toMapPredicate);
+		shrinkResults.addAll(shrinkEmbedded(falsifier));
+		return shrinkResults;
+	}
+
+	// The value to map is kept so that it can still be shrunk after the embedded value
+	private Set<ShrinkResult<Shrinkable<U>>> shrinkEmbedded(Predicate<U> falsifier) {
+		return shrinkable().shrinkNext(falsifier).stream() //
+			.map(shrinkResult -> shrinkResult //
+				.map(shrunkValue -> (Shrinkable<U>) new FlatMappedShrinkable<>(toMap, innerShrinkables, shrunkValue))) //
+			.collect(Collectors.toSet());
+	}
+
+	@Override
+	public Stream<ShrinkResult<Shrinkable<U>>> shrinkNextLazily(Predicate<U> falsifier) {
+		Predicate<T> toMapPredicate = aT -> falsifier.test(innerShrinkables.forValue(aT).value());
+		return ShrinkingHelper.concatLazily( //
+			() -> toMap.shrinkNextLazily(toMapPredicate) //
+				.map(shrinkResult -> shrinkResult //
+					.map(shrunkValue -> (Shrinkable<U>) new FlatMappedShrinkable<>(shrunkValue, innerShrinkables))), //
+			() -> shrinkable().shrinkNextLazily(falsifier) //
+				.map(shrinkResult -> shrinkResult //
+					.map(shrunkValue -> new FlatMappedShrinkable<>(toMap, innerShrinkables, shrunkValue))) //
+		);
 	}
 
 	private Set<ShrinkResult<Shrinkable<U>>> shrinkToMap(Predicate<T> toMapPredicate) {
 		return toMap.shrinkNext(toMapPredicate).stream() //
 			.map(shrinkResult -> shrinkResult //
-				.map(shrunkValue -> (Shrinkable<U>) new FlatMappedShrinkable(shrunkValue, mapper, tries, randomSeed))) //
+				.map(shrunkValue -> (Shrinkable<U>) new FlatMappedShrinkable<>(shrunkValue, innerShrinkables))) //
 			.collect(Collectors.toSet());
 	}
 
 	@Override
 	public U value() {
-		return shrinkable.value();
+		return shrinkable().value();
 	}
 
 	@Override
 	public int distance() {
-		return toMap.distance() * 100 + shrinkable.distance();
+		return toMap.distance() * 100 + shrinkable().distance();
 	}
 
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
-		if (o == null || !(o instanceof Shrinkable)) return false;
-		Shrinkable<?> that = (Shrinkable<?>) o;
-		return Objects.equals(shrinkable.value(), that.value());
+		// Equal embedded values of different values to map shrink differently.
+		// Other shrinkables are never equal since equality with them could not be transitive.
+		if (o == null || getClass() != o.getClass()) return false;
+		FlatMappedShrinkable<?, ?> that = (FlatMappedShrinkable<?, ?>) o;
+		return Objects.equals(toMap.value(), that.toMap.value()) && Objects.equals(value(), that.value());
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(shrinkable.value());
+		return Objects.hash(value());
 	}
 
 	@Override
 	public String toString() {
-		return String.format("FlatMappedShrinkable[%s:%d]", shrinkable.value(), distance());
+		return String.format("FlatMappedShrinkable[%s:%d]", value(), distance());
+	}
+
+	/**
+	 * Shared by all shrinkables derived from the same generated value so that each inner shrinkable
+	 * - and the arbitrary and generator behind it - is only created once per candidate value to map.
+	 */
+	private static class InnerShrinkables<T, U> {
+
+		private static final int MAX_CACHED_SHRINKABLES = 1000;
+
+		private final Function<T, Arbitrary<U>> mapper;
+		private final int tries;
+		private final long randomSeed;
+		private Map<T, Shrinkable<U>> cache;
+
+		private InnerShrinkables(Function<T, Arbitrary<U>> mapper, int tries, long randomSeed) {
+			this.mapper = mapper;
+			this.tries = tries;
+			this.randomSeed = randomSeed;
+		}
+
+		private Shrinkable<U> forValue(T value) {
+			synchronized (this) {
+				if (cache != null && cache.containsKey(value))
+					return cache.get(value);
+			}
+			Shrinkable<U> shrinkable = generateShrinkable(value);
+			synchronized (this) {
+				if (cache == null)
+					cache = createCache();
+				cache.put(value, shrinkable);
+			}
+			return shrinkable;
+		}
+
+		private Shrinkable<U> generateShrinkable(T value) {
+			RandomGenerator<U> generator = mapper.apply(value).generator(tries);
+			return generator.sampleRandomly(new Random(randomSeed));
+		}
+
+		private static <T, U> Map<T, Shrinkable<U>> createCache() {
+			return new LinkedHashMap<T, Shrinkable<U>>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<T, Shrinkable<U>> eldest) {
+					return size() > MAX_CACHED_SHRINKABLES;
+				}
+			};
+		}
 	}
 }
@@ -6,51 +6,80 @@ import net.jqwik.support.*;
 
 import java.util.*;
 
+/**
+ * Chooses values in constant time using Walker's alias method in the variant described by Vose:
+ * Each value gets a column of equal size. A column is filled up to its value's probability
+ * and the rest of it is assigned to an alias value.
+ */
 public class FrequencyGenerator<T> implements RandomGenerator<T> {
 
-	private final Map<T, Integer> upperBorders = new HashMap<>();
-	private int size = 0;
-	private ShrinkCandidates<T> shrinkCandidates;
+	private final List<T> values = new ArrayList<>();
+	private final double[] probabilities;
+	private final int[] aliases;
+	private final ShrinkCandidates<T> shrinkCandidates;
 
 	public FrequencyGenerator(Tuples.Tuple2<Integer, T>[] frequencies) {
-		calculateUpperBorders(frequencies);
-		if (size <= 0) {
-			throw new JqwikException(String.format("%s does not contain any positive frequencies.", JqwikStringSupport.displayString(frequencies)));
-		}
-	}
-
-	private void calculateUpperBorders(Tuples.Tuple2<Integer, T>[] frequencies) {
-		List<T> values = new ArrayList<>();
+		List<Integer> weights = new ArrayList<>();
+		long totalWeight = 0;
 		for (Tuples.Tuple2<Integer, T> tuple : frequencies) {
 			int frequency = tuple.get1();
 			if (frequency <= 0)
 				continue;
-			size += frequency;
-			T value = tuple.get2();
-			values.add(value);
-			upperBorders.put(value, size);
+			totalWeight += frequency;
+			weights.add(frequency);
+			values.add(tuple.get2());
+		}
+		if (totalWeight <= 0) {
+			throw new JqwikException(String.format("%s does not contain any positive frequencies.", JqwikStringSupport.displayString(frequencies)));
 		}
+		probabilities = new double[values.size()];
+		aliases = new int[values.size()];
+		fillColumns(weights, totalWeight);
 		shrinkCandidates = new ValuesShrinkCandidates<>(values);
 	}
 
-	private T choose(int index) {
-		T currentChoice = null;
-		for (T key : upperBorders.keySet()) {
-			int upper = upperBorders.get(key);
-			if (upper > index) {
-				if (currentChoice == null) {
-					currentChoice = key;
-				} else if (upper < upperBorders.get(currentChoice)) {
-					currentChoice = key;
-				}
-			}
+	private void fillColumns(List<Integer> weights, long totalWeight) {
+		int countColumns = weights.size();
+		double[] scaledWeights = new double[countColumns];
+		Deque<Integer> small = new ArrayDeque<>();
+		Deque<Integer> large = new ArrayDeque<>();
+		for (int i = 0; i < countColumns; i++) {
+			scaledWeights[i] = (double) weights.get(i) * countColumns / totalWeight;
+			if (scaledWeights[i] < 1.0)
+				small.push(i);
+			else
+				large.push(i);
+		}
+		while (!small.isEmpty() && !large.isEmpty()) {
+			int lessThanFull = small.pop();
+			int moreThanFull = large.pop();
+			probabilities[lessThanFull] = scaledWeights[lessThanFull];
+			aliases[lessThanFull] = moreThanFull;
+			scaledWeights[moreThanFull] = scaledWeights[moreThanFull] + scaledWeights[lessThanFull] - 1.0;
+			if (scaledWeights[moreThanFull] < 1.0)
+				small.push(moreThanFull);
+			else
+				large.push(moreThanFull);
+		}
+		// Whatever is left is full up to rounding errors
+		while (!large.isEmpty()) {
+			probabilities[large.pop()] = 1.0;
+		}
+		while (!small.isEmpty()) {
+			probabilities[small.pop()] = 1.0;
 		}
-		return currentChoice;
 	}
 
 	@Override
 	public Shrinkable<T> next(Random random) {
-		int index = random.nextInt(size);
-		return new ShrinkableValue<>(choose(index), shrinkCandidates);
+		return new ShrinkableValue<>(nextValue(random), shrinkCandidates);
+	}
+
+	@Override
+	public T nextValue(Random random) {
+		int column = random.nextInt(probabilities.length);
+		if (random.nextDouble() < probabilities[column])
+			return values.get(column);
+		return values.get(aliases[column]);
 	}
 }
@@ -0,0 +1,33 @@
+package net.jqwik.properties.arbitraries;
+
+import java.util.*;
+
+/**
+ * Same shrinking behaviour as {@linkplain BigIntegerShrinkCandidates} but using primitive long arithmetic
+ * through {@linkplain LongShrinkCandidates} so that shrinking ints never overflows.
+ */
+public class IntegerShrinkCandidates implements ShrinkCandidates<Integer> {
+
+	private final LongShrinkCandidates longShrinkCandidates;
+
+	public IntegerShrinkCandidates(int min, int max) {
+		this.longShrinkCandidates = new LongShrinkCandidates(min, max);
+	}
+
+	@Override
+	public Set<Integer> nextCandidates(Integer value) {
+		int shrunkValue = (int) longShrinkCandidates.nextShrinkValue(value);
+		if (value == shrunkValue)
+			return Collections.emptySet();
+		Set<Integer> candidates = new HashSet<>();
+		candidates.add(shrunkValue);
+		candidates.add((int) longShrinkCandidates.nextShrinkOne(value));
+		return candidates;
+	}
+
+	@Override
+	public int distance(Integer value) {
+		return longShrinkCandidates.distance((long) value);
+	}
+
+}
@@ -22,15 +22,96 @@ class IntegralGeneratingArbitrary implements Arbitrary<BigInteger> {
 		return createGenerator(partitionPoints);
 	}
 
+	/**
+	 * Use primitive int generation and shrinking. Only valid if min and max are within int range.
+	 */
+	RandomGenerator<Integer> integerGenerator(int genSize) {
+		int intMin = min.intValueExact();
+		int intMax = max.intValueExact();
+		long[] partitionPoints = RandomIntegralGenerators.calculateDefaultPartitionPoints(genSize, intMin, intMax);
+		IntegerShrinkCandidates shrinkCandidates = new IntegerShrinkCandidates(intMin, intMax);
+		List<Shrinkable<Integer>> samples =
+			sampleValues() //
+				.map(BigInteger::intValueExact) //
+				.map(anInt -> new ShrinkableValue<>(anInt, shrinkCandidates)) //
+				.collect(Collectors.toList());
+		int[] intPartitionPoints = Arrays.stream(partitionPoints).mapToInt(aLong -> (int) aLong).toArray();
+		return RandomGenerators.integers(intMin, intMax, intPartitionPoints).withShrinkableSamples(samples);
+	}
+
+	/**
+	 * Use primitive long generation and shrinking. Only valid if min and max are within long range.
+	 */
+	RandomGenerator<Long> longGenerator(int genSize) {
+		long longMin = min.longValueExact();
+		long longMax = max.longValueExact();
+		long[] partitionPoints = RandomIntegralGenerators.calculateDefaultPartitionPoints(genSize, longMin, longMax);
+		LongShrinkCandidates shrinkCandidates = new LongShrinkCandidates(longMin, longMax);
+		List<Shrinkable<Long>> samples =
+			sampleValues() //
+				.map(BigInteger::longValueExact) //
+				.map(aLong -> new ShrinkableValue<>(aLong, shrinkCandidates)) //
+				.collect(Collectors.toList());
+		return RandomGenerators.longs(longMin, longMax, partitionPoints).withShrinkableSamples(samples);
+	}
+
+	@Override
+	public Optional<List<Shrinkable<BigInteger>>> allShrinkables(int maxNumberOfValues) {
+		if (!hasAtMost(maxNumberOfValues))
+			return Optional.empty();
+		BigIntegerShrinkCandidates shrinkCandidates = new BigIntegerShrinkCandidates(min, max);
+		List<Shrinkable<BigInteger>> shrinkables = new ArrayList<>();
+		for (BigInteger value = min; value.compareTo(max) <= 0; value = value.add(BigInteger.ONE)) {
+			shrinkables.add(new ShrinkableValue<>(value, shrinkCandidates));
+		}
+		return Optional.of(shrinkables);
+	}
+
+	Optional<List<Shrinkable<Integer>>> allIntegerShrinkables(int maxNumberOfValues) {
+		if (!hasAtMost(maxNumberOfValues))
+			return Optional.empty();
+		int intMin = min.intValueExact();
+		int intMax = max.intValueExact();
+		IntegerShrinkCandidates shrinkCandidates = new IntegerShrinkCandidates(intMin, intMax);
+		List<Shrinkable<Integer>> shrinkables = new ArrayList<>(intMax - intMin + 1);
+		for (long value = intMin; value <= intMax; value++) {
+			shrinkables.add(new ShrinkableValue<>((int) value, shrinkCandidates));
+		}
+		return Optional.of(shrinkables);
+	}
+
+	Optional<List<Shrinkable<Long>>> allLongShrinkables(int maxNumberOfValues) {
+		if (!hasAtMost(maxNumberOfValues))
+			return Optional.empty();
+		long longMin = min.longValueExact();
+		long longMax = max.longValueExact();
+		LongShrinkCandidates shrinkCandidates = new LongShrinkCandidates(longMin, longMax);
+		List<Shrinkable<Long>> shrinkables = new ArrayList<>((int) (longMax - longMin + 1));
+		for (long value = longMin; value <= longMax && value >= longMin; value++) {
+			shrinkables.add(new ShrinkableValue<>(value, shrinkCandidates));
+		}
+		return Optional.of(shrinkables);
+	}
+
+	private boolean hasAtMost(int maxNumberOfValues) {
+		if (min.compareTo(max) > 0)
+			return false;
+		return max.subtract(min).compareTo(BigInteger.valueOf(maxNumberOfValues)) < 0;
+	}
+
 	private RandomGenerator<BigInteger> createGenerator(BigInteger[] partitionPoints) {
 		BigIntegerShrinkCandidates shrinkCandidates = new BigIntegerShrinkCandidates(min, max);
 		List<Shrinkable<BigInteger>> samples =
-			Arrays.stream(new BigInteger[]{BigInteger.ZERO, BigInteger.ONE, BigInteger.ONE.negate(), min, max}) //
-				  .distinct() //
-				  .filter(aBigInt -> aBigInt.compareTo(min) >= 0 && aBigInt.compareTo(max) <= 0) //
+			sampleValues() //
 				  .map(anInt -> new ShrinkableValue<>(anInt, shrinkCandidates)) //
 				  .collect(Collectors.toList());
 		return RandomGenerators.bigIntegers(min, max, partitionPoints).withShrinkableSamples(samples);
 	}
 
+	private Stream<BigInteger> sampleValues() {
+		return Arrays.stream(new BigInteger[]{BigInteger.ZERO, BigInteger.ONE, BigInteger.ONE.negate(), min, max}) //
+					 .distinct() //
+					 .filter(aBigInt -> aBigInt.compareTo(min) >= 0 && aBigInt.compareTo(max) <= 0);
+	}
+
 }
@@ -1,11 +1,21 @@
 package net.jqwik.properties.arbitraries;
 
 import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
 
 import net.jqwik.api.Shrinkable;
+import net.jqwik.properties.*;
 
+/**
+ * Cuts lists the way delta debugging's ddmin does: A list is split into 2, 4, 8 ... chunks
+ * down to single elements and each candidate leaves out one of the chunks.
+ */
 public class ListShrinkCandidates<T> implements ShrinkCandidates<List<Shrinkable<T>>> {
 
+	// Candidates of finer granularity are only created lazily since there can be as many as elements
+	public static final int MAX_GRANULARITY_AT_ONCE = 16;
+
 	private final int minSize;
 
 	public ListShrinkCandidates() {
@@ -18,55 +28,59 @@ public class ListShrinkCandidates<T> implements ShrinkCandidates<List<Shrinkable
 
 	@Override
 	public Set<List<Shrinkable<T>>> nextCandidates(List<Shrinkable<T>> toShrink) {
-		if (toShrink.size() <= minSize)
-			return Collections.emptySet();
-		Set<List<Shrinkable<T>>> lists = new HashSet<>();
-		appendRightCut(toShrink, lists);
-		appendLeftCut(toShrink, lists);
-		return lists;
-	}
-
-	private void appendLeftCut(List<Shrinkable<T>> toShrink, Set<List<Shrinkable<T>>> lists) {
-		List<Shrinkable<T>> leftCut = new ArrayList<>(toShrink);
-		int elementsToCut = calculateElementsToCut(toShrink.size());
-		cutFromLeft(leftCut, elementsToCut);
-		lists.add(leftCut);
+		return chunksToCut(toShrink.size(), minSize).stream() //
+			.map(chunk -> chunk.cutFrom(toShrink)) //
+			.collect(Collectors.toSet());
 	}
 
-	private int calculateElementsToCut(int listSize) {
-		int toCut = rawElementsToCut(listSize);
-		return Math.min(toCut, listSize - minSize);
+	/**
+	 * All candidates of all granularities with larger chunks cut first.
+	 * Chunks and candidates are only created when they are requested from the stream.
+	 */
+	public Stream<List<Shrinkable<T>>> nextCandidatesLazily(List<Shrinkable<T>> toShrink) {
+		return chunksToCutLazily(toShrink.size(), minSize) //
+			.map(chunk -> chunk.cutFrom(toShrink));
 	}
 
-	private int rawElementsToCut(int listSize) {
-		// TODO: Improve cut size. Those values are purely guesses.
-		// Maybe use integer shrinking to determine target size.
-		if (listSize <= 10)
-			return 1;
-		if (listSize < 20)
-			return listSize - 9;
-		return listSize / 2;
+	/**
+	 * The chunks of a sequence of {@code size} elements that {@linkplain #nextCandidates(List)} cuts
+	 */
+	static Collection<Chunk> chunksToCut(int size, int minSize) {
+		Set<Chunk> chunks = new LinkedHashSet<>();
+		int granularity = Math.min(2, size);
+		while (granularity > 0) {
+			chunksOfGranularity(size, minSize, granularity).forEach(chunks::add);
+			// Near the minimum size only finer chunks can be cut
+			if (granularity >= Math.min(size, MAX_GRANULARITY_AT_ONCE) && !chunks.isEmpty())
+				break;
+			granularity = nextGranularity(granularity, size);
+		}
+		return chunks;
 	}
 
-	private void cutFromLeft(List<Shrinkable<T>> leftCut, int elementsToCut) {
-		if (elementsToCut == 0)
-			return;
-		leftCut.remove(0);
-		cutFromLeft(leftCut, --elementsToCut);
+	/**
+	 * The chunks of a sequence of {@code size} elements that {@linkplain #nextCandidatesLazily(List)} cuts
+	 */
+	static Stream<Chunk> chunksToCutLazily(int size, int minSize) {
+		List<Supplier<Stream<Chunk>>> chunksOfAllGranularities = new ArrayList<>();
+		for (int granularity = Math.min(2, size); granularity > 0; granularity = nextGranularity(granularity, size)) {
+			int chunksGranularity = granularity;
+			chunksOfAllGranularities.add(() -> chunksOfGranularity(size, minSize, chunksGranularity));
+		}
+		// Small sequences can have the same chunk on several granularities
+		return ShrinkingHelper.concatLazily(chunksOfAllGranularities).distinct();
 	}
 
-	private void appendRightCut(List<Shrinkable<T>> toShrink, Set<List<Shrinkable<T>>> lists) {
-		List<Shrinkable<T>> rightCut = new ArrayList<>(toShrink);
-		int elementsToCut = calculateElementsToCut(toShrink.size());
-		cutFromRight(rightCut, elementsToCut);
-		lists.add(rightCut);
+	private static int nextGranularity(int granularity, int listSize) {
+		if (granularity == listSize)
+			return 0;
+		return Math.min(granularity * 2, listSize);
 	}
 
-	private void cutFromRight(List<Shrinkable<T>> rightCut, int elementsToCut) {
-		if (elementsToCut == 0)
-			return;
-		rightCut.remove(rightCut.size() - 1);
-		cutFromRight(rightCut, --elementsToCut);
+	private static Stream<Chunk> chunksOfGranularity(int size, int minSize, int granularity) {
+		return IntStream.range(0, granularity) //
+			.mapToObj(index -> Chunk.of(size, granularity, index)) //
+			.filter(chunk -> size - chunk.size() >= minSize);
 	}
 
 	@Override
@@ -82,4 +96,53 @@ public class ListShrinkCandidates<T> implements ShrinkCandidates<List<Shrinkable
 		}
 		return value.size() + sumOfDistances;
 	}
+
+	static class Chunk {
+
+		private static Chunk of(int size, int granularity, int index) {
+			int from = (int) ((long) size * index / granularity);
+			int to = (int) ((long) size * (index + 1) / granularity);
+			return new Chunk(from, to);
+		}
+
+		private final int from;
+		private final int to;
+
+		private Chunk(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		private int size() {
+			return to - from;
+		}
+
+		// Two bulk copies instead of removing elements one by one
+		<E> List<E> cutFrom(List<E> list) {
+			List<E> cut = new ArrayList<>(list.size() - size());
+			cut.addAll(list.subList(0, from));
+			cut.addAll(list.subList(to, list.size()));
+			return cut;
+		}
+
+		char[] cutFrom(char[] chars) {
+			char[] cut = new char[chars.length - size()];
+			System.arraycopy(chars, 0, cut, 0, from);
+			System.arraycopy(chars, to, cut, from, chars.length - to);
+			return cut;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Chunk chunk = (Chunk) o;
+			return from == chunk.from && to == chunk.to;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(from, to);
+		}
+	}
 }
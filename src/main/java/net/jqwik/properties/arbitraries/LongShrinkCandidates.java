@@ -0,0 +1,73 @@
+package net.jqwik.properties.arbitraries;
+
+import java.util.*;
+
+/**
+ * Same shrinking behaviour as {@linkplain BigIntegerShrinkCandidates} but using primitive long arithmetic.
+ */
+public class LongShrinkCandidates implements ShrinkCandidates<Long> {
+
+	private final long min;
+	private final long max;
+
+	public LongShrinkCandidates(long min, long max) {
+		this.min = Math.min(min, max);
+		this.max = Math.max(min, max);
+	}
+
+	@Override
+	public Set<Long> nextCandidates(Long value) {
+		long shrunkValue = nextShrinkValue(value);
+		if (value == shrunkValue)
+			return Collections.emptySet();
+		Set<Long> candidates = new HashSet<>();
+		candidates.add(shrunkValue);
+		candidates.add(nextShrinkOne(value));
+		return candidates;
+	}
+
+	@Override
+	public int distance(Long value) {
+		return distance((long) value);
+	}
+
+	int distance(long value) {
+		// Target and value are never on different sides of zero so the difference cannot overflow
+		long diff = determineTarget(value) - value;
+		if (diff == Long.MIN_VALUE)
+			return Integer.MAX_VALUE;
+		return (int) Math.min(Math.abs(diff), Integer.MAX_VALUE);
+	}
+
+	long nextShrinkValue(long value) {
+		return value - calculateDelta(determineTarget(value), value);
+	}
+
+	long nextShrinkOne(long value) {
+		return value - calculateDeltaOne(determineTarget(value), value);
+	}
+
+	private static long calculateDelta(long current, long target) {
+		if (target > current)
+			return Math.max((target - current) / 2, 1);
+		if (target < current)
+			return Math.min((target - current) / 2, -1);
+		return 0;
+	}
+
+	private static long calculateDeltaOne(long current, long target) {
+		return Long.signum(target - current);
+	}
+
+	private long determineTarget(long value) {
+		if (value < min || value > max) {
+			return value;
+		}
+		if (min <= 0 && max >= 0)
+			return 0;
+		if (value < 0)
+			return max;
+		return min;
+	}
+
+}
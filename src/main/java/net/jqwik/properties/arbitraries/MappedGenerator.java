@@ -0,0 +1,41 @@
+package net.jqwik.properties.arbitraries;
+
+import net.jqwik.api.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Mapping a mapped generator again composes both mappers so that a chain of maps
+ * results in a single stage - and a single {@linkplain MappedShrinkable} per value.
+ */
+public class MappedGenerator<T, U> implements RandomGenerator<U> {
+
+	private final RandomGenerator<T> toMap;
+	private final Function<T, U> mapper;
+
+	public MappedGenerator(RandomGenerator<T> toMap, Function<T, U> mapper) {
+		this.toMap = toMap;
+		this.mapper = mapper;
+	}
+
+	@Override
+	public Shrinkable<U> next(Random random) {
+		return toMap.next(random).map(mapper);
+	}
+
+	@Override
+	public U nextValue(Random random) {
+		return mapper.apply(toMap.nextValue(random));
+	}
+
+	@Override
+	public Shrinkable<U> sampleRandomly(Random random) {
+		return toMap.sampleRandomly(random).map(mapper);
+	}
+
+	@Override
+	public <V> RandomGenerator<V> map(Function<U, V> nextMapper) {
+		return new MappedGenerator<>(toMap, mapper.andThen(nextMapper));
+	}
+}
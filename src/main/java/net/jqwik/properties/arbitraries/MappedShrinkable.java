@@ -1,34 +1,70 @@
 package net.jqwik.properties.arbitraries;
 
+import net.jqwik.api.*;
+import net.jqwik.properties.*;
+
 import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
 
-import net.jqwik.api.*;
-import net.jqwik.properties.*;
-
 public class MappedShrinkable<T, U> implements Shrinkable<U> {
 
 	private final Shrinkable<T> toMap;
 	private final Function<T, U> mapper;
-	private final U value;
+	private U value;
+	// Volatile since candidates can be checked concurrently while shrinking
+	private volatile boolean valueMapped = false;
 
 	public MappedShrinkable(Shrinkable<T> toMap, Function<T, U> mapper) {
 		this.toMap = toMap;
 		this.mapper = mapper;
-		this.value = mapper.apply(toMap.value());
+	}
+
+	private MappedShrinkable(Shrinkable<T> toMap, Function<T, U> mapper, U value) {
+		this(toMap, mapper);
+		this.value = value;
+		this.valueMapped = true;
 	}
 
 	@Override
 	public Set<ShrinkResult<Shrinkable<U>>> shrinkNext(Predicate<U> falsifier) {
-		Predicate<T> toMapPredicate = aT -> falsifier.test(mapper.apply(aT));
+		// Shrinkables hand out the same instance that was falsified, so each candidate is only mapped once
+		Map<T, U> mappedCandidates = Collections.synchronizedMap(new IdentityHashMap<>());
+		Predicate<T> toMapPredicate = aT -> {
+			U mapped = mapper.apply(aT);
+			mappedCandidates.put(aT, mapped);
+			return falsifier.test(mapped);
+		};
 		return toMap.shrinkNext(toMapPredicate).stream() //
-					.map(shrinkResult -> shrinkResult.map(shrunkValue -> (Shrinkable<U>) new MappedShrinkable<>(shrunkValue, mapper))) //
+					.map(shrinkResult -> shrinkResult.map(shrunkValue -> toShrinkable(shrunkValue, mappedCandidates))) //
 					.collect(Collectors.toSet());
 	}
 
+	@Override
+	public Stream<ShrinkResult<Shrinkable<U>>> shrinkNextLazily(Predicate<U> falsifier) {
+		Map<T, U> mappedCandidates = Collections.synchronizedMap(new IdentityHashMap<>());
+		Predicate<T> toMapPredicate = aT -> {
+			U mapped = mapper.apply(aT);
+			mappedCandidates.put(aT, mapped);
+			return falsifier.test(mapped);
+		};
+		return toMap.shrinkNextLazily(toMapPredicate) //
+					.map(shrinkResult -> shrinkResult.map(shrunkValue -> toShrinkable(shrunkValue, mappedCandidates)));
+	}
+
+	private Shrinkable<U> toShrinkable(Shrinkable<T> shrunkValue, Map<T, U> mappedCandidates) {
+		T candidate = shrunkValue.value();
+		if (mappedCandidates.containsKey(candidate))
+			return new MappedShrinkable<>(shrunkValue, mapper, mappedCandidates.get(candidate));
+		return new MappedShrinkable<>(shrunkValue, mapper);
+	}
+
 	@Override
 	public U value() {
+		if (!valueMapped) {
+			value = mapper.apply(toMap.value());
+			valueMapped = true;
+		}
 		return value;
 	}
 
@@ -37,6 +73,14 @@ public class MappedShrinkable<T, U> implements Shrinkable<U> {
 		return toMap.distance();
 	}
 
+	@Override
+	public <V> Shrinkable<V> map(Function<U, V> nextMapper) {
+		Function<T, V> composedMapper = mapper.andThen(nextMapper);
+		if (valueMapped)
+			return new MappedShrinkable<>(toMap, composedMapper, nextMapper.apply(value));
+		return new MappedShrinkable<>(toMap, composedMapper);
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o)
@@ -44,16 +88,16 @@ public class MappedShrinkable<T, U> implements Shrinkable<U> {
 		if (o == null || !(o instanceof Shrinkable))
 			return false;
 		Shrinkable<?> that = (Shrinkable<?>) o;
-		return Objects.equals(value, that.value());
+		return Objects.equals(value(), that.value());
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(value);
+		return Objects.hash(value());
 	}
 
 	@Override
 	public String toString() {
-		return String.format("MappedShrinkable[%s:%d]", value, distance());
+		return String.format("MappedShrinkable[%s:%d]", value(), distance());
 	}
 }
@@ -9,6 +9,10 @@ import java.util.*;
 // TODO: Remove duplication with RandomIntegralGenerators
 class RandomDecimalGenerators {
 
+	// Highest power of ten that can be represented exactly as a double
+	private static final int MAX_EXACT_POWER_OF_TEN = 22;
+	private static final double MAX_EXACT_INTEGRAL = 1L << 53;
+
 	static RandomGenerator<BigDecimal> bigDecimals(
 		BigDecimal min, BigDecimal max, int scale, BigDecimal[] partitionPoints
 	) {
@@ -31,10 +35,7 @@ class RandomDecimalGenerators {
 		BigDecimal min, BigDecimal max, int scale, BigDecimal[] partitionPoints
 	) {
 		List<RandomGenerator<BigDecimal>> generators = createPartitions(min, max, scale, partitionPoints);
-		if (generators.size() == 1) {
-			return generators.get(0);
-		}
-		return random -> generators.get(random.nextInt(generators.size())).next(random);
+		return RandomGenerators.choosePartition(generators);
 	}
 
 	private static List<RandomGenerator<BigDecimal>> createPartitions(
@@ -61,11 +62,91 @@ class RandomDecimalGenerators {
 	private static RandomGenerator<BigDecimal> createBaseGenerator(BigDecimal min, BigDecimal max, int scale) {
 		BigInteger scaledMin = min.scaleByPowerOfTen(scale).toBigInteger();
 		BigInteger scaledMax = max.scaleByPowerOfTen(scale).toBigInteger();
-		return random -> {
+		BigDecimalShrinkCandidates shrinkCandidates = new BigDecimalShrinkCandidates(min, max, scale);
+		return new ShrinkableValueGenerator<>(random -> {
 			BigInteger randomIntegral = randomIntegral(random, scaledMin, scaledMax);
-			BigDecimal randomDecimal = new BigDecimal(randomIntegral, scale);
-			return new ShrinkableValue<>(randomDecimal, new BigDecimalShrinkCandidates(min, max, scale));
-		};
+			return new BigDecimal(randomIntegral, scale);
+		}, shrinkCandidates);
+	}
+
+	static RandomGenerator<Double> doubles(double min, double max, int scale, double[] partitionPoints) {
+		if (scale < 0) {
+			throw new JqwikException(String.format("Scale [%s] must be positive.", scale));
+		}
+
+		if (min == max) {
+			return ignored -> Shrinkable.unshrinkable(min);
+		}
+
+		if (min > max) {
+			throw new JqwikException(String.format("Min value [%s] must not be greater that max value [%s].", min, max));
+		}
+
+		List<RandomGenerator<Double>> generators = new ArrayList<>();
+		Arrays.sort(partitionPoints);
+		double lower = min;
+		for (double upper : partitionPoints) {
+			if (upper <= lower) {
+				continue;
+			}
+			if (upper >= max) {
+				break;
+			}
+			generators.add(createDoubleGenerator(lower, upper, scale));
+			lower = upper;
+		}
+		generators.add(createDoubleGenerator(lower, max, scale));
+		return RandomGenerators.choosePartition(generators);
+	}
+
+	private static RandomGenerator<Double> createDoubleGenerator(double min, double max, int scale) {
+		DoubleShrinkCandidates shrinkCandidates = new DoubleShrinkCandidates(min, max, scale);
+		BigInteger scaledMin = BigDecimal.valueOf(min).scaleByPowerOfTen(scale).toBigInteger();
+		BigInteger scaledMax = BigDecimal.valueOf(max).scaleByPowerOfTen(scale).toBigInteger();
+		if (scale <= MAX_EXACT_POWER_OF_TEN && isExactInDouble(scaledMin) && isExactInDouble(scaledMax)) {
+			return createScaledLongGenerator(scaledMin.longValueExact(), scaledMax.longValueExact(), scale, shrinkCandidates);
+		}
+		return createContinuousGenerator(min, max, scale, shrinkCandidates);
+	}
+
+	/**
+	 * Chooses the scaled value exactly like {@linkplain #createBaseGenerator(BigDecimal, BigDecimal, int)}
+	 * so that a given seed produces the same values as the BigDecimal generator.
+	 * Dividing by the power of ten is exact since both the scaled value and the divisor are exact doubles.
+	 */
+	private static RandomGenerator<Double> createScaledLongGenerator(
+		long scaledMin, long scaledMax, int scale, DoubleShrinkCandidates shrinkCandidates
+	) {
+		double divisor = Math.pow(10, scale);
+		int bits = RandomIntegralGenerators.bitLengthOfRange(scaledMin, scaledMax);
+		return new ShrinkableValueGenerator<>(random -> {
+			long scaledValue = RandomIntegralGenerators.randomLong(random, scaledMin, scaledMax, bits);
+			return scaledValue / divisor;
+		}, shrinkCandidates);
+	}
+
+	/**
+	 * Used for ranges too big to be enumerated by a long. Values at those magnitudes have
+	 * hardly any decimals left so uniformly choosing a double and rounding it to scale is good enough.
+	 */
+	private static RandomGenerator<Double> createContinuousGenerator(
+		double min, double max, int scale, DoubleShrinkCandidates shrinkCandidates
+	) {
+		double factor = Math.pow(10, scale);
+		return new ShrinkableValueGenerator<>(random -> {
+			double fraction = random.nextDouble();
+			// Weighing both borders separately prevents overflow of (max - min)
+			double value = min * (1 - fraction) + max * fraction;
+			double scaled = value * factor;
+			if (Math.abs(scaled) < MAX_EXACT_INTEGRAL) {
+				value = (scaled < 0 ? Math.ceil(scaled) : Math.floor(scaled)) / factor;
+			}
+			return Math.max(min, Math.min(max, value));
+		}, shrinkCandidates);
+	}
+
+	private static boolean isExactInDouble(BigInteger integral) {
+		return integral.abs().compareTo(BigInteger.valueOf((long) MAX_EXACT_INTEGRAL)) <= 0;
 	}
 
 	private static BigInteger randomIntegral(Random random, BigInteger min, BigInteger max) {
@@ -87,4 +168,11 @@ class RandomDecimalGenerators {
 		BigDecimal lowerPartitionPoint = BigDecimal.valueOf(partitionPoint).negate().max(min);
 		return new BigDecimal[]{lowerPartitionPoint, upperPartitionPoint};
 	}
+
+	static double[] calculateDefaultPartitionPoints(int genSize, double min, double max) {
+		double partitionPoint = Math.max(genSize / 2, 10);
+		double upperPartitionPoint = Math.min(partitionPoint, max);
+		double lowerPartitionPoint = Math.max(-partitionPoint, min);
+		return new double[]{lowerPartitionPoint, upperPartitionPoint};
+	}
 }
@@ -10,15 +10,14 @@ import java.util.function.*;
 
 public class RandomGenerators {
 
+	private static final int MAX_SET_MISSES = 10000;
+
 	public static <U> RandomGenerator<U> choose(List<U> values) {
 		if (values.size() == 0) {
 			return fail("empty set of values");
 		}
 		ValuesShrinkCandidates<U> shrinkingCandidates = new ValuesShrinkCandidates<>(values);
-		return random -> {
-			U value = chooseValue(values, random);
-			return new ShrinkableValue<>(value, shrinkingCandidates);
-		};
+		return new ShrinkableValueGenerator<>(random -> chooseValue(values, random), shrinkingCandidates);
 	}
 
 	public static <U> U chooseValue(List<U> values, Random random) {
@@ -47,19 +46,19 @@ public class RandomGenerators {
 	}
 
 	public static RandomGenerator<Byte> bytes(byte min, byte max) {
-		return bigIntegers(BigInteger.valueOf(min), BigInteger.valueOf(max)).map(BigInteger::byteValueExact);
+		return integers(min, max).map(Integer::byteValue);
 	}
 
 	public static RandomGenerator<Short> shorts(short min, short max) {
-		return bigIntegers(BigInteger.valueOf(min), BigInteger.valueOf(max)).map(BigInteger::shortValueExact);
+		return integers(min, max).map(Integer::shortValue);
 	}
 
-	public static RandomGenerator<Integer> integers(int min, int max) {
-		return bigIntegers(BigInteger.valueOf(min), BigInteger.valueOf(max)).map(BigInteger::intValueExact);
+	public static RandomGenerator<Integer> integers(int min, int max, int... partitionPoints) {
+		return RandomIntegralGenerators.integers(min, max, partitionPoints);
 	}
 
-	public static RandomGenerator<Long> longs(long min, long max) {
-		return bigIntegers(BigInteger.valueOf(min), BigInteger.valueOf(max)).map(BigInteger::longValueExact);
+	public static RandomGenerator<Long> longs(long min, long max, long... partitionPoints) {
+		return RandomIntegralGenerators.longs(min, max, partitionPoints);
 	}
 
 	public static RandomGenerator<BigInteger> bigIntegers(
@@ -68,12 +67,12 @@ public class RandomGenerators {
 		return RandomIntegralGenerators.bigIntegers(min, max, partitionPoints);
 	}
 
-	public static RandomGenerator<Double> doubles(double min, double max, int scale) {
-		return bigDecimals(BigDecimal.valueOf(min), BigDecimal.valueOf(max), scale).map(BigDecimal::doubleValue);
+	public static RandomGenerator<Double> doubles(double min, double max, int scale, double... partitionPoints) {
+		return RandomDecimalGenerators.doubles(min, max, scale, partitionPoints);
 	}
 
 	public static RandomGenerator<Float> floats(float min, float max, int scale) {
-		return bigDecimals(BigDecimal.valueOf((double) min), BigDecimal.valueOf((double) max), scale).map(BigDecimal::floatValue);
+		return doubles(min, max, scale).map(Double::floatValue);
 	}
 
 	public static RandomGenerator<BigDecimal> bigDecimals(BigDecimal min, BigDecimal max, int scale, BigDecimal... partitionPoints) {
@@ -104,6 +103,13 @@ public class RandomGenerators {
 		return container(elementGenerator, ContainerShrinkable.CREATE_STRING, minLength, maxLength, defaultCutoff);
 	}
 
+	/**
+	 * Chooses each valid char with equal probability.
+	 */
+	static RandomGenerator<String> strings(List<Range<Character>> charRanges, int minLength, int maxLength, int cutoffLength) {
+		return new StringGenerator(CharacterTable.of(charRanges), minLength, maxLength, cutoffLength);
+	}
+
 	private static int defaultCutoffSize(int minSize, int maxSize) {
 		int range = maxSize - minSize;
 		int offset = (int) Math.max(Math.round(Math.sqrt(100)), 10);
@@ -118,17 +124,30 @@ public class RandomGenerators {
 														int minSize, int maxSize, int cutoffSize
 	) {
 		Function<Random, Integer> sizeGenerator = sizeGenerator(minSize, maxSize, cutoffSize);
-		return random -> {
-			int listSize = sizeGenerator.apply(random);
-			List<Shrinkable<T>> list = new ArrayList<>();
-			while (list.size() < listSize) {
-				list.add(elementGenerator.next(random));
+		return new RandomGenerator<C>() {
+			@Override
+			public Shrinkable<C> next(Random random) {
+				int listSize = sizeGenerator.apply(random);
+				List<Shrinkable<T>> list = new ArrayList<>();
+				while (list.size() < listSize) {
+					list.add(elementGenerator.next(random));
+				}
+				return new ContainerShrinkable<>(list, containerFunction, minSize);
+			}
+
+			@Override
+			public C nextValue(Random random) {
+				int listSize = sizeGenerator.apply(random);
+				List<T> list = new ArrayList<>(listSize);
+				while (list.size() < listSize) {
+					list.add(elementGenerator.nextValue(random));
+				}
+				return containerFunction.apply(list);
 			}
-			return new ContainerShrinkable<>(list, containerFunction, minSize);
 		};
 	}
 
-	private static Function<Random, Integer> sizeGenerator(int minSize, int maxSize, int cutoffSize) {
+	static Function<Random, Integer> sizeGenerator(int minSize, int maxSize, int cutoffSize) {
 		if (cutoffSize >= maxSize)
 			return random -> randomSize(random, minSize, maxSize);
 		// Choose size below cutoffSize with probability of 0.9
@@ -154,21 +173,96 @@ public class RandomGenerators {
 		RandomGenerator<T> elementGenerator, int minSize, int maxSize, int cutoffSize
 	) {
 		Function<Random, Integer> sizeGenerator = sizeGenerator(minSize, maxSize, cutoffSize);
-		return random -> {
-			int listSize = sizeGenerator.apply(random);
-			List<Shrinkable<T>> list = new ArrayList<>();
-			Set<T> elements = new HashSet<>();
-			while (list.size() < listSize) {
-				Shrinkable<T> next = elementGenerator.next(random);
-				if (elements.contains(next.value()))
-					continue;
-				list.add(next);
-				elements.add(next.value());
+		return new RandomGenerator<Set<T>>() {
+			@Override
+			public Shrinkable<Set<T>> next(Random random) {
+				int listSize = sizeGenerator.apply(random);
+				List<Shrinkable<T>> list = new ArrayList<>();
+				Set<T> elements = new HashSet<>();
+				int misses = 0;
+				while (list.size() < listSize) {
+					Shrinkable<T> next = elementGenerator.next(random);
+					if (elements.contains(next.value())) {
+						misses = countSetMiss(misses, listSize, elements.size());
+						continue;
+					}
+					misses = 0;
+					list.add(next);
+					elements.add(next.value());
+				}
+				return new ContainerShrinkable<>(list, HashSet::new, minSize);
+			}
+
+			@Override
+			public Set<T> nextValue(Random random) {
+				int setSize = sizeGenerator.apply(random);
+				Set<T> elements = new HashSet<>();
+				int misses = 0;
+				while (elements.size() < setSize) {
+					if (elements.add(elementGenerator.nextValue(random)))
+						misses = 0;
+					else
+						misses = countSetMiss(misses, setSize, elements.size());
+				}
+				return elements;
+			}
+		};
+	}
+
+	private static int countSetMiss(int misses, int setSize, int foundElements) {
+		if (++misses > MAX_SET_MISSES) {
+			throw new JqwikException(String.format(
+				"Could not generate a set of size %s: Only %s different elements were found before %s duplicates in a row.",
+				setSize, foundElements, MAX_SET_MISSES));
+		}
+		return misses;
+	}
+
+	/**
+	 * Chooses set elements from all possible {@code elements} without replacement using Floyd's algorithm.
+	 * Elements must have different values and there must be at least {@code maxSize} of them.
+	 */
+	static <T> RandomGenerator<Set<T>> chooseSet(List<Shrinkable<T>> elements, int minSize, int maxSize, int cutoffSize) {
+		Function<Random, Integer> sizeGenerator = sizeGenerator(minSize, maxSize, cutoffSize);
+		return new RandomGenerator<Set<T>>() {
+			@Override
+			public Shrinkable<Set<T>> next(Random random) {
+				int[] indices = chooseDistinctIndices(random, elements.size(), sizeGenerator.apply(random));
+				List<Shrinkable<T>> list = new ArrayList<>(indices.length);
+				for (int index : indices) {
+					list.add(elements.get(index));
+				}
+				return new ContainerShrinkable<>(list, HashSet::new, minSize);
+			}
+
+			@Override
+			public Set<T> nextValue(Random random) {
+				int[] indices = chooseDistinctIndices(random, elements.size(), sizeGenerator.apply(random));
+				Set<T> set = new HashSet<>();
+				for (int index : indices) {
+					set.add(elements.get(index).value());
+				}
+				return set;
 			}
-			return new ContainerShrinkable<>(list, HashSet::new, minSize);
 		};
 	}
 
+	private static int[] chooseDistinctIndices(Random random, int countElements, int countIndices) {
+		int[] indices = new int[countIndices];
+		Set<Integer> chosen = new HashSet<>();
+		int next = 0;
+		for (int candidate = countElements - countIndices; candidate < countElements; candidate++) {
+			int index = random.nextInt(candidate + 1);
+			if (!chosen.add(index)) {
+				// candidate itself cannot have been chosen before
+				index = candidate;
+				chosen.add(index);
+			}
+			indices[next++] = index;
+		}
+		return indices;
+	}
+
 	public static <T> RandomGenerator<T> samples(List<Shrinkable<T>> samples) {
 		AtomicInteger tryCount = new AtomicInteger(0);
 		return ignored -> {
@@ -183,6 +277,26 @@ public class RandomGenerators {
 		return samples(Arrays.asList(samples));
 	}
 
+	/**
+	 * Chooses one of the generators with equal probability for each value.
+	 */
+	static <T> RandomGenerator<T> choosePartition(List<RandomGenerator<T>> partitions) {
+		if (partitions.size() == 1) {
+			return partitions.get(0);
+		}
+		return new RandomGenerator<T>() {
+			@Override
+			public Shrinkable<T> next(Random random) {
+				return partitions.get(random.nextInt(partitions.size())).next(random);
+			}
+
+			@Override
+			public T nextValue(Random random) {
+				return partitions.get(random.nextInt(partitions.size())).nextValue(random);
+			}
+		};
+	}
+
 	public static <T> RandomGenerator<T> frequency(Tuples.Tuple2<Integer, T>[] frequencies) {
 		return new FrequencyGenerator<>(frequencies);
 	}
@@ -5,6 +5,7 @@ import net.jqwik.api.*;
 
 import java.math.*;
 import java.util.*;
+import java.util.function.*;
 
 // TODO: Remove duplication with RandomDecimalGenerators
 class RandomIntegralGenerators {
@@ -25,10 +26,7 @@ class RandomIntegralGenerators {
 		BigInteger min, BigInteger max, BigInteger[] partitionPoints
 	) {
 		List<RandomGenerator<BigInteger>> generators = createPartitions(min, max, partitionPoints);
-		if (generators.size() == 1) {
-			return generators.get(0);
-		}
-		return random -> generators.get(random.nextInt(generators.size())).next(random);
+		return RandomGenerators.choosePartition(generators);
 	}
 
 	private static List<RandomGenerator<BigInteger>> createPartitions(
@@ -64,26 +62,22 @@ class RandomIntegralGenerators {
 		BigIntegerShrinkCandidates shrinkCandidates = new BigIntegerShrinkCandidates(min, max);
 		BigInteger range = max.subtract(min);
 		int bits = range.bitLength();
-		return random -> {
+		return new ShrinkableValueGenerator<>(random -> {
 			while (true) {
 				BigInteger rawValue = new BigInteger(bits, random);
 				BigInteger value = rawValue.add(min);
 				if (value.compareTo(min) >= 0 && value.compareTo(max) <= 0) {
-					return new ShrinkableValue<>(value, shrinkCandidates);
+					return value;
 				}
 			}
-		};
+		}, shrinkCandidates);
 	}
 
 	private static RandomGenerator<BigInteger> createIntegerGenerator(BigInteger min, BigInteger max) {
 		BigIntegerShrinkCandidates shrinkCandidates = new BigIntegerShrinkCandidates(min, max);
 		final int _min = Math.min(min.intValue(), max.intValue());
 		final int _max = Math.max(min.intValue(), max.intValue());
-		return random -> {
-			int bound = Math.abs(_max - _min) + 1;
-			int value = random.nextInt(bound >= 0 ? bound : Integer.MAX_VALUE) + _min;
-			return new ShrinkableValue<>(BigInteger.valueOf(value), shrinkCandidates);
-		};
+		return new ShrinkableValueGenerator<>(random -> BigInteger.valueOf(randomInt(random, _min, _max)), shrinkCandidates);
 	}
 
 	private static boolean isWithinIntegerRange(BigInteger min, BigInteger max) {
@@ -91,6 +85,119 @@ class RandomIntegralGenerators {
 			&& max.compareTo(BigInteger.valueOf(Integer.MAX_VALUE)) <= 0;
 	}
 
+	static RandomGenerator<Integer> integers(int min, int max, int[] partitionPoints) {
+		if (min == max) {
+			return ignored -> Shrinkable.unshrinkable(min);
+		}
+
+		if (min > max) {
+			throw new JqwikException(String.format("Min value [%s] must not be greater that max value [%s].", min, max));
+		}
+
+		List<RandomGenerator<Integer>> generators = new ArrayList<>();
+		forEachPartition(min, max, toLongs(partitionPoints), (lower, upper) -> {
+			generators.add(createIntegerGenerator(lower.intValue(), upper.intValue()));
+		});
+		return RandomGenerators.choosePartition(generators);
+	}
+
+	static RandomGenerator<Long> longs(long min, long max, long[] partitionPoints) {
+		if (min == max) {
+			return ignored -> Shrinkable.unshrinkable(min);
+		}
+
+		if (min > max) {
+			throw new JqwikException(String.format("Min value [%s] must not be greater that max value [%s].", min, max));
+		}
+
+		List<RandomGenerator<Long>> generators = new ArrayList<>();
+		forEachPartition(min, max, partitionPoints, (lower, upper) -> {
+			generators.add(createLongGenerator(lower, upper));
+		});
+		return RandomGenerators.choosePartition(generators);
+	}
+
+	private static void forEachPartition(long min, long max, long[] partitionPoints, BiConsumer<Long, Long> partitionConsumer) {
+		Arrays.sort(partitionPoints);
+		long lower = min;
+		for (long upper : partitionPoints) {
+			if (upper <= lower) {
+				continue;
+			}
+			if (upper >= max) {
+				break;
+			}
+			partitionConsumer.accept(lower, upper - 1);
+			lower = upper;
+		}
+		partitionConsumer.accept(lower, max);
+	}
+
+	private static long[] toLongs(int[] ints) {
+		return Arrays.stream(ints).asLongStream().toArray();
+	}
+
+	private static RandomGenerator<Integer> createIntegerGenerator(int min, int max) {
+		IntegerShrinkCandidates shrinkCandidates = new IntegerShrinkCandidates(min, max);
+		return new ShrinkableValueGenerator<>(random -> randomInt(random, min, max), shrinkCandidates);
+	}
+
+	private static RandomGenerator<Long> createLongGenerator(long min, long max) {
+		LongShrinkCandidates shrinkCandidates = new LongShrinkCandidates(min, max);
+		if (min >= Integer.MIN_VALUE && max <= Integer.MAX_VALUE) {
+			int _min = (int) min;
+			int _max = (int) max;
+			return new ShrinkableValueGenerator<>(random -> (long) randomInt(random, _min, _max), shrinkCandidates);
+		}
+		int bits = bitLengthOfRange(min, max);
+		return new ShrinkableValueGenerator<>(random -> randomLong(random, min, max, bits), shrinkCandidates);
+	}
+
+	/**
+	 * Chooses a value between min and max exactly like {@linkplain #createBigIntegerGenerator(BigInteger, BigInteger)}
+	 * so that a given seed produces the same values.
+	 *
+	 * @param bits must be the result of {@linkplain #bitLengthOfRange(long, long)}
+	 */
+	static long randomLong(Random random, long min, long max, int bits) {
+		while (true) {
+			long value = randomBits(random, bits) + min;
+			if (value >= min && value <= max) {
+				return value;
+			}
+		}
+	}
+
+	private static int randomInt(Random random, int min, int max) {
+		int bound = Math.abs(max - min) + 1;
+		return random.nextInt(bound >= 0 ? bound : Integer.MAX_VALUE) + min;
+	}
+
+	static int bitLengthOfRange(long min, long max) {
+		long range = max - min;
+		// A negative range means it has overflown, i.e. it needs all 64 bits
+		if (range < 0)
+			return Long.SIZE;
+		return Long.SIZE - Long.numberOfLeadingZeros(range);
+	}
+
+	/**
+	 * Consumes randomness exactly like {@code new BigInteger(bits, random)}.
+	 */
+	private static long randomBits(Random random, int bits) {
+		if (bits == 0)
+			return 0;
+		byte[] bytes = new byte[(bits + 7) / 8];
+		random.nextBytes(bytes);
+		int excessBits = 8 * bytes.length - bits;
+		bytes[0] &= (byte) ((1 << (8 - excessBits)) - 1);
+		long value = 0;
+		for (byte aByte : bytes) {
+			value = (value << 8) | (aByte & 0xFF);
+		}
+		return value;
+	}
+
 	// TODO: This could be way more sophisticated
 	static BigInteger[] calculateDefaultPartitionPoints(int tries, BigInteger min, BigInteger max) {
 		int partitionPoint = Math.max(tries / 2, 10);
@@ -98,4 +205,11 @@ class RandomIntegralGenerators {
 		BigInteger lowerPartitionPoint = BigInteger.valueOf(partitionPoint).negate().max(min);
 		return new BigInteger[]{lowerPartitionPoint, upperPartitionPoint};
 	}
+
+	static long[] calculateDefaultPartitionPoints(int tries, long min, long max) {
+		long partitionPoint = Math.max(tries / 2, 10);
+		long upperPartitionPoint = Math.min(partitionPoint, max);
+		long lowerPartitionPoint = Math.max(-partitionPoint, min);
+		return new long[]{lowerPartitionPoint, upperPartitionPoint};
+	}
 }
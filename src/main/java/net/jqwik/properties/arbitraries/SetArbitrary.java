@@ -1,20 +1,51 @@
 package net.jqwik.properties.arbitraries;
 
+import net.jqwik.*;
 import net.jqwik.api.*;
 
 import java.util.*;
 
 public class SetArbitrary<T> extends DefaultCollectionArbitrary<T, Set<T>> {
 
+	// Elements are chosen without replacement if there are not more than this factor times maxSize of them
+	private static final int MAX_ELEMENTS_PER_SET_SIZE = 4;
+
 	public SetArbitrary(Arbitrary<T> elementArbitrary) {
 		super(elementArbitrary);
 	}
 
 	@Override
 	public RandomGenerator<Set<T>> generator(int genSize) {
+		List<Shrinkable<Set<T>>> samples = samplesList(new HashSet<>());
+		Optional<List<Shrinkable<T>>> allElements = elementArbitrary.allShrinkables(maxNumberOfElementsToChooseFrom());
+		if (allElements.isPresent()) {
+			return chooseSetGenerator(distinctValues(allElements.get()), genSize).withShrinkableSamples(samples);
+		}
 		int cutoffSize = cutoffSize(genSize);
 		RandomGenerator<T> elementGenerator = elementGenerator(elementArbitrary, genSize);
-		List<Shrinkable<Set<T>>> samples = samplesList(new HashSet<>());
 		return RandomGenerators.set(elementGenerator, minSize, maxSize, cutoffSize).withShrinkableSamples(samples);
 	}
+
+	private int maxNumberOfElementsToChooseFrom() {
+		return (int) Math.min((long) maxSize * MAX_ELEMENTS_PER_SET_SIZE, Integer.MAX_VALUE);
+	}
+
+	private RandomGenerator<Set<T>> chooseSetGenerator(List<Shrinkable<T>> elements, int genSize) {
+		if (elements.size() < minSize) {
+			throw new JqwikException(String.format(
+				"Cannot generate sets with at least %s elements from only %s different values.", minSize, elements.size()));
+		}
+		int clampedMaxSize = Math.min(maxSize, elements.size());
+		int cutoffSize = RandomGenerators.defaultCutoffSize(minSize, clampedMaxSize, genSize);
+		return RandomGenerators.chooseSet(elements, minSize, clampedMaxSize, cutoffSize);
+	}
+
+	// Mapped values are not necessarily different
+	private List<Shrinkable<T>> distinctValues(List<Shrinkable<T>> shrinkables) {
+		Map<T, Shrinkable<T>> distinct = new LinkedHashMap<>();
+		for (Shrinkable<T> shrinkable : shrinkables) {
+			distinct.putIfAbsent(shrinkable.value(), shrinkable);
+		}
+		return new ArrayList<>(distinct.values());
+	}
 }
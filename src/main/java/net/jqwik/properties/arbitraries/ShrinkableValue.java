@@ -19,11 +19,18 @@ public class ShrinkableValue<T> implements Shrinkable<T> {
 
 	@Override
 	public Set<ShrinkResult<Shrinkable<T>>> shrinkNext(Predicate<T> falsifier) {
+		return ShrinkingHelper.falsifyAll(candidates(), falsifier);
+	}
+
+	private List<Shrinkable<T>> candidates() {
 		return shrinker.nextCandidates(value).stream() //
-					   .map(shrunkValue -> SafeFalsifier.falsify(falsifier, new ShrinkableValue<T>(shrunkValue, shrinker))) //
-					   .filter(Optional::isPresent) //
-					   .map(Optional::get) //
-					   .collect(Collectors.toSet());
+					   .map(shrunkValue -> new ShrinkableValue<>(shrunkValue, shrinker)) //
+					   .collect(Collectors.toList());
+	}
+
+	@Override
+	public Stream<ShrinkResult<Shrinkable<T>>> shrinkNextLazily(Predicate<T> falsifier) {
+		return ShrinkingHelper.lazily(() -> ShrinkingHelper.falsifyInOrder(ShrinkingHelper.sortedByDistance(candidates()), falsifier));
 	}
 
 	@Override
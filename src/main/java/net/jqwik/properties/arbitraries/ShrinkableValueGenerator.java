@@ -0,0 +1,30 @@
+package net.jqwik.properties.arbitraries;
+
+import net.jqwik.api.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Generates plain values and only wraps them in a {@linkplain ShrinkableValue} when a shrinkable is requested.
+ */
+class ShrinkableValueGenerator<T> implements RandomGenerator<T> {
+
+	private final Function<Random, T> valueGenerator;
+	private final ShrinkCandidates<T> shrinkCandidates;
+
+	ShrinkableValueGenerator(Function<Random, T> valueGenerator, ShrinkCandidates<T> shrinkCandidates) {
+		this.valueGenerator = valueGenerator;
+		this.shrinkCandidates = shrinkCandidates;
+	}
+
+	@Override
+	public Shrinkable<T> next(Random random) {
+		return new ShrinkableValue<>(valueGenerator.apply(random), shrinkCandidates);
+	}
+
+	@Override
+	public T nextValue(Random random) {
+		return valueGenerator.apply(random);
+	}
+}
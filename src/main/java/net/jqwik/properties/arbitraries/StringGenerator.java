@@ -0,0 +1,41 @@
+package net.jqwik.properties.arbitraries;
+
+import net.jqwik.api.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Generates strings by filling a char array from a precomputed table of valid chars.
+ * Chars are neither boxed nor wrapped in shrinkables of their own.
+ */
+class StringGenerator implements RandomGenerator<String> {
+
+	private final CharacterTable validChars;
+	private final int minLength;
+	private final Function<Random, Integer> lengthGenerator;
+
+	StringGenerator(CharacterTable validChars, int minLength, int maxLength, int cutoffLength) {
+		this.validChars = validChars;
+		this.minLength = minLength;
+		this.lengthGenerator = RandomGenerators.sizeGenerator(minLength, maxLength, cutoffLength);
+	}
+
+	@Override
+	public Shrinkable<String> next(Random random) {
+		return new StringShrinkable(nextChars(random), validChars, minLength);
+	}
+
+	@Override
+	public String nextValue(Random random) {
+		return new String(nextChars(random));
+	}
+
+	private char[] nextChars(Random random) {
+		char[] chars = new char[lengthGenerator.apply(random)];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = validChars.randomChar(random);
+		}
+		return chars;
+	}
+}
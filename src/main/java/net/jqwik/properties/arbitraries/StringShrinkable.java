@@ -0,0 +1,135 @@
+package net.jqwik.properties.arbitraries;
+
+import net.jqwik.api.*;
+import net.jqwik.properties.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * Shrinks strings the same way as {@linkplain ContainerShrinkable} shrinks lists of chars:
+ * By cutting chunks of chars as {@linkplain ListShrinkCandidates} does and by shrinking single chars
+ * towards the smallest valid char. All work is done on char arrays.
+ */
+class StringShrinkable implements Shrinkable<String> {
+
+	private final char[] chars;
+	private final CharacterTable validChars;
+	private final int minLength;
+	private String value;
+
+	StringShrinkable(char[] chars, CharacterTable validChars, int minLength) {
+		this.chars = chars;
+		this.validChars = validChars;
+		this.minLength = minLength;
+	}
+
+	@Override
+	public Set<ShrinkResult<Shrinkable<String>>> shrinkNext(Predicate<String> falsifier) {
+		Set<ShrinkResult<Shrinkable<String>>> shrinkResults = new HashSet<>();
+		if (chars.length > minLength)
+			shrinkResults.addAll(ShrinkingHelper.falsifyAll(cutCandidates(), falsifier));
+		shrinkResults.addAll(shrinkFirstShrinkablePosition(falsifier));
+		return shrinkResults;
+	}
+
+	private Set<ShrinkResult<Shrinkable<String>>> shrinkFirstShrinkablePosition(Predicate<String> falsifier) {
+		List<Integer> positions = IntStream.range(0, chars.length).boxed().collect(Collectors.toList());
+		return ShrinkingSession.findFirst( //
+			positions, //
+			position -> ShrinkingHelper.falsifyAll(shrinkPositionCandidates(position), falsifier), //
+			shrinkResults -> !shrinkResults.isEmpty() //
+		).orElse(Collections.emptySet());
+	}
+
+	private List<Shrinkable<String>> cutCandidates() {
+		return ListShrinkCandidates.chunksToCut(chars.length, minLength).stream() //
+			.map(this::cut) //
+			.collect(Collectors.toList());
+	}
+
+	private Stream<Shrinkable<String>> lazyCutCandidates() {
+		return ListShrinkCandidates.chunksToCutLazily(chars.length, minLength).map(this::cut);
+	}
+
+	private Shrinkable<String> cut(ListShrinkCandidates.Chunk chunk) {
+		return new StringShrinkable(chunk.cutFrom(chars), validChars, minLength);
+	}
+
+	@Override
+	public Stream<ShrinkResult<Shrinkable<String>>> shrinkNextLazily(Predicate<String> falsifier) {
+		List<Supplier<Stream<ShrinkResult<Shrinkable<String>>>>> steps = new ArrayList<>();
+		if (chars.length > minLength) {
+			steps.add(() -> ShrinkingHelper.falsifyInOrder(lazyCutCandidates(), falsifier));
+		}
+		for (int i = 0; i < chars.length; i++) {
+			int position = i;
+			steps.add(() -> ShrinkingHelper.falsifyInOrder(shrinkPositionCandidates(position), falsifier));
+		}
+		return ShrinkingHelper.concatLazily(steps);
+	}
+
+	private List<Shrinkable<String>> shrinkPositionCandidates(int position) {
+		LongShrinkCandidates indexShrinker = new LongShrinkCandidates(0, validChars.size() - 1);
+		int index = indexOf(chars[position]);
+		long shrunkIndex = indexShrinker.nextShrinkValue(index);
+		if (shrunkIndex == index)
+			return Collections.emptyList();
+		List<Shrinkable<String>> candidates = new ArrayList<>();
+		candidates.add(new StringShrinkable(withCharAt(position, validChars.charAt((int) shrunkIndex)), validChars, minLength));
+		long indexMinusOne = indexShrinker.nextShrinkOne(index);
+		if (indexMinusOne != shrunkIndex)
+			candidates.add(new StringShrinkable(withCharAt(position, validChars.charAt((int) indexMinusOne)), validChars, minLength));
+		return candidates;
+	}
+
+	private char[] withCharAt(int position, char aChar) {
+		char[] shrunkChars = chars.clone();
+		shrunkChars[position] = aChar;
+		return shrunkChars;
+	}
+
+	private int indexOf(char aChar) {
+		return validChars.indexOf(aChar);
+	}
+
+	@Override
+	public String value() {
+		if (value == null)
+			value = new String(chars);
+		return value;
+	}
+
+	@Override
+	public int distance() {
+		// Same as ListShrinkCandidates.distance() with the index of a char being its distance
+		long sumOfDistances = chars.length;
+		for (char aChar : chars) {
+			sumOfDistances += indexOf(aChar);
+			if (sumOfDistances >= Integer.MAX_VALUE)
+				return Integer.MAX_VALUE;
+		}
+		return (int) sumOfDistances;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("StringShrinkable[%s:%d]", value(), distance());
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (o == null || !(o instanceof Shrinkable))
+			return false;
+		Shrinkable<?> that = (Shrinkable<?>) o;
+		return Objects.equals(value(), that.value());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(value());
+	}
+}
@@ -5,6 +5,8 @@ import java.util.*;
 class ValuesShrinkCandidates<T> implements ShrinkCandidates<T> {
 
 	private final List<T> values;
+	// Only needed for shrinking and therefore created on demand
+	private volatile Map<T, Integer> indices;
 
 	ValuesShrinkCandidates(List<T> values) {
 		this.values = values;
@@ -12,15 +14,28 @@ class ValuesShrinkCandidates<T> implements ShrinkCandidates<T> {
 
 	@Override
 	public Set<T> nextCandidates(T value) {
-		int index = values.indexOf(value);
-		if (index == 0) {
+		int index = indexOf(value);
+		if (index <= 0) {
 			return Collections.emptySet();
 		}
+		// All values before index since any of them can be the only one that falsifies
 		return new HashSet<>(values.subList(0, index));
 	}
 
 	@Override
 	public int distance(T value) {
-		return values.indexOf(value);
+		return indexOf(value);
+	}
+
+	private int indexOf(T value) {
+		Map<T, Integer> currentIndices = indices;
+		if (currentIndices == null) {
+			currentIndices = new HashMap<>();
+			for (int i = 0; i < values.size(); i++) {
+				currentIndices.putIfAbsent(values.get(i), i);
+			}
+			indices = currentIndices;
+		}
+		return currentIndices.getOrDefault(value, -1);
 	}
 }
@@ -29,25 +29,33 @@ class ShrinkableActionSequence<M> implements Shrinkable<ActionSequence<M>> {
 		return shrunkList;
 	}
 
+	// Shorter sequences come first, then sequences with shrunk actions
+	@Override
+	public Stream<ShrinkResult<Shrinkable<ActionSequence<M>>>> shrinkNextLazily(Predicate<ActionSequence<M>> falsifier) {
+		return ShrinkingHelper.concatLazily( //
+			() -> {
+				List<Shrinkable<ActionSequence<M>>> candidates = sequenceShrinker.nextCandidates(candidateActions).stream() //
+					.map(shrunkValue -> new ShrinkableActionSequence<>(shrunkValue)) //
+					.collect(Collectors.toList());
+				return ShrinkingHelper.falsifyInOrder(ShrinkingHelper.sortedByDistance(candidates), falsifier);
+			}, //
+			() -> actionsShrinker().shrinkNextLazily(actionsFalsifier(falsifier)) //
+				.map(listShrinkResult -> listShrinkResult //
+					.map(listShrinkableAction -> new ShrinkableActionSequence<>(listShrinkableAction))) //
+		);
+	}
+
 	private Set<ShrinkResult<Shrinkable<ActionSequence<M>>>> shrinkSequence(
 		Predicate<ActionSequence<M>> falsifier, Set<List<Shrinkable<Action<M>>>> candidates
 	) {
-		return candidates
-			.stream() //
-			.map(shrunkValue -> SafeFalsifier.falsify(falsifier, new ShrinkableActionSequence<>(shrunkValue))) //
-			.filter(Optional::isPresent) //
-			.map(Optional::get) //
-			.collect(Collectors.toSet());
+		List<Shrinkable<ActionSequence<M>>> sequences = candidates.stream() //
+			.map(shrunkValue -> new ShrinkableActionSequence<>(shrunkValue)) //
+			.collect(Collectors.toList());
+		return ShrinkingHelper.falsifyAll(sequences, falsifier);
 	}
 
 	private Set<ShrinkResult<Shrinkable<ActionSequence<M>>>> shrinkActions(Predicate<ActionSequence<M>> falsifier) {
-		Predicate<List<Action<M>>> valuesFalsifier = list -> {
-			List<Shrinkable<Action<M>>> listShrinkable = list.stream().map(Shrinkable::unshrinkable).collect(Collectors.toList());
-			ActionSequence<M> actionSequence = new SequentialActionSequence<>(listShrinkable);
-			return falsifier.test(actionSequence);
-		};
-		ParameterListShrinker<Action<M>> listElementShrinker = new ParameterListShrinker<>(value.sequenceToShrink(), e -> {}, new Reporting[0]);
-		Set<ShrinkResult<List<Shrinkable<Action<M>>>>> shrunkElements = listElementShrinker.shrinkNext(valuesFalsifier);
+		Set<ShrinkResult<List<Shrinkable<Action<M>>>>> shrunkElements = actionsShrinker().shrinkNext(actionsFalsifier(falsifier));
 		return shrunkElements //
 			.stream() //
 			.map(listShrinkResult -> listShrinkResult //
@@ -55,6 +63,18 @@ class ShrinkableActionSequence<M> implements Shrinkable<ActionSequence<M>> {
 			.collect(Collectors.toSet());
 	}
 
+	private ParameterListShrinker<Action<M>> actionsShrinker() {
+		return new ParameterListShrinker<>(value.sequenceToShrink(), e -> {}, new Reporting[0]);
+	}
+
+	private Predicate<List<Action<M>>> actionsFalsifier(Predicate<ActionSequence<M>> falsifier) {
+		return list -> {
+			List<Shrinkable<Action<M>>> listShrinkable = list.stream().map(Shrinkable::unshrinkable).collect(Collectors.toList());
+			ActionSequence<M> actionSequence = new SequentialActionSequence<>(listShrinkable);
+			return falsifier.test(actionSequence);
+		};
+	}
+
 	@Override
 	public ActionSequence<M> value() {
 		return value;
@@ -8,7 +8,7 @@ public class RegisteredArbitraryProviders {
 
 	private static List<ArbitraryProvider> registeredProviders;
 
-	public static List<ArbitraryProvider> getProviders() {
+	public static synchronized List<ArbitraryProvider> getProviders() {
 		if (null == registeredProviders) {
 			loadArbitraryProviders();
 		}
@@ -23,20 +23,20 @@ public class RegisteredArbitraryProviders {
 		}
 	}
 
-	public static void register(ArbitraryProvider provider) {
+	public static synchronized void register(ArbitraryProvider provider) {
 		if (getProviders().contains(provider)) {
 			return;
 		}
 		registeredProviders.add(0, provider);
 	}
 
-	public static void unregister(ArbitraryProvider providerToDelete) {
+	public static synchronized void unregister(ArbitraryProvider providerToDelete) {
 		getProviders().stream() //
 				.filter(provider -> provider == providerToDelete) //
 				.forEach(provider -> registeredProviders.remove(provider));
 	}
 
-	public static void unregister(Class<? extends ArbitraryProvider> providerClass) {
+	public static synchronized void unregister(Class<? extends ArbitraryProvider> providerClass) {
 		getProviders().stream() //
 				.filter(provider -> provider.getClass() == providerClass) //
 				.forEach(provider -> registeredProviders.remove(provider));
@@ -4,21 +4,45 @@ import org.junit.platform.engine.TestExecutionResult.*;
 import org.junit.platform.engine.*;
 
 import java.io.*;
+import java.util.*;
 
 public class TestRun implements Serializable {
+	private static final long MIN_SIGNIFICANT_DURATION_CHANGE_MILLIS = 10;
+
 	private final String uniqueIdString;
 	private final int statusOrdinal;
 	private final String randomSeed;
+	private final String failingTrySeed;
+	private final long durationMillis;
 
 	public TestRun(UniqueId uniqueId, Status status, String randomSeed) {
-		this.uniqueIdString = uniqueId.toString();
+		this(uniqueId, status, randomSeed, "");
+	}
+
+	public TestRun(UniqueId uniqueId, Status status, String randomSeed, String failingTrySeed) {
+		this(uniqueId, status, randomSeed, failingTrySeed, 0);
+	}
+
+	public TestRun(UniqueId uniqueId, Status status, String randomSeed, String failingTrySeed, long durationMillis) {
+		this(uniqueId.toString(), status, randomSeed, failingTrySeed, durationMillis);
+	}
+
+	TestRun(String uniqueIdString, Status status, String randomSeed, String failingTrySeed, long durationMillis) {
+		this.uniqueIdString = uniqueIdString;
 		this.statusOrdinal = status.ordinal();
 		this.randomSeed = randomSeed;
+		this.failingTrySeed = failingTrySeed;
+		this.durationMillis = durationMillis;
 	}
+
 	public UniqueId getUniqueId() {
 		return UniqueId.parse(uniqueIdString);
 	}
 
+	String getUniqueIdString() {
+		return uniqueIdString;
+	}
+
 	public Status getStatus() {
 		return Status.values()[statusOrdinal];
 	}
@@ -27,8 +51,58 @@ public class TestRun implements Serializable {
 		return randomSeed;
 	}
 
+	public String getFailingTrySeed() {
+		return failingTrySeed;
+	}
+
+	/**
+	 * @return the time from start to finish of the test or container's execution, 0 if unknown
+	 */
+	public long getDurationMillis() {
+		return durationMillis;
+	}
+
+	/**
+	 * Durations are ignored since they change with almost every run.
+	 */
+	boolean hasSameOutcomeAs(TestRun other) {
+		return other != null //
+				   && statusOrdinal == other.statusOrdinal //
+				   && uniqueIdString.equals(other.uniqueIdString) //
+				   && Objects.equals(randomSeed, other.randomSeed) //
+				   && Objects.equals(failingTrySeed, other.failingTrySeed);
+	}
+
+	/**
+	 * Durations differing by less than a factor of 2 - or by only a few milliseconds - are similar.
+	 */
+	boolean hasSimilarDurationAs(TestRun other) {
+		long shorter = Math.min(durationMillis, other.durationMillis);
+		long longer = Math.max(durationMillis, other.durationMillis);
+		return longer - shorter < MIN_SIGNIFICANT_DURATION_CHANGE_MILLIS || longer < 2 * shorter;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (o == null || getClass() != o.getClass())
+			return false;
+		TestRun that = (TestRun) o;
+		return statusOrdinal == that.statusOrdinal //
+				   && durationMillis == that.durationMillis //
+				   && uniqueIdString.equals(that.uniqueIdString) //
+				   && Objects.equals(randomSeed, that.randomSeed) //
+				   && Objects.equals(failingTrySeed, that.failingTrySeed);
+	}
+
+	@Override
+	public int hashCode() {
+		return uniqueIdString.hashCode();
+	}
+
 	@Override
 	public String toString() {
-		return String.format("TestRun[%s:%s:%d]", uniqueIdString, getStatus(), randomSeed);
+		return String.format("TestRun[%s:%s:%s:%s]", uniqueIdString, getStatus(), randomSeed, failingTrySeed);
 	}
 }
@@ -3,41 +3,42 @@ package net.jqwik.recording;
 import java.util.*;
 import java.util.stream.*;
 
-import org.junit.platform.commons.util.*;
 import org.junit.platform.engine.*;
 import org.junit.platform.engine.TestExecutionResult.*;
 
 public class TestRunData {
 
-	private final Collection<TestRun> data;
+	// Indexed by the unique id's string form so that lookups need not parse stored ids
+	private final Map<String, TestRun> data = new LinkedHashMap<>();
 
 	public TestRunData(Collection<TestRun> data) {
-		this.data = data;
+		data.forEach(this::add);
 	}
 
 	public TestRunData() {
-		this(new HashSet<>());
+		this(Collections.emptyList());
 	}
 
+	/**
+	 * A test run replaces an earlier test run with the same unique id.
+	 */
 	public void add(TestRun testRun) {
-		data.add(testRun);
+		data.put(testRun.getUniqueIdString(), testRun);
 	}
 
 	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
-		try {
-			return data.stream() //
-					.filter(testRun -> testRun.getUniqueId().equals(uniqueId)) //
-					.findFirst();
-		} catch (Throwable t) {
-			// An exception during test run data read should not stop the test run.
-			// Most of the time it's an error due to format change which will go away
-			// after one test run where the test run data has been written anew.
-			BlacklistedExceptions.rethrowIfBlacklisted(t);
-			return Optional.empty();
-		}
+		return Optional.ofNullable(data.get(uniqueId.toString()));
+	}
+
+	public int size() {
+		return data.size();
+	}
+
+	public Stream<TestRun> allTestRuns() {
+		return data.values().stream();
 	}
 
 	public Stream<TestRun> allNonSuccessfulTests() {
-		return data.stream().filter(testRun -> testRun.getStatus() != Status.SUCCESSFUL);
+		return allTestRuns().filter(testRun -> testRun.getStatus() != Status.SUCCESSFUL);
 	}
 }
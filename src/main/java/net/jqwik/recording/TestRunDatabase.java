@@ -1,16 +1,43 @@
 package net.jqwik.recording;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
 import java.nio.file.*;
 import java.util.*;
 import java.util.logging.*;
+import java.util.stream.*;
+import java.util.zip.*;
 
+import org.junit.platform.engine.TestExecutionResult.*;
+
+/**
+ * Stores test runs in an append only binary log:
+ * <ul>
+ *     <li>a header with a magic number and the format version</li>
+ *     <li>one record per test run: payload length, payload, CRC32 checksum of payload</li>
+ * </ul>
+ *
+ * A later record replaces earlier records with the same unique id. A record that was only partially written
+ * - e.g. because the JVM crashed - fails its checksum and is cut off together with everything behind it.
+ * A run is only written again if its outcome or - significantly - its duration has changed.
+ * The log is compacted into a new file, which then replaces the old one, when it contains too many replaced records.
+ * Compaction only keeps runs recorded in the current session so that runs of deleted tests do not survive forever.
+ */
 public class TestRunDatabase {
 
 	private static final Logger LOG = Logger.getLogger(TestRunDatabase.class.getName());
 
+	private static final int MAGIC = 0x4A514442; // "JQDB"
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 8;
+	private static final int MIN_RECORDS_TO_COMPACT = 256;
+
 	private final Path databasePath;
 	private final TestRunData previousRunData;
+	private long validLength = 0;
+	private int countRecords = 0;
 	private boolean stopRecording = false;
 
 	public TestRunDatabase(Path databasePath) {
@@ -19,42 +46,153 @@ public class TestRunDatabase {
 	}
 
 	private TestRunData loadExistingRunData() {
+		TestRunData data = new TestRunData();
 		if (!Files.exists(databasePath))
-			return new TestRunData();
+			return data;
 
-		try (ObjectInputStream ois = createObjectInputStream()) {
-			List<TestRun> data = readAllTestRuns(ois);
-			return new TestRunData(data);
-		} catch (Exception e) {
-			logException(e);
-			try {
-				Files.delete(databasePath);
-			} catch (IOException ignore) {
+		try (FileChannel channel = FileChannel.open(databasePath, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				LOG.warning(String.format("Test run database [%s] is too large and will be replaced", databasePath));
+				return data;
+			}
+			if (size == 0)
+				return data;
+			// Not memory mapped since a mapped file cannot be truncated or replaced on all platforms
+			ByteBuffer buffer = readFully(channel, (int) size);
+			if (!hasValidHeader(buffer)) {
+				LOG.info(String.format("Test run database [%s] has an unknown format and will be replaced", databasePath));
+				return data;
 			}
+			readAllTestRuns(buffer, data);
+			if (validLength < size)
+				LOG.warning(String.format("Test run database [%s] ends with a corrupt record which will be dropped", databasePath));
+		} catch (IOException e) {
+			logException(e);
+			validLength = 0;
+			countRecords = 0;
 			return new TestRunData();
 		}
+		return data;
+	}
+
+	private static ByteBuffer readFully(FileChannel channel, int size) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0)
+				break;
+		}
+		buffer.flip();
+		return buffer;
 	}
 
-	private List<TestRun> readAllTestRuns(ObjectInputStream ois) throws IOException, ClassNotFoundException {
-		List<TestRun> testRuns = new ArrayList<>();
+	private boolean hasValidHeader(ByteBuffer buffer) {
+		if (buffer.remaining() < HEADER_SIZE)
+			return false;
+		return buffer.getInt() == MAGIC && buffer.getInt() == VERSION;
+	}
+
+	private void readAllTestRuns(ByteBuffer buffer, TestRunData data) {
+		validLength = HEADER_SIZE;
 		while (true) {
-			try {
-				TestRun testRun = (TestRun) ois.readObject();
-				testRuns.add(testRun);
-			} catch (EOFException eof) {
+			Optional<TestRun> testRun = readRecord(buffer);
+			if (!testRun.isPresent())
 				break;
-			}
+			data.add(testRun.get());
+			countRecords++;
+			validLength = buffer.position();
+		}
+	}
+
+	private static Optional<TestRun> readRecord(ByteBuffer buffer) {
+		if (buffer.remaining() < 4)
+			return Optional.empty();
+		int length = buffer.getInt();
+		if (length < 0 || buffer.remaining() < length + 4)
+			return Optional.empty();
+		byte[] payload = new byte[length];
+		buffer.get(payload);
+		if (buffer.getInt() != checksum(payload))
+			return Optional.empty();
+		try {
+			return Optional.of(decode(ByteBuffer.wrap(payload)));
+		} catch (RuntimeException e) {
+			return Optional.empty();
+		}
+	}
+
+	private static TestRun decode(ByteBuffer payload) {
+		String uniqueIdString = readString(payload);
+		Status status = Status.values()[payload.get()];
+		String randomSeed = readString(payload);
+		String failingTrySeed = readString(payload);
+		long durationMillis = payload.getLong();
+		return new TestRun(uniqueIdString, status, randomSeed, failingTrySeed, durationMillis);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0)
+			return null;
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static byte[] encode(TestRun testRun) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream payload = new DataOutputStream(bytes);
+		writeString(payload, testRun.getUniqueIdString());
+		payload.writeByte(testRun.getStatus().ordinal());
+		writeString(payload, testRun.getRandomSeed());
+		writeString(payload, testRun.getFailingTrySeed());
+		payload.writeLong(testRun.getDurationMillis());
+		payload.flush();
+		return bytes.toByteArray();
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
 		}
-		return testRuns;
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static void writeRecord(DataOutputStream out, TestRun testRun) throws IOException {
+		byte[] payload = encode(testRun);
+		out.writeInt(payload.length);
+		out.write(payload);
+		out.writeInt(checksum(payload));
+	}
+
+	private static void writeHeader(DataOutputStream out) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+	}
+
+	private static int checksum(byte[] payload) {
+		CRC32 crc = new CRC32();
+		crc.update(payload, 0, payload.length);
+		return (int) crc.getValue();
 	}
 
 	private void logException(Exception e) {
 		LOG.log(Level.SEVERE, e.getMessage(), e);
 	}
 
-	private ObjectOutputStream createObjectOutputStream() {
+	private DataOutputStream openForAppending() {
 		try {
-			return new ObjectOutputStream(Files.newOutputStream(databasePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
+			FileChannel channel = FileChannel.open(databasePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			// Cut off corrupt records or a file in an unknown format
+			channel.truncate(validLength);
+			channel.position(validLength);
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+			if (validLength == 0)
+				writeHeader(out);
+			return out;
 		} catch (IOException e) {
 			stopRecording = true;
 			logException(e);
@@ -62,24 +200,51 @@ public class TestRunDatabase {
 		}
 	}
 
-	private ObjectInputStream createObjectInputStream() throws IOException {
-		return new ObjectInputStream(Files.newInputStream(databasePath, StandardOpenOption.CREATE));
+	private void compact(Collection<TestRun> testRuns) throws IOException {
+		Path compactedPath = databasePath.resolveSibling(databasePath.getFileName() + ".compacting");
+		try (FileChannel channel = FileChannel.open(compactedPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.TRUNCATE_EXISTING)) {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+			writeHeader(out);
+			for (TestRun testRun : testRuns) {
+				writeRecord(out, testRun);
+			}
+			out.flush();
+			channel.force(true);
+		}
+		try {
+			Files.move(compactedPath, databasePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(compactedPath, databasePath, StandardCopyOption.REPLACE_EXISTING);
+		}
 	}
 
 	private class Recorder implements TestRunRecorder {
 
-		private final ObjectOutputStream objectOutputStream;
+		private final DataOutputStream out;
+		private final Map<String, TestRun> currentRuns = new LinkedHashMap<>();
+		private final Set<String> recordedIds = new HashSet<>();
+		private int countWrittenRecords;
 
-		private Recorder(ObjectOutputStream objectOutputStream) {
-			this.objectOutputStream = objectOutputStream;
+		private Recorder(DataOutputStream out) {
+			this.out = out;
+			this.countWrittenRecords = countRecords;
+			previousRunData.allTestRuns().forEach(testRun -> currentRuns.put(testRun.getUniqueIdString(), testRun));
 		}
 
 		@Override
-		public void record(TestRun testRun) {
+		public synchronized void record(TestRun testRun) {
 			if (stopRecording)
 				return;
+			recordedIds.add(testRun.getUniqueIdString());
+			// Small changes of the duration are not written so that durations are compared with the written ones
+			TestRun previous = currentRuns.get(testRun.getUniqueIdString());
+			if (testRun.hasSameOutcomeAs(previous) && testRun.hasSimilarDurationAs(previous))
+				return;
+			currentRuns.put(testRun.getUniqueIdString(), testRun);
 			try {
-				objectOutputStream.writeObject(testRun);
+				writeRecord(out, testRun);
+				countWrittenRecords++;
 			} catch (IOException e) {
 				stopRecording = true;
 				logException(e);
@@ -87,14 +252,29 @@ public class TestRunDatabase {
 		}
 
 		@Override
-		public void close() {
+		public synchronized void close() {
+			if (out == null)
+				return;
 			try {
-				objectOutputStream.close();
+				out.close();
+				if (needsCompaction())
+					compact(recordedRuns());
 			} catch (IOException e) {
 				logException(e);
 			}
 		}
 
+		private List<TestRun> recordedRuns() {
+			return currentRuns.values().stream() //
+				.filter(testRun -> recordedIds.contains(testRun.getUniqueIdString())) //
+				.collect(Collectors.toList());
+		}
+
+		private boolean needsCompaction() {
+			int countDroppedRecords = countWrittenRecords - recordedIds.size();
+			return countWrittenRecords >= MIN_RECORDS_TO_COMPACT && countDroppedRecords > recordedIds.size();
+		}
+
 	}
 
 	public TestRunData previousRun() {
@@ -102,6 +282,6 @@ public class TestRunDatabase {
 	}
 
 	public TestRunRecorder recorder() {
-		return new Recorder(createObjectOutputStream());
+		return new Recorder(openForAppending());
 	}
 }
@@ -3,6 +3,7 @@ package net.jqwik;
 import static org.assertj.core.api.Assertions.*;
 
 import net.jqwik.api.*;
+import net.jqwik.properties.*;
 
 class JqwikPropertiesTests {
 
@@ -17,5 +18,10 @@ class JqwikPropertiesTests {
 
 		assertThat(properties.defaultTries()).isEqualTo(1000);
 		assertThat(properties.defaultMaxDiscardRatio()).isEqualTo(5);
+		assertThat(properties.defaultParallelism()).isEqualTo(1);
+		assertThat(properties.defaultMaxShrinkingChecks()).isEqualTo(10000);
+		assertThat(properties.defaultMaxShrinkingSeconds()).isEqualTo(10);
+		assertThat(properties.executionThreads()).isEqualTo(1);
+		assertThat(properties.randomAlgorithm()).isEqualTo(RandomAlgorithm.COMPATIBLE);
 	}
 }
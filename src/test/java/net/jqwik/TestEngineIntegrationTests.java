@@ -17,6 +17,7 @@ import org.mockito.*;
 import examples.packageWithSeveralContainers.*;
 import examples.packageWithSingleContainer.*;
 import net.jqwik.api.*;
+import net.jqwik.properties.*;
 import net.jqwik.recording.*;
 import net.jqwik.support.*;
 
@@ -39,6 +40,16 @@ class TestEngineIntegrationTests {
 				return PropertyDefaultValues.with(1000, 5);
 			}
 
+			@Override
+			public RandomAlgorithm randomAlgorithm() {
+				return RandomAlgorithm.COMPATIBLE;
+			}
+
+			@Override
+			public int executionThreads() {
+				return 1;
+			}
+
 			@Override
 			public TestEngineConfiguration testEngineConfiguration() {
 				return new TestEngineConfiguration() {
@@ -58,6 +69,11 @@ class TestEngineIntegrationTests {
 						return Collections.emptySet();
 					}
 
+					@Override
+					public Map<UniqueId, Long> previousDurations() {
+						return Collections.emptyMap();
+					}
+
 				};
 			}
 		};
@@ -16,9 +16,10 @@ class PropertyMethodResolverTest {
 
 	private final int DEFAULT_TRIES = 999;
 	private final int DEFAULT_MAX_DISCARD_RATIO = 4;
+	private final int DEFAULT_PARALLELISM = 2;
 
 	private TestRunData testRunData = new TestRunData();
-	private PropertyDefaultValues propertyDefaultValues = PropertyDefaultValues.with(DEFAULT_TRIES, DEFAULT_MAX_DISCARD_RATIO);
+	private PropertyDefaultValues propertyDefaultValues = PropertyDefaultValues.with(DEFAULT_TRIES, DEFAULT_MAX_DISCARD_RATIO, DEFAULT_PARALLELISM);
 	private PropertyMethodResolver resolver = new PropertyMethodResolver(testRunData, propertyDefaultValues);
 
 	@Group
@@ -102,6 +103,7 @@ class PropertyMethodResolverTest {
 			Assertions.assertThat(propertyMethodDescriptor.getConfiguration().getMaxDiscardRatio()).isEqualTo(6);
 			Assertions.assertThat(propertyMethodDescriptor.getConfiguration().getShrinkingMode()).isEqualTo(ShrinkingMode.OFF);
 			Assertions.assertThat(propertyMethodDescriptor.getConfiguration().getReporting()).containsExactly(Reporting.GENERATED, Reporting.FALSIFIED);
+			Assertions.assertThat(propertyMethodDescriptor.getConfiguration().getParallelism()).isEqualTo(4);
 		}
 
 		@Example
@@ -114,6 +116,20 @@ class PropertyMethodResolverTest {
 
 			PropertyMethodDescriptor propertyMethodDescriptor = (PropertyMethodDescriptor) descriptors.iterator().next();
 			Assertions.assertThat(propertyMethodDescriptor.getConfiguration().getSeed()).isEqualTo("4243");
+			Assertions.assertThat(propertyMethodDescriptor.getConfiguration().getFailingTrySeed()).isEqualTo(Property.SEED_NOT_SET);
+		}
+
+		@Example
+		void failingTrySeedFromPreviouslyFailedTestRun() throws NoSuchMethodException {
+			ContainerClassDescriptor classDescriptor = buildContainerDescriptor();
+			Method method = TestHelper.getMethod(TestContainer.class, "previouslyFailed");
+			UniqueId previouslyFailedId = JqwikUniqueIDs.appendProperty(classDescriptor.getUniqueId(), method);
+			testRunData.add(new TestRun(previouslyFailedId, Status.FAILED, "4243", "777"));
+			Set<TestDescriptor> descriptors = resolver.resolveElement(method, classDescriptor);
+
+			PropertyMethodDescriptor propertyMethodDescriptor = (PropertyMethodDescriptor) descriptors.iterator().next();
+			Assertions.assertThat(propertyMethodDescriptor.getConfiguration().getSeed()).isEqualTo("4243");
+			Assertions.assertThat(propertyMethodDescriptor.getConfiguration().getFailingTrySeed()).isEqualTo("777");
 		}
 
 		@Example
@@ -128,6 +144,18 @@ class PropertyMethodResolverTest {
 			Assertions.assertThat(propertyMethodDescriptor.getConfiguration().getSeed()).isEqualTo("41");
 		}
 
+		@Example
+		void failingTrySeedIsIgnoredIfExplicitSeedDiffers() throws NoSuchMethodException {
+			ContainerClassDescriptor classDescriptor = buildContainerDescriptor();
+			Method method = TestHelper.getMethod(TestContainer.class, "withSeed41");
+			UniqueId previouslyFailedId = JqwikUniqueIDs.appendProperty(classDescriptor.getUniqueId(), method);
+			testRunData.add(new TestRun(previouslyFailedId, Status.FAILED, "9999", "777"));
+			Set<TestDescriptor> descriptors = resolver.resolveElement(method, classDescriptor);
+
+			PropertyMethodDescriptor propertyMethodDescriptor = (PropertyMethodDescriptor) descriptors.iterator().next();
+			Assertions.assertThat(propertyMethodDescriptor.getConfiguration().getFailingTrySeed()).isEqualTo(Property.SEED_NOT_SET);
+		}
+
 	}
 
 	@Group
@@ -172,6 +200,7 @@ class PropertyMethodResolverTest {
 		Assertions.assertThat(propertyMethodDescriptor.getConfiguration().getMaxDiscardRatio()).isEqualTo(DEFAULT_MAX_DISCARD_RATIO);
 		Assertions.assertThat(propertyMethodDescriptor.getConfiguration().getShrinkingMode()).isEqualTo(ShrinkingMode.ON);
 		Assertions.assertThat(propertyMethodDescriptor.getConfiguration().getReporting()).isEmpty();
+		Assertions.assertThat(propertyMethodDescriptor.getConfiguration().getParallelism()).isEqualTo(DEFAULT_PARALLELISM);
 	}
 
 	private static class TestContainer {
@@ -212,7 +241,8 @@ class PropertyMethodResolverTest {
 			tries = 99, //
 			maxDiscardRatio = 6, //
 			shrinking = ShrinkingMode.OFF, //
-			reporting = {Reporting.GENERATED, Reporting.FALSIFIED} //
+			reporting = {Reporting.GENERATED, Reporting.FALSIFIED}, //
+			parallelism = 4 //
 		)
 		void withPropertyParams() {
 		}
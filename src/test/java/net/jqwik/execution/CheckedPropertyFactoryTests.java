@@ -59,6 +59,23 @@ public class CheckedPropertyFactoryTests {
 		assertThat(property.forAllPredicate.test(noArgs)).isTrue();
 	}
 
+	@Example
+	void argumentArrayIsSpreadToParameters() {
+		PropertyMethodDescriptor descriptor = createDescriptor("prop", "42", 11, 4, ShrinkingMode.OFF);
+		CheckedProperty property = factory.fromDescriptor(descriptor, new PropertyExamples());
+
+		assertThat(property.forAllPredicate.test(new Object[]{1, "test"})).isTrue();
+		assertThat(property.forAllPredicate.test(new Object[]{1, "other"})).isFalse();
+	}
+
+	@Example
+	void exceptionsOfPropertyMethodArePropagatedUnchanged() {
+		PropertyMethodDescriptor descriptor = createDescriptor("propThrowingException", "42", 11, 4, ShrinkingMode.OFF);
+		CheckedProperty property = factory.fromDescriptor(descriptor, new PropertyExamples());
+
+		assertThatThrownBy(() -> property.forAllPredicate.test(new Object[]{1})).isInstanceOf(AssertionError.class).hasMessage("1");
+	}
+
 	private PropertyMethodDescriptor createDescriptor(String methodName, String seed, int tries, int maxDiscardRatio,
 			ShrinkingMode shrinking) {
 		UniqueId uniqueId = UniqueId.root("test", "i dont care");
@@ -74,6 +91,11 @@ public class CheckedPropertyFactoryTests {
 			return anInt == 1 && aString.equals("test");
 		}
 
+		@Property
+		void propThrowingException(@ForAll int anInt) {
+			throw new AssertionError(Integer.toString(anInt));
+		}
+
 		@Property
 		boolean propWithUnboundParams(int otherInt, @ForAll int anInt, @ForAll String aString, String otherString) {
 			return true;
@@ -50,16 +50,30 @@ class CheckedPropertyTests {
 			assertThat(checkedProperty.configuration.getShrinkingMode()).isEqualTo(ShrinkingMode.OFF);
 			assertThat(checkedProperty.configuration.getReporting()).containsExactly(Reporting.GENERATED);
 		}
+
+		@Example
+		void parametersWithFewerValuesThanTriesAreCheckedExhaustively() {
+			PropertyMethodDescriptor descriptor = (PropertyMethodDescriptor) TestDescriptorBuilder
+					.forMethod(BooleanReturningExamples.class, "propertyWithTwoBooleans", boolean.class, boolean.class).build();
+			CheckedPropertyFactory factory = new CheckedPropertyFactory();
+			CheckedProperty checkedProperty = factory.fromDescriptor(descriptor, new BooleanReturningExamples());
+
+			PropertyCheckResult check = checkedProperty.check(NULL_PUBLISHER);
+
+			assertThat(check.status()).isEqualTo(SATISFIED);
+			assertThat(check.checkedExhaustively()).isTrue();
+			assertThat(check.countTries()).isEqualTo(4);
+		}
 	}
 
 	@Group
 	class PropertiesReturningBoolean {
 		@Example
 		void intParametersSuccess() {
-			intOnlyExample("prop0", params -> params.size() == 0, SATISFIED);
-			intOnlyExample("prop1", params -> params.size() == 1, SATISFIED);
-			intOnlyExample("prop2", params -> params.size() == 2, SATISFIED);
-			intOnlyExample("prop8", params -> params.size() == 8, SATISFIED);
+			intOnlyExample("prop0", params -> params.length == 0, SATISFIED);
+			intOnlyExample("prop1", params -> params.length == 1, SATISFIED);
+			intOnlyExample("prop2", params -> params.length == 2, SATISFIED);
+			intOnlyExample("prop8", params -> params.length == 8, SATISFIED);
 		}
 
 		@Example
@@ -119,7 +133,7 @@ class CheckedPropertyTests {
 		@Example
 		void usingASeedWillAlwaysProvideSameArbitraryValues() {
 			List<Integer> allGeneratedInts = new ArrayList<>();
-			CheckedFunction addIntToList = params -> allGeneratedInts.add((int) params.get(0));
+			CheckedFunction addIntToList = params -> allGeneratedInts.add((int) params[0]);
 			CheckedProperty checkedProperty = new CheckedProperty("prop1", addIntToList, getParametersForMethod("prop1"),
 																  p -> Optional.of(new GenericArbitrary(Arbitraries.integers()
 																												   .between(-100, 100))),
@@ -159,6 +173,11 @@ class CheckedPropertyTests {
 			return true;
 		}
 
+		@Property
+		public boolean propertyWithTwoBooleans(@ForAll boolean aBoolean, @ForAll boolean anotherBoolean) {
+			return true;
+		}
+
 		public boolean stringProp(@ForAll String aString) {
 			return true;
 		}
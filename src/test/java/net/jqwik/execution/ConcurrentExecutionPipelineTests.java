@@ -0,0 +1,175 @@
+package net.jqwik.execution;
+
+import net.jqwik.api.*;
+import net.jqwik.execution.pipeline.*;
+import org.junit.platform.engine.*;
+import org.mockito.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConcurrentExecutionPipelineTests {
+
+	private EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+	private ConcurrentExecutionPipeline pipeline = new ConcurrentExecutionPipeline(listener, 4);
+
+	@Example
+	void withNoTasksPipelineTerminatesAtOnce() {
+		pipeline.runToTermination();
+	}
+
+	@Example
+	void allTasksAreExecuted() {
+		List<MockExecutionTask> tasks = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			MockExecutionTask task = new MockExecutionTask(Integer.toString(i));
+			tasks.add(task);
+			pipeline.submit(task);
+		}
+		pipeline.runToTermination();
+
+		tasks.forEach(task -> Mockito.verify(listener).executionStarted(task));
+	}
+
+	@Example
+	void independentTasksRunConcurrently() {
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		AtomicBoolean ranConcurrently = new AtomicBoolean(true);
+		for (int i = 0; i < 2; i++) {
+			pipeline.submit(new BlockingTask(Integer.toString(i), () -> {
+				bothStarted.countDown();
+				ranConcurrently.compareAndSet(true, await(bothStarted));
+			}));
+		}
+		pipeline.runToTermination();
+
+		assertThat(ranConcurrently.get()).isTrue();
+	}
+
+	@Example
+	void tasksStartOnlyAfterTheirPredecessorsHaveFinished() {
+		List<String> finished = Collections.synchronizedList(new ArrayList<>());
+		ExecutionTask first = new BlockingTask("first", () -> {
+			sleep(50);
+			finished.add("first");
+		});
+		ExecutionTask second = new BlockingTask("second", () -> finished.add("second"));
+		ExecutionTask third = new BlockingTask("third", () -> finished.add("third"));
+		pipeline.submit(first);
+		pipeline.submit(second, first);
+		pipeline.submit(third, first, second);
+		pipeline.runToTermination();
+
+		assertThat(finished).containsExactly("first", "second", "third");
+	}
+
+	@Example
+	void tasksInACycleOfPredecessorsAreReported() {
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask task2 = new MockExecutionTask("2");
+		pipeline.submit(task1, task2);
+		pipeline.submit(task2, task1);
+
+		assertThatThrownBy(() -> pipeline.runToTermination()) //
+			.isInstanceOf(UnexecutableTasksException.class) //
+			.hasMessageContaining(task1.toString()) //
+			.hasMessageContaining(task2.toString());
+	}
+
+	@Example
+	void tasksPutInFrontAreStartedFirst() {
+		ConcurrentExecutionPipeline singleThreadPipeline = new ConcurrentExecutionPipeline(listener, 1);
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask task2 = new MockExecutionTask("2");
+		MockExecutionTask task3 = new MockExecutionTask("3");
+		singleThreadPipeline.submit(task1);
+		singleThreadPipeline.submit(task2, task1);
+		singleThreadPipeline.submit(task3);
+		singleThreadPipeline.executeFirst(task2);
+		singleThreadPipeline.runToTermination();
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(task1);
+		events.verify(listener).executionStarted(task2);
+		events.verify(listener).executionStarted(task3);
+	}
+
+	@Example
+	void isolatedTasksDoNotRunConcurrentlyWithOtherTasks() {
+		AtomicInteger running = new AtomicInteger(0);
+		AtomicBoolean isolatedRanAlone = new AtomicBoolean(true);
+		UniqueId isolatedOwner = UniqueId.root("owner", "isolated");
+		for (int i = 0; i < 10; i++) {
+			pipeline.submit(new BlockingTask(Integer.toString(i), () -> {
+				running.incrementAndGet();
+				sleep(5);
+				running.decrementAndGet();
+			}));
+		}
+		pipeline.submit(new BlockingTask(isolatedOwner, "isolated", () -> {
+			if (running.incrementAndGet() != 1)
+				isolatedRanAlone.set(false);
+			sleep(20);
+			running.decrementAndGet();
+		}));
+		pipeline.runIsolated(isolatedOwner);
+		pipeline.runToTermination();
+
+		assertThat(isolatedRanAlone.get()).isTrue();
+	}
+
+	@Example
+	void predecessorsMustBeSubmittedBeforeATaskCanRun() {
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask task2 = new MockExecutionTask("2");
+		pipeline.submit(task1, task2);
+
+		assertThatThrownBy(() -> pipeline.runToTermination()).isInstanceOf(PredecessorNotSubmittedException.class);
+	}
+
+	@Example
+	void exceptionInTaskIsRethrown() {
+		pipeline.submit(new BlockingTask("failing", () -> {
+			throw new IllegalStateException("failing");
+		}));
+
+		assertThatThrownBy(() -> pipeline.runToTermination()).isInstanceOf(IllegalStateException.class);
+	}
+
+	private static boolean await(CountDownLatch latch) {
+		try {
+			return latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			return false;
+		}
+	}
+
+	private static void sleep(int millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException ignore) {
+		}
+	}
+
+	private static class BlockingTask extends MockExecutionTask {
+		private final Runnable action;
+
+		BlockingTask(String name, Runnable action) {
+			super(name);
+			this.action = action;
+		}
+
+		BlockingTask(UniqueId ownerId, String name, Runnable action) {
+			super(ownerId, name);
+			this.action = action;
+		}
+
+		@Override
+		public void execute(EngineExecutionListener listener) {
+			action.run();
+		}
+	}
+}
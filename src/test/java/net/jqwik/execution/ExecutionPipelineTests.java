@@ -87,6 +87,22 @@ public class ExecutionPipelineTests {
 		assertThatThrownBy(() -> pipeline.runToTermination()).isInstanceOf(PredecessorNotSubmittedException.class);
 	}
 
+	@Example
+	void tasksInACycleOfPredecessorsAreReported() {
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask task2 = new MockExecutionTask("2");
+		MockExecutionTask task3 = new MockExecutionTask("3");
+		pipeline.submit(task1, task2);
+		pipeline.submit(task2, task1);
+		pipeline.submit(task3);
+
+		assertThatThrownBy(() -> pipeline.runToTermination()) //
+			.isInstanceOf(UnexecutableTasksException.class) //
+			.hasMessageContaining(task1.toString()) //
+			.hasMessageContaining(task2.toString());
+		Mockito.verify(listener).executionStarted(task3);
+	}
+
 	@Example
 	void executeFirstByUniqueId() {
 		MockExecutionTask task1 = new MockExecutionTask("1");
@@ -112,4 +128,64 @@ public class ExecutionPipelineTests {
 
 	}
 
+	@Example
+	void tasksWithLongestExpectedDurationAreExecutedFirst() {
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask task2 = new MockExecutionTask("2");
+		MockExecutionTask task3 = new MockExecutionTask("3");
+		pipeline.submit(task1);
+		pipeline.submit(task2);
+		pipeline.submit(task3);
+
+		Map<UniqueId, Long> durations = new HashMap<>();
+		durations.put(task2.ownerId(), 100L);
+		durations.put(task3.ownerId(), 500L);
+		pipeline.expectDurations(durations);
+		pipeline.runToTermination();
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(task3);
+		events.verify(listener).executionStarted(task2);
+		events.verify(listener).executionStarted(task1);
+	}
+
+	@Example
+	void tasksToExecuteFirstGoBeforeTasksWithLongerExpectedDuration() {
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask task2 = new MockExecutionTask("2");
+		pipeline.submit(task1);
+		pipeline.submit(task2);
+
+		pipeline.expectDurations(Collections.singletonMap(task1.ownerId(), 1000L));
+		pipeline.executeFirst(task2);
+		pipeline.runToTermination();
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(task2);
+		events.verify(listener).executionStarted(task1);
+	}
+
+	@Example
+	void executeFirstByUniqueIdIncludesAllTasksWithIdAsPrefix() {
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		pipeline.submit(task1);
+
+		UniqueId ownerId = UniqueId.root("owner", "o");
+		MockExecutionTask owned = new MockExecutionTask(ownerId, "owned");
+		MockExecutionTask ownedDeeply = new MockExecutionTask(ownerId.append("child", "c"), "ownedDeeply");
+		MockExecutionTask notOwned = new MockExecutionTask(UniqueId.root("owner", "other"), "notOwned");
+		pipeline.submit(notOwned);
+		pipeline.submit(ownedDeeply);
+		pipeline.submit(owned);
+
+		pipeline.executeFirst(ownerId);
+		pipeline.runToTermination();
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(ownedDeeply);
+		events.verify(listener).executionStarted(owned);
+		events.verify(listener).executionStarted(task1);
+		events.verify(listener).executionStarted(notOwned);
+	}
+
 }
@@ -8,7 +8,7 @@ import org.mockito.*;
 
 import java.util.*;
 
-import static net.jqwik.matchers.MockitoMatchers.isPropertyDescriptorFor;
+import static net.jqwik.matchers.MockitoMatchers.*;
 
 public class JqwikExecutorTests {
 
@@ -31,6 +31,21 @@ public class JqwikExecutorTests {
 		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test1"));
 	}
 
+	@Example
+	void concurrentExecutionReportsAllPropertiesAndFinishesContainerLast() throws NoSuchMethodException {
+		TestDescriptor descriptor = TestDescriptorBuilder.forClass(TestContainer.class, "test1", "test2", "test3").build();
+		EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+
+		new JqwikExecutor(new LifecycleRegistry(), testRun -> {}, previouslyFailedTests, 4, Collections.emptyMap()).execute(descriptor, listener);
+
+		for (String propertyName : new String[]{"test1", "test2", "test3"}) {
+			InOrder events = Mockito.inOrder(listener);
+			events.verify(listener).executionStarted(descriptor);
+			events.verify(listener).executionFinished(isPropertyDescriptorFor(TestContainer.class, propertyName), isSuccessful());
+			events.verify(listener).executionFinished(Mockito.eq(descriptor), isSuccessful());
+		}
+	}
+
 	private UniqueId testId(TestDescriptor descriptor, String value) {
 		return descriptor.getUniqueId().append(JqwikUniqueIDs.PROPERTY_SEGMENT_TYPE, value);
 	}
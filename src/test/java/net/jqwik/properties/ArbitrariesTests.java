@@ -55,6 +55,21 @@ class ArbitrariesTests {
 		ArbitraryTestHelper.assertAtLeastOneGeneratedOf(generator, "1", "hallo", "test");
 	}
 
+	@Example
+	void valuesAreShrunkToFirstFalsifyingValue() {
+		List<Integer> valueList = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+		RandomGenerator<Integer> generator = Arbitraries.of(valueList).generator(1);
+		Shrinkable<Integer> shrinkable = generator.next(random);
+		while (shrinkable.value() < 500) {
+			shrinkable = generator.next(random);
+		}
+		int falsifiedValue = shrinkable.value();
+
+		ShrinkResult<Shrinkable<Integer>> shrinkResult =
+			new ValueShrinker<>(shrinkable).shrink(value -> value != 1 && value != falsifiedValue, null);
+		assertThat(shrinkResult.shrunkValue().value()).isEqualTo(1);
+	}
+
 	@Example
 	void ofEnum() {
 		Arbitrary<MyEnum> enumArbitrary = Arbitraries.of(MyEnum.class);
@@ -147,6 +162,27 @@ class ArbitrariesTests {
 			Assertions.assertThat(counts.get("c")).isLessThan(counts.get("d"));
 		}
 
+		@Example
+		void manyPairsAreChosenAccordingToFrequency() {
+			Tuples.Tuple2<Integer, Integer>[] frequencies = new Tuples.Tuple2[100];
+			for (int i = 0; i < 100; i++) {
+				frequencies[i] = Tuples.tuple(i % 10 == 0 ? 0 : i, i);
+			}
+			Arbitrary<Integer> weighted = Arbitraries.frequency(frequencies);
+			Map<Integer, Integer> counts = ArbitraryTestHelper.count(weighted.generator(1000), 100_000);
+
+			// Sum of all positive frequencies is 4500
+			Assertions.assertThat(counts.get(99)).isBetween(1800, 2600);
+			Assertions.assertThat(counts.get(1)).isBetween(5, 60);
+			Assertions.assertThat(counts).doesNotContainKeys(0, 10, 20, 50, 90);
+		}
+
+		@Example
+		void valuesAreShrunkTowardsFirstPositiveFrequency() {
+			Arbitrary<String> weighted = Arbitraries.frequency(Tuples.tuple(0, "a"), Tuples.tuple(1, "b"), Tuples.tuple(5, "c"), Tuples.tuple(10, "d"));
+			Assertions.assertThat(ArbitraryTestHelper.shrinkToEnd(weighted, random)).isEqualTo("b");
+		}
+
 		@Example
 		void noPositiveFrequencies() {
 			assertThatThrownBy(() -> Arbitraries.frequency(Tuples.tuple(0, "a"))).isInstanceOf(JqwikException.class);
@@ -235,6 +271,18 @@ class ArbitrariesTests {
 	@Group
 	class Numbers {
 
+		@Example
+		void smallRangesCanBeEnumerated() {
+			Optional<List<Shrinkable<Short>>> shorts = Arbitraries.shorts().between((short) -2, (short) 2).allShrinkables(5);
+			assertThat(shorts.get()).extracting(Shrinkable::value).containsExactly((short) -2, (short) -1, (short) 0, (short) 1, (short) 2);
+
+			Optional<List<Shrinkable<Character>>> chars = Arbitraries.chars('a', 'c').allShrinkables(5);
+			assertThat(chars.get()).extracting(Shrinkable::value).containsExactly('a', 'b', 'c');
+
+			assertThat(Arbitraries.integers().between(1, 6).allShrinkables(5)).isEmpty();
+			assertThat(Arbitraries.longs().allShrinkables(1000)).isEmpty();
+		}
+
 		@Example
 		void shorts() {
 			Arbitrary<Short> enumArbitrary = Arbitraries.shorts();
@@ -409,6 +457,45 @@ class ArbitrariesTests {
 			assertGeneratedSet(generator, 2, 7);
 		}
 
+		@Example
+		void setOfSmallDomainIsGeneratedWithoutReplacement() {
+			Arbitrary<Set<MyEnum>> setArbitrary = Arbitraries.of(MyEnum.class).set().ofMinSize(3);
+
+			RandomGenerator<Set<MyEnum>> generator = setArbitrary.generator(1);
+
+			ArbitraryTestHelper.assertAllGenerated(generator, set -> {
+				assertThat(set).containsOnly(MyEnum.Yes, MyEnum.No, MyEnum.Maybe);
+			});
+		}
+
+		@Example
+		void setOfMappedDomainUsesOnlyDifferentValues() {
+			Arbitrary<Set<Integer>> setArbitrary = Arbitraries.integers().between(0, 9).map(anInt -> anInt / 2).set().ofMinSize(5);
+
+			RandomGenerator<Set<Integer>> generator = setArbitrary.generator(1);
+
+			ArbitraryTestHelper.assertAllGenerated(generator, set -> {
+				assertThat(set).containsOnly(0, 1, 2, 3, 4);
+			});
+		}
+
+		@Example
+		void setLargerThanDomainFailsWithError() {
+			Arbitrary<Set<String>> setArbitrary = Arbitraries.of("a", "b", "c").set().ofMinSize(5);
+
+			assertThatThrownBy(() -> setArbitrary.generator(1)).isInstanceOf(JqwikException.class);
+		}
+
+		@Example
+		void setFromTooFewValuesOfOpenDomainFailsWithError() {
+			Arbitrary<Set<Integer>> setArbitrary = Arbitraries.randomValue(random -> random.nextInt(3)).set().ofMinSize(5);
+
+			RandomGenerator<Set<Integer>> generator = setArbitrary.generator(1);
+
+			assertThatThrownBy(() -> generator.next(random)).isInstanceOf(JqwikException.class);
+			assertThatThrownBy(() -> generator.nextValue(random)).isInstanceOf(JqwikException.class);
+		}
+
 		@Example
 		void stream() {
 			Arbitrary<Integer> integerArbitrary = Arbitraries.integers().between(1, 10);
@@ -6,6 +6,8 @@ import net.jqwik.properties.arbitraries.*;
 import org.assertj.core.api.*;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -172,7 +174,27 @@ class ArbitraryTests {
 			assertThatThrownBy(() -> generator.next(random).value()).isInstanceOf(JqwikException.class);
 		}
 
+		@Example
+		void maxMissesOfFilterCanBeConfigured() {
+			Arbitrary<Integer> arbitrary = new ArbitraryWheelForTests<>(1, 2, 3, 4, 5);
+
+			RandomGenerator<Integer> tooFewMisses = arbitrary.filter(anInt -> anInt == 5, 3).generator(10);
+			assertThatThrownBy(() -> tooFewMisses.nextValue(random)).isInstanceOf(JqwikException.class);
+
+			RandomGenerator<Integer> enoughMisses = arbitrary.filter(anInt -> anInt == 5, 4).generator(10);
+			assertThat(enoughMisses.nextValue(random)).isEqualTo(5);
+		}
+
+		@Example
+		void shrinkingTriesAtMostMaxMissesRejectedCandidates() {
+			Arbitrary<Integer> arbitrary = new ArbitraryWheelForTests<>(1, 2, 3, 4, 5);
+			Shrinkable<Integer> value5 = generateNth(arbitrary.generator(10), 5);
+			Predicate<Integer> isOne = anInt -> anInt == 1;
 
+			// 4, 3 and 2 have to be rejected to get to 1
+			assertThat(new FilteredShrinkable<>(value5, isOne, 2).shrinkNext(MockFalsifier.falsifyAll())).isEmpty();
+			assertThat(new FilteredShrinkable<>(value5, isOne, 3).shrinkNext(MockFalsifier.falsifyAll())).hasSize(1);
+		}
 	}
 
 	@Group
@@ -224,6 +246,52 @@ class ArbitraryTests {
 			assertThat(shrunkValue.shrunkValue().value()).isEqualTo("value=3");
 			assertThat(shrunkValue.shrunkValue().distance()).isEqualTo(2);
 		}
+
+		@Example
+		void eachStageOfMapChainIsAppliedOncePerShrinkingCandidate() {
+			AtomicInteger countFirstStage = new AtomicInteger(0);
+			AtomicInteger countSecondStage = new AtomicInteger(0);
+			AtomicInteger countFalsifications = new AtomicInteger(0);
+			Arbitrary<String> mapped = Arbitraries.integers().between(0, 1000) //
+				.map(anInt -> {
+					countFirstStage.incrementAndGet();
+					return anInt * 2;
+				}) //
+				.map(anInt -> {
+					countSecondStage.incrementAndGet();
+					return Integer.toString(anInt);
+				});
+			Shrinkable<String> value = mapped.generator(10).next(random);
+
+			ShrinkResult<Shrinkable<String>> result = new ValueShrinker<>(value).shrink(aString -> {
+				countFalsifications.incrementAndGet();
+				return false;
+			}, null);
+
+			assertThat(result.shrunkValue().value()).isEqualTo("0");
+			assertThat(countFirstStage.get()).isEqualTo(countFalsifications.get() + 1);
+			assertThat(countSecondStage.get()).isEqualTo(countFalsifications.get() + 1);
+		}
+
+		@Example
+		void mappedContainerIsMappedOncePerShrinkingCandidate() {
+			AtomicInteger countMappings = new AtomicInteger(0);
+			AtomicInteger countFalsifications = new AtomicInteger(0);
+			Arbitrary<String> mapped = Arbitraries.integers().between(0, 1000).list().ofSize(5) //
+				.map(aList -> {
+					countMappings.incrementAndGet();
+					return aList.toString();
+				});
+			Shrinkable<String> value = mapped.generator(10).next(random);
+
+			ShrinkResult<Shrinkable<String>> result = new ValueShrinker<>(value).shrink(aString -> {
+				countFalsifications.incrementAndGet();
+				return false;
+			}, null);
+
+			assertThat(result.shrunkValue().value()).isNotEqualTo(value.value());
+			assertThat(countMappings.get()).isEqualTo(countFalsifications.get() + 1);
+		}
 	}
 
 	@Group
@@ -259,13 +327,22 @@ class ArbitraryTests {
 			RandomGenerator<String> generator = mapped.generator(10);
 
 			Shrinkable<String> value5 = generateNth(generator, 5);
+			// A string of only 'a's has no shrunk embedded value of the same length
+			while (!value5.value().contains("b")) {
+				value5 = generateNth(generator, 5);
+			}
 			assertThat(value5.value()).hasSize(10);
 			assertThat(value5.value()).matches("[ab]+");
 
+			// The underlying value and the embedded value are shrunk
 			Set<ShrinkResult<Shrinkable<String>>> shrunkValues = value5.shrinkNext(MockFalsifier.falsifyAll());
-			assertThat(shrunkValues).hasSize(1);
+			assertThat(shrunkValues).hasSize(2);
+			assertThat(shrunkValues).anySatisfy(shrunkEmbedded -> {
+				assertThat(shrunkEmbedded.shrunkValue().value()).hasSize(10);
+				assertThat(shrunkEmbedded.shrunkValue().distance()).isBetween(4 * 100 + 10, 4 * 100 + 19);
+			});
 
-			ShrinkResult<Shrinkable<String>> shrunkValue = shrunkValues.iterator().next();
+			ShrinkResult<Shrinkable<String>> shrunkValue = ShrinkingHelper.minDistanceStream(shrunkValues).findFirst().get();
 			assertThat(shrunkValue.shrunkValue().value()).hasSize(8);
 			assertThat(shrunkValue.shrunkValue().value()).matches("[ab]+");
 
@@ -274,6 +351,18 @@ class ArbitraryTests {
 			assertThat(shrunkValue.shrunkValue().distance()).isLessThanOrEqualTo(3 * 100 + 16);
 		}
 
+		@Example
+		void flatMappedShrinkablesAreOnlyEqualToFlatMappedShrinkablesOfSameValueToMap() {
+			Function<Integer, Arbitrary<String>> constant = anInt -> Arbitraries.constant("same");
+			Shrinkable<String> fromOne = new FlatMappedShrinkable<>(Shrinkable.unshrinkable(1), constant, 10, 42L);
+			Shrinkable<String> otherFromOne = new FlatMappedShrinkable<>(Shrinkable.unshrinkable(1), constant, 10, 42L);
+			Shrinkable<String> fromTwo = new FlatMappedShrinkable<>(Shrinkable.unshrinkable(2), constant, 10, 42L);
+
+			assertThat(fromOne).isEqualTo(otherFromOne);
+			assertThat(fromOne).isNotEqualTo(fromTwo);
+			assertThat(fromOne).isNotEqualTo(Shrinkable.unshrinkable("same"));
+		}
+
 		@Example
 		void shrinkAlsoEmbeddedValueWhenFlatMapped() {
 			Arbitrary<Integer> inner = random -> RandomGenerators.integers(1, 10);
@@ -290,6 +379,22 @@ class ArbitraryTests {
 
 		}
 
+		@Example
+		void embeddedArbitraryIsCreatedOnceForEachValueDuringShrinking() {
+			Map<Integer, Integer> countMappings = new HashMap<>();
+			Arbitrary<Integer> arbitrary = Arbitraries.integers().between(0, 1000);
+			Arbitrary<String> mapped = arbitrary.flatMap(anInt -> {
+				countMappings.merge(anInt, 1, Integer::sum);
+				return Arbitraries.strings().withCharRange('a', 'z').ofLength(anInt % 10 + 1);
+			});
+			Shrinkable<String> value = mapped.generator(10).next(random);
+
+			ShrinkResult<Shrinkable<String>> result = new ValueShrinker<>(value).shrink(MockFalsifier.falsifyAll(), null);
+
+			assertThat(result.shrunkValue().value()).isEqualTo("a");
+			assertThat(countMappings.values()).containsOnly(1);
+		}
+
 	}
 
 	@Group
@@ -54,6 +54,28 @@ class ContainerShrinkingTests {
 			Assertions.assertThat(shrinkResult.throwable().get()).isSameAs(error);
 		}
 
+		@Example
+		void shrinkGreedily() {
+			Shrinkable<List<Integer>> list = ArbitraryTestHelper.shrinkableListOfIntegers(5, 0, 7, 3, 9, 2);
+
+			ShrinkResult<Shrinkable<List<Integer>>> shrinkResult = new ValueShrinker<>(list) //
+				.shrinkGreedily(listToShrink -> listToShrink.stream().mapToInt(anInt -> anInt).sum() < 4, null);
+
+			Assertions.assertThat(shrinkResult.shrunkValue().value()).containsExactly(4);
+		}
+
+		@Example
+		void shrinkLargeListToTheTwoElementsThatMatter() {
+			int[] numbers = IntStream.range(0, 10000).toArray();
+			Shrinkable<List<Integer>> list = ArbitraryTestHelper.shrinkableListOfIntegers(numbers);
+
+			ShrinkResult<Shrinkable<List<Integer>>> shrinkResult = shrink(list, listToShrink -> {
+				return !(listToShrink.contains(4711) && listToShrink.contains(5000));
+			}, null);
+
+			Assertions.assertThat(shrinkResult.shrunkValue().value()).containsExactly(4711, 5000);
+		}
+
 		@Example
 		void ifSizeCannotBeShrunkShrinkElements() {
 			Shrinkable<List<Integer>> list = ArbitraryTestHelper.shrinkableListOfIntegers(1, 2, 3, 4);
@@ -166,6 +188,16 @@ class ContainerShrinkingTests {
 			Assertions.assertThat(shrinkResult.shrunkValue().distance()).isEqualTo(0);
 		}
 
+		@Example
+		void shrinkGreedily() {
+			Shrinkable<String> stringShrinkable = ArbitraryTestHelper.shrinkableString("hello this is a longer sentence.");
+
+			ShrinkResult<Shrinkable<String>> shrinkResult = new ValueShrinker<>(stringShrinkable) //
+				.shrinkGreedily(aString -> aString.length() < 3 || !aString.contains("o"), null);
+
+			Assertions.assertThat(shrinkResult.shrunkValue().value()).isEqualTo("oaa");
+		}
+
 		@Property(tries = 100)
 		void dontShrinkBelowMinSize(@ForAll @IntRange(min = 1, max = 100) int minSize, @ForAll Random random) {
 			RandomGenerator<Character> characters = RandomGenerators.chars('a', 'b');
@@ -107,4 +107,66 @@ class DecimalsShrinkingTests {
 		assertThat(shrunkValue).isCloseTo(BigDecimal.ZERO, Offset.offset(BigDecimal.ZERO)); // can be + or - 0.0
 	}
 
+	@Group
+	class DoubleShrinking {
+
+		@Example
+		void valueOutsideRangeDoesNotShrink() {
+			ShrinkCandidates<Double> shrinker = new DoubleShrinkCandidates(-10.0, 10.0, 2);
+			assertThat(shrinker.nextCandidates(20.0)).isEmpty();
+		}
+
+		@Example
+		void shrinkFrom0DoesNotShrink() {
+			ShrinkCandidates<Double> shrinker = new DoubleShrinkCandidates(-10.0, 10.0, 2);
+			assertThat(shrinker.nextCandidates(0.0)).isEmpty();
+		}
+
+		@Example
+		void shrinkByRemovingDecimalsAndShrinkingIntegralPart() {
+			ShrinkCandidates<Double> shrinker = new DoubleShrinkCandidates(-10.0, 10.0, 2);
+			assertThat(shrinker.nextCandidates(2.15)).containsOnly(1.0, 2.1, 2.2);
+			assertThat(shrinker.nextCandidates(-3.99)).containsOnly(-2.0, -3.9, -4.0);
+		}
+
+		@Example
+		void shrinkWillNotShrinkToDecimalsOutsideRange() {
+			ShrinkCandidates<Double> shrinker = new DoubleShrinkCandidates(2.11, 10.0, 2);
+			assertThat(shrinker.nextCandidates(2.15)).containsOnly(2.2);
+		}
+
+		@Example
+		void withNoDecimalsShrinkLikeIntegrals() {
+			ShrinkCandidates<Double> shrinker = new DoubleShrinkCandidates(-10.0, 10.0, 2);
+			assertThat(shrinker.nextCandidates(5.0)).containsOnly(3.0, 4.0);
+		}
+
+		@Example
+		void distanceIsDistanceToShrinkTargetShiftedByPrecision() {
+			ShrinkCandidates<Double> shrinker = new DoubleShrinkCandidates(-10.0, 10.0, 2);
+			assertThat(shrinker.distance(9.55)).isEqualTo(955);
+			assertThat(shrinker.distance(-0.1)).isEqualTo(10);
+			assertThat(shrinker.distance(0.0)).isEqualTo(0);
+
+			ShrinkCandidates<Double> shrinkerAboveZero = new DoubleShrinkCandidates(10.0, 100.0, 2);
+			assertThat(shrinkerAboveZero.distance(10.0)).isEqualTo(0);
+		}
+
+		@Example
+		void hugeValuesShrinkWithoutOverflow() {
+			ShrinkCandidates<Double> shrinker = new DoubleShrinkCandidates(-Double.MAX_VALUE, Double.MAX_VALUE, 2);
+			assertThat(shrinker.distance(Double.MAX_VALUE)).isEqualTo(Integer.MAX_VALUE);
+			assertThat(shrinker.nextCandidates(Double.MAX_VALUE)).containsOnly(Double.MAX_VALUE / 2);
+		}
+
+		@Property(tries = 1000)
+		void shrinkingWillAlwaysConvergeToZero(@ForAll @DoubleRange(min = -100, max = 100) @Scale(6) double aValue) {
+			ShrinkCandidates<Double> shrinker = new DoubleShrinkCandidates(-100.0, 100.0, 6);
+			ShrinkableValue<Double> shrinkableValue = new ShrinkableValue<>(aValue, shrinker);
+			ValueShrinker<Double> valueShrinker = new ValueShrinker<>(shrinkableValue);
+			double shrunkValue = valueShrinker.shrink(MockFalsifier.falsifyAll(), null).shrunkValue().value();
+			assertThat(shrunkValue).isEqualTo(0.0);
+		}
+	}
+
 }
@@ -0,0 +1,134 @@
+package net.jqwik.properties;
+
+import net.jqwik.api.*;
+import net.jqwik.properties.FilterStatisticsCollector.*;
+import org.junit.platform.engine.reporting.*;
+
+import java.util.*;
+import java.util.function.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FilterStatisticsTests {
+
+	private Random random = SourceOfRandomness.current();
+
+	@Example
+	void countAcceptedAndRejectedValuesOfEachFilter() {
+		Predicate<Integer> isOdd = anInt -> anInt % 2 != 0;
+		Predicate<Integer> isFive = anInt -> anInt == 5;
+		RandomGenerator<Integer> odds = new ArbitraryWheelForTests<>(1, 2, 3, 4, 5).filter(isOdd).generator(10);
+		RandomGenerator<Integer> fives = new ArbitraryWheelForTests<>(1, 2, 3, 4, 5).filter(isFive).generator(10);
+
+		FilterStatisticsCollector.start();
+		try {
+			odds.next(random);
+			odds.nextValue(random);
+			odds.next(random);
+			fives.nextValue(random);
+
+			FilterStatisticsCollector collector = FilterStatisticsCollector.get();
+			FilterCounts oddCounts = collector.countsFor(odds);
+			assertThat(oddCounts.accepted()).isEqualTo(3);
+			assertThat(oddCounts.rejected()).isEqualTo(2);
+			FilterCounts fiveCounts = collector.countsFor(fives);
+			assertThat(fiveCounts.accepted()).isEqualTo(1);
+			assertThat(fiveCounts.rejected()).isEqualTo(4);
+		} finally {
+			FilterStatisticsCollector.clearAll();
+		}
+	}
+
+	@Example
+	void countEachUseOfTheSameFilterPredicateSeparately() {
+		Predicate<Integer> isOdd = anInt -> anInt % 2 != 0;
+		RandomGenerator<Integer> odds = new ArbitraryWheelForTests<>(1, 2, 3, 4, 5).filter(isOdd).generator(10);
+		RandomGenerator<Integer> otherOdds = new ArbitraryWheelForTests<>(1, 2, 3, 4, 5).filter(isOdd).generator(10);
+
+		FilterStatisticsCollector.start();
+		try {
+			odds.nextValue(random);
+			odds.nextValue(random);
+			otherOdds.nextValue(random);
+
+			FilterStatisticsCollector collector = FilterStatisticsCollector.get();
+			assertThat(collector.countsFor(odds).accepted()).isEqualTo(2);
+			assertThat(collector.countsFor(otherOdds).accepted()).isEqualTo(1);
+		} finally {
+			FilterStatisticsCollector.clearAll();
+		}
+	}
+
+	@Example
+	void countRejectedCandidatesWhileShrinking() {
+		Predicate<Integer> isOdd = anInt -> anInt % 2 != 0;
+		RandomGenerator<Integer> odds = new ArbitraryWheelForTests<>(1, 2, 3, 4, 5).filter(isOdd).generator(10);
+		odds.next(random);
+		odds.next(random);
+		Shrinkable<Integer> five = odds.next(random);
+
+		FilterStatisticsCollector.start();
+		try {
+			five.shrinkNext(MockFalsifier.falsifyAll());
+
+			FilterCounts counts = FilterStatisticsCollector.get().countsFor(odds);
+			assertThat(counts.rejectedWhileShrinking()).isEqualTo(1);
+			assertThat(counts.accepted()).isEqualTo(0);
+		} finally {
+			FilterStatisticsCollector.clearAll();
+		}
+	}
+
+	@Example
+	void countFiltersOfBoundFunctionsInOtherThreads() throws Exception {
+		Predicate<Integer> isOdd = anInt -> anInt % 2 != 0;
+		RandomGenerator<Integer> odds = new ArbitraryWheelForTests<>(1, 2, 3, 4, 5).filter(isOdd).generator(10);
+
+		FilterStatisticsCollector.start();
+		try {
+			Function<Integer, Integer> generateOdd = FilterStatisticsCollector.bindToCurrentProperty(ignore -> odds.nextValue(random));
+			Thread worker = new Thread(() -> generateOdd.apply(0));
+			worker.start();
+			worker.join();
+
+			FilterCounts counts = FilterStatisticsCollector.get().countsFor(odds);
+			assertThat(counts.accepted()).isEqualTo(1);
+		} finally {
+			FilterStatisticsCollector.clearAll();
+		}
+	}
+
+	@Example
+	void countFiltersWhileShrinkingInParallel() {
+		Predicate<Integer> isOdd = anInt -> anInt % 2 != 0;
+		RandomGenerator<Integer> odds = new ArbitraryWheelForTests<>(1, 2, 3, 4, 5).filter(isOdd).generator(10);
+
+		FilterStatisticsCollector.start();
+		ShrinkingSession session = ShrinkingSession.start(Integer.MAX_VALUE, null, 4);
+		try {
+			ShrinkingSession.evaluateAll(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8), ignore -> odds.nextValue(random));
+
+			FilterCounts counts = FilterStatisticsCollector.get().countsFor(odds);
+			assertThat(counts.accepted()).isEqualTo(8);
+		} finally {
+			session.close();
+			FilterStatisticsCollector.clearAll();
+		}
+	}
+
+	@Example
+	void reportAcceptanceRateOfEachFilter() {
+		FilterStatisticsCollector collector = new FilterStatisticsCollector();
+		Object filter1 = "first";
+		Object filter2 = "second";
+		collector.countGeneration(filter1, 3, 0);
+		collector.countGeneration(filter2, 0, 0);
+		collector.countShrinking(filter2, 7, 0);
+
+		ReportEntry entry = collector.createReportEntry();
+
+		String statistics = entry.getKeyValuePairs().get(FilterStatisticsCollector.KEY_FILTER_STATISTICS);
+		assertThat(statistics).contains("filter 1 (first) : accepted 1 of 4 (25 %), rejected 0 while shrinking");
+		assertThat(statistics).contains("filter 2 (second) : accepted 1 of 1 (100 %), rejected 7 while shrinking");
+	}
+}
@@ -18,9 +18,9 @@ public class ForAllSpy implements CheckedFunction {
 	}
 
 	@Override
-	public boolean test(List<Object> args) {
+	public boolean test(Object[] args) {
 		count.incrementAndGet();
-		Assertions.assertThat(argumentsVerifier.apply(args)).isTrue().describedAs("Arguments don't match expectation.");
+		Assertions.assertThat(argumentsVerifier.apply(Arrays.asList(args))).isTrue().describedAs("Arguments don't match expectation.");
 		return returnFunc.apply(count.get());
 	}
 
@@ -2,6 +2,7 @@ package net.jqwik.properties;
 
 import net.jqwik.api.*;
 import net.jqwik.descriptor.*;
+import net.jqwik.properties.arbitraries.*;
 import org.assertj.core.api.*;
 import org.junit.platform.engine.reporting.*;
 import org.mockito.*;
@@ -50,6 +51,32 @@ class GenericPropertyTests {
 		StatisticsCollector.clearAll();
 	}
 
+	@SuppressWarnings("unchecked")
+	@Example
+	void reportFilterStatistics() {
+		ForAllSpy forAllFunction = new ForAllSpy(value -> true, value -> true);
+
+		Arbitrary<Integer> arbitrary = new ArbitraryWheelForTests<>(1, 2, 3, 4, 5).filter(anInt -> anInt % 2 != 0);
+		List<Arbitrary> arbitraries = arbitraries(arbitrary);
+
+		GenericProperty property = new GenericProperty("filtered", arbitraries, forAllFunction);
+		PropertyConfiguration configuration = new PropertyConfiguration("Property", "42", 10, 5, ShrinkingMode.ON, new Reporting[0]);
+		Consumer<ReportEntry> mockPublisher = mock(Consumer.class);
+
+		property.check(configuration, mockPublisher);
+
+		ArgumentCaptor<ReportEntry> reportEntryCaptor = ArgumentCaptor.forClass(ReportEntry.class);
+		verify(mockPublisher, atLeast(2)).accept(reportEntryCaptor.capture());
+
+		Optional<String> filterStatistics = reportEntryCaptor.getAllValues().stream() //
+			.map(entry -> entry.getKeyValuePairs().get(FilterStatisticsCollector.KEY_FILTER_STATISTICS)) //
+			.filter(Objects::nonNull) //
+			.findFirst();
+
+		Assertions.assertThat(filterStatistics).isPresent();
+		Assertions.assertThat(filterStatistics.get()).contains("filter 1 (Filtering [Wheel: Integer[]{1, 2, 3, 4, 5}]) : accepted 10 of 16 (63 %)");
+	}
+
 	@SuppressWarnings("ConstantConditions")
 	@Group
 	class OneParameter {
@@ -121,6 +148,39 @@ class GenericPropertyTests {
 			assertThat(result.sample().get()).containsExactly(failingTry);
 		}
 
+		@Example
+		void shrinkGreedilyIfShrinkingModeIsGreedy() {
+			List<Arbitrary> arbitraries = arbitraries(Arbitraries.integers().between(0, 1000));
+			CheckedFunction lessThan100 = args -> (int) args[0] < 100;
+
+			GenericProperty property = new GenericProperty("falsified property", arbitraries, lessThan100);
+			PropertyConfiguration configuration = new PropertyConfiguration("Property", "41", 100, 5, ShrinkingMode.GREEDY, new Reporting[0]);
+			PropertyCheckResult result = property.check(configuration, NULL_PUBLISHER);
+
+			assertThat(result.status()).isEqualTo(PropertyCheckResult.Status.FALSIFIED);
+			assertThat(result.sample().get()).containsExactly(100);
+		}
+
+		@Example
+		void boundedShrinkingStopsAfterMaxChecks() {
+			List<Arbitrary> arbitraries = arbitraries(Arbitraries.integers().between(0, 1000000));
+			AtomicInteger countChecks = new AtomicInteger();
+			CheckedFunction lessThan100 = args -> {
+				countChecks.incrementAndGet();
+				return (int) args[0] < 100;
+			};
+
+			GenericProperty property = new GenericProperty("falsified property", arbitraries, lessThan100);
+			PropertyConfiguration configuration = new PropertyConfiguration("Property", "41", 100, 5, ShrinkingMode.BOUNDED, new Reporting[0])
+				.withShrinkingBudget(5, 10);
+			PropertyCheckResult result = property.check(configuration, NULL_PUBLISHER);
+
+			assertThat(result.status()).isEqualTo(PropertyCheckResult.Status.FALSIFIED);
+			assertThat((int) result.sample().get().get(0)).isGreaterThanOrEqualTo(100);
+			assertThat(result.shrinkingStatistics().get()).startsWith("cut short after");
+			assertThat(countChecks.get()).isEqualTo(result.countChecks() + 5);
+		}
+
 		@Example
 		void falsifiedThroughAssertionError() {
 			AssertionError assertionError = new AssertionError("test");
@@ -258,7 +318,7 @@ class GenericPropertyTests {
 		void falsifiedAndShrunk() {
 			Arbitrary<Integer> arbitrary = Arbitraries.integers().between(1, 100);
 			List<Arbitrary> arbitraries = arbitraries(arbitrary);
-			CheckedFunction checkedFunction = params -> ((int) params.get(0)) < 5;
+			CheckedFunction checkedFunction = params -> ((int) params[0]) < 5;
 
 			GenericProperty property = new GenericProperty("falsified property", arbitraries, checkedFunction);
 			PropertyConfiguration configuration = new PropertyConfiguration("Property", "41", 10, 5, ShrinkingMode.ON, new Reporting[0]);
@@ -351,9 +411,9 @@ class GenericPropertyTests {
 		@Example
 		void twoParametersSatisfied() {
 			CheckedFunction forAllFunction = args -> {
-				assertThat(args).size().isEqualTo(2);
-				assertThat(args.get(0)).isInstanceOf(Integer.class);
-				assertThat(args.get(1)).isInstanceOf(Integer.class);
+				assertThat(args).hasSize(2);
+				assertThat(args[0]).isInstanceOf(Integer.class);
+				assertThat(args[1]).isInstanceOf(Integer.class);
 				return true;
 			};
 
@@ -379,8 +439,8 @@ class GenericPropertyTests {
 			int failingTry = 5;
 
 			CheckedFunction forAllFunction = args -> {
-				assertThat(args).size().isEqualTo(4);
-				return ((int) args.get(0)) < failingTry;
+				assertThat(args).hasSize(4);
+				return ((int) args[0]) < failingTry;
 			};
 
 			Arbitrary<Integer> arbitrary1 = new ArbitraryWheelForTests<>(1, 2, 3, 4, 5);
@@ -407,6 +467,311 @@ class GenericPropertyTests {
 
 	}
 
+	@Group
+	class ReplayFailingTry {
+
+		private final Arbitrary<Integer> arbitrary = Arbitraries.integers().between(0, 1_000_000);
+
+		@Example
+		void falsifiedResultContainsSeedOfFailingTry() {
+			PropertyCheckResult result = checkLessThan(900_000, configuration());
+
+			assertThat(result.status()).isEqualTo(PropertyCheckResult.Status.FALSIFIED);
+			assertThat(result.failingTrySeed()).isNotEqualTo(Property.SEED_NOT_SET);
+		}
+
+		@Example
+		void satisfiedResultHasNoSeedOfFailingTry() {
+			PropertyCheckResult result = checkLessThan(1_000_001, configuration());
+
+			assertThat(result.status()).isEqualTo(PropertyCheckResult.Status.SATISFIED);
+			assertThat(result.failingTrySeed()).isEqualTo(Property.SEED_NOT_SET);
+		}
+
+		@Example
+		void failingTryIsReplayedDirectly() {
+			PropertyCheckResult firstResult = checkLessThan(990_000, configuration());
+			assertThat(firstResult.countTries()).isGreaterThan(1);
+
+			AtomicInteger countCalls = new AtomicInteger(0);
+			PropertyConfiguration replayConfiguration = configuration().withFailingTrySeed(firstResult.failingTrySeed());
+			GenericProperty property = new GenericProperty("replay", arbitraries(arbitrary), args -> {
+				countCalls.incrementAndGet();
+				return (int) args[0] < 990_000;
+			});
+			PropertyCheckResult replayResult = property.check(replayConfiguration, NULL_PUBLISHER);
+
+			assertThat(countCalls.get()).isEqualTo(1);
+			assertThat(replayResult.status()).isEqualTo(PropertyCheckResult.Status.FALSIFIED);
+			assertThat(replayResult.countTries()).isEqualTo(firstResult.countTries());
+			assertThat(replayResult.countChecks()).isEqualTo(1);
+			assertThat(replayResult.sample()).isEqualTo(firstResult.sample());
+			assertThat(replayResult.failingTrySeed()).isEqualTo(firstResult.failingTrySeed());
+		}
+
+		@Example
+		void failingTryIsReplayedDirectlyWithXoroshiro() {
+			RandomAlgorithm previous = SourceOfRandomness.algorithm();
+			try {
+				SourceOfRandomness.useAlgorithm(RandomAlgorithm.XOROSHIRO);
+				failingTryIsReplayedDirectly();
+			} finally {
+				SourceOfRandomness.useAlgorithm(previous);
+			}
+		}
+
+		@Example
+		void allTriesAreRunIfReplayedTryDoesNotFailAnyMore() {
+			PropertyCheckResult firstResult = checkLessThan(990_000, configuration());
+
+			PropertyConfiguration replayConfiguration = configuration().withFailingTrySeed(firstResult.failingTrySeed());
+			PropertyCheckResult replayResult = checkLessThan(1_000_001, replayConfiguration);
+
+			assertThat(replayResult.status()).isEqualTo(PropertyCheckResult.Status.SATISFIED);
+			assertThat(replayResult.countTries()).isEqualTo(1000);
+		}
+
+		@Example
+		void valuesWithoutShrinkingAreTheSameAsWithShrinking() {
+			Arbitrary<Integer> smallInts = Arbitraries.integers().between(0, 100);
+			GenericProperty property = new GenericProperty("less than", arbitraries(smallInts), args -> (int) args[0] < 90);
+			PropertyCheckResult withoutShrinking = property.check(configuration(), NULL_PUBLISHER);
+			PropertyCheckResult withShrinking = property.check(
+				new PropertyConfiguration("Property", "4711", 1000, 5, ShrinkingMode.ON, new Reporting[0]), NULL_PUBLISHER);
+
+			assertThat(withoutShrinking.countTries()).isEqualTo(withShrinking.countTries());
+			assertThat(withoutShrinking.failingTrySeed()).isEqualTo(withShrinking.failingTrySeed());
+			assertThat(withoutShrinking.originalSample()).isEqualTo(withShrinking.originalSample());
+			assertThat(withoutShrinking.sample()).isEqualTo(withoutShrinking.originalSample());
+			assertThat(withShrinking.sample().get()).containsExactly(90);
+		}
+
+		private PropertyCheckResult checkLessThan(int max, PropertyConfiguration configuration) {
+			GenericProperty property = new GenericProperty("less than", arbitraries(arbitrary), args -> (int) args[0] < max);
+			return property.check(configuration, NULL_PUBLISHER);
+		}
+
+		private PropertyConfiguration configuration() {
+			return new PropertyConfiguration("Property", "4711", 1000, 5, ShrinkingMode.OFF, new Reporting[0]);
+		}
+	}
+
+	@Group
+	class ShrinkablesOfFailingTry {
+
+		private final PropertyConfiguration configuration =
+			new PropertyConfiguration("Property", "42", 1000, 5, ShrinkingMode.ON, new Reporting[0]);
+
+		@Example
+		void shrinkablesOfFailingTryAreRegenerated() {
+			Arbitrary<List<Integer>> lists = Arbitraries.integers().between(0, 10).list().ofMaxSize(20);
+			GenericProperty property = new GenericProperty("shorter than 3", arbitraries(lists), args -> ((List) args[0]).size() < 3);
+
+			PropertyCheckResult result = property.check(configuration, NULL_PUBLISHER);
+
+			assertThat(result.status()).isEqualTo(PropertyCheckResult.Status.FALSIFIED);
+			assertThat(result.countTries()).isGreaterThan(1);
+			assertThat((List) result.originalSample().get().get(0)).isNotEqualTo(Arrays.asList(0, 0, 0));
+			assertThat(result.sample().get()).containsExactly(Arrays.asList(0, 0, 0));
+		}
+
+		@Example
+		void generatorWhichCannotBeRegeneratedIsNotShrunk() {
+			AtomicInteger counter = new AtomicInteger(0);
+			Arbitrary<Integer> sharedGenerator = Arbitraries.fromGenerator(
+				random -> new ShrinkableValue<>(counter.incrementAndGet(), new IntegerShrinkCandidates(0, 1000)));
+			GenericProperty property = new GenericProperty("less than 10", arbitraries(sharedGenerator), args -> (int) args[0] < 10);
+
+			PropertyCheckResult result = property.check(configuration, NULL_PUBLISHER);
+
+			assertThat(result.status()).isEqualTo(PropertyCheckResult.Status.FALSIFIED);
+			assertThat(result.countTries()).isEqualTo(10);
+			assertThat(result.sample().get()).containsExactly(10);
+			assertThat(result.shrinkingStatistics()).contains(GenericProperty.NOT_REPRODUCIBLE);
+		}
+
+		@Example
+		void propertyIsNotRunAgainForSampleWithoutEquals() {
+			AtomicInteger countCalls = new AtomicInteger(0);
+			Arbitrary<Object> withoutEquals = Arbitraries.integers().between(0, 10_000).map(anInt -> new Object());
+			GenericProperty property = new GenericProperty("fails in 5th try", arbitraries(withoutEquals), args -> countCalls.incrementAndGet() < 5);
+
+			PropertyCheckResult result = property.check(configuration, NULL_PUBLISHER);
+
+			assertThat(result.status()).isEqualTo(PropertyCheckResult.Status.FALSIFIED);
+			assertThat(countCalls.get()).isEqualTo(5);
+			assertThat(result.shrinkingStatistics()).contains(GenericProperty.NOT_REPRODUCIBLE);
+		}
+	}
+
+	@Group
+	class ExhaustiveGeneration {
+
+		@Example
+		void allCombinationsAreCheckedOnceIfFewerThanTries() {
+			Set<List<Object>> checkedCombinations = new HashSet<>();
+			CheckedFunction collectCombinations = args -> checkedCombinations.add(Arrays.asList(args));
+			List<Arbitrary> arbitraries = arbitraries(Arbitraries.of("a", "b", "c"), Arbitraries.of(true, false));
+			GenericProperty property = new GenericProperty("exhaustive", arbitraries, collectCombinations);
+			PropertyConfiguration configuration = new PropertyConfiguration("Property", "42", 100, 5, ShrinkingMode.ON, new Reporting[0]);
+
+			PropertyCheckResult result = property.check(configuration, NULL_PUBLISHER);
+
+			assertThat(result.status()).isEqualTo(PropertyCheckResult.Status.SATISFIED);
+			assertThat(result.checkedExhaustively()).isTrue();
+			assertThat(result.countTries()).isEqualTo(6);
+			assertThat(checkedCombinations).hasSize(6);
+		}
+
+		@Example
+		void randomTriesIfMoreCombinationsThanTries() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true, exactlyOneInteger -> true);
+			List<Arbitrary> arbitraries = arbitraries(Arbitraries.integers().between(1, 20));
+			GenericProperty property = new GenericProperty("random", arbitraries, forAllFunction);
+			PropertyConfiguration configuration = new PropertyConfiguration("Property", "42", 10, 5, ShrinkingMode.ON, new Reporting[0]);
+
+			PropertyCheckResult result = property.check(configuration, NULL_PUBLISHER);
+
+			assertThat(result.checkedExhaustively()).isFalse();
+			assertThat(forAllFunction.countCalls()).isEqualTo(10);
+		}
+
+		@Example
+		void falsifiedCombinationIsShrunk() {
+			// Combinations are checked from -9 upwards but shrunk towards 0
+			List<Arbitrary> arbitraries = arbitraries(Arbitraries.integers().between(-9, 9), Arbitraries.integers().between(0, 9));
+			CheckedFunction smallFirstOrSecond = args -> Math.abs((int) args[0]) < 3 || (int) args[1] < 2;
+			GenericProperty property = new GenericProperty("small first or second", arbitraries, smallFirstOrSecond);
+			PropertyConfiguration configuration = new PropertyConfiguration("Property", "42", 1000, 5, ShrinkingMode.ON, new Reporting[0]);
+
+			PropertyCheckResult result = property.check(configuration, NULL_PUBLISHER);
+
+			assertThat(result.status()).isEqualTo(PropertyCheckResult.Status.FALSIFIED);
+			assertThat(result.checkedExhaustively()).isTrue();
+			assertThat(result.failingTrySeed()).isEqualTo(Property.SEED_NOT_SET);
+			assertThat(result.originalSample().get()).containsExactly(-9, 2);
+			assertThat(result.sample().get()).containsExactly(-3, 2);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Example
+		void exhaustiveGenerationIsReported() {
+			List<Arbitrary> arbitraries = arbitraries(Arbitraries.of(true, false));
+			GenericProperty property = new GenericProperty("exhaustive", arbitraries, args -> true);
+			PropertyConfiguration configuration = new PropertyConfiguration("Property", "42", 100, 5, ShrinkingMode.ON, new Reporting[0]);
+			Consumer<ReportEntry> mockPublisher = mock(Consumer.class);
+
+			property.check(configuration, mockPublisher);
+
+			ArgumentCaptor<ReportEntry> reportEntryCaptor = ArgumentCaptor.forClass(ReportEntry.class);
+			verify(mockPublisher).accept(reportEntryCaptor.capture());
+			assertThat(reportEntryCaptor.getValue().getKeyValuePairs()) //
+				.containsEntry(CheckResultReportEntry.GENERATION_REPORT_KEY, CheckResultReportEntry.EXHAUSTIVE_GENERATION);
+		}
+	}
+
+	@Group
+	class ParallelTries {
+
+		private final Arbitrary<Integer> arbitrary = Arbitraries.integers().between(0, 1_000_000);
+
+		@Example
+		void satisfiedPropertyChecksAllTries() {
+			AtomicInteger countCalls = new AtomicInteger(0);
+			GenericProperty property = new GenericProperty("parallel", arbitraries(arbitrary), args -> {
+				countCalls.incrementAndGet();
+				return true;
+			});
+			PropertyCheckResult result = property.check(configuration(4), NULL_PUBLISHER);
+
+			assertThat(result.status()).isEqualTo(PropertyCheckResult.Status.SATISFIED);
+			assertThat(result.countTries()).isEqualTo(1000);
+			assertThat(result.countChecks()).isEqualTo(1000);
+			assertThat(countCalls.get()).isEqualTo(1000);
+		}
+
+		@Example
+		void falsifiedSampleDoesNotDependOnParallelism() {
+			PropertyCheckResult sequentialResult = checkLessThan(990_000, configuration(1));
+
+			for (int parallelism : new int[]{2, 3, 8}) {
+				PropertyCheckResult parallelResult = checkLessThan(990_000, configuration(parallelism));
+				assertThat(parallelResult.status()).isEqualTo(PropertyCheckResult.Status.FALSIFIED);
+				assertThat(parallelResult.countTries()).isEqualTo(sequentialResult.countTries());
+				assertThat(parallelResult.countChecks()).isEqualTo(sequentialResult.countChecks());
+				assertThat(parallelResult.originalSample()).isEqualTo(sequentialResult.originalSample());
+				assertThat(parallelResult.sample()).isEqualTo(sequentialResult.sample());
+				assertThat(parallelResult.failingTrySeed()).isEqualTo(sequentialResult.failingTrySeed());
+			}
+		}
+
+		@Example
+		void shrunkSampleDoesNotDependOnParallelism() {
+			List<Arbitrary> arbitraries = arbitraries( //
+				arbitrary, //
+				Arbitraries.strings().withCharRange('a', 'z').ofMaxLength(20).list().ofMaxSize(10) //
+			);
+			CheckedFunction property = args -> {
+				List<String> strings = (List<String>) args[1];
+				return (int) args[0] < 500_000 || strings.stream().mapToInt(String::length).sum() < 12;
+			};
+			PropertyCheckResult sequentialResult = new GenericProperty("shrinking", arbitraries, property) //
+				.check(configuration(1), NULL_PUBLISHER);
+			assertThat(sequentialResult.status()).isEqualTo(PropertyCheckResult.Status.FALSIFIED);
+
+			for (int parallelism : new int[]{2, 4}) {
+				PropertyCheckResult parallelResult = new GenericProperty("shrinking", arbitraries, property) //
+					.check(configuration(parallelism), NULL_PUBLISHER);
+				assertThat(parallelResult.originalSample()).isEqualTo(sequentialResult.originalSample());
+				assertThat(parallelResult.sample()).isEqualTo(sequentialResult.sample());
+			}
+		}
+
+		@Example
+		void erroneousTryIsReported() {
+			GenericProperty property = new GenericProperty("parallel", arbitraries(arbitrary), args -> {
+				if ((int) args[0] > 990_000)
+					throw new IllegalStateException();
+				return true;
+			});
+			PropertyCheckResult result = property.check(configuration(4), NULL_PUBLISHER);
+
+			assertThat(result.status()).isEqualTo(PropertyCheckResult.Status.ERRONEOUS);
+			assertThat(result.throwable().get()).isInstanceOf(IllegalStateException.class);
+			assertThat((int) result.sample().get().get(0)).isGreaterThan(990_000);
+		}
+
+		@Example
+		void statisticsAreCollectedFromAllThreads() {
+			Map<List<Object>, Integer> sequentialCounts = collectStatistics(1);
+			Map<List<Object>, Integer> parallelCounts = collectStatistics(4);
+
+			assertThat(parallelCounts).isEqualTo(sequentialCounts);
+			assertThat(parallelCounts.values().stream().mapToInt(count -> count).sum()).isEqualTo(1000);
+		}
+
+		private Map<List<Object>, Integer> collectStatistics(int parallelism) {
+			StatisticsCollector.clearAll();
+			GenericProperty property = new GenericProperty("statistics", arbitraries(arbitrary), args -> {
+				Statistics.collect((int) args[0] % 3);
+				return true;
+			});
+			property.check(configuration(parallelism), NULL_PUBLISHER);
+			Map<List<Object>, Integer> counts = new HashMap<>(StatisticsCollector.get().getCounts());
+			StatisticsCollector.clearAll();
+			return counts;
+		}
+
+		private PropertyCheckResult checkLessThan(int max, PropertyConfiguration configuration) {
+			GenericProperty property = new GenericProperty("less than", arbitraries(arbitrary), args -> (int) args[0] < max);
+			return property.check(configuration, NULL_PUBLISHER);
+		}
+
+		private PropertyConfiguration configuration(int parallelism) {
+			return new PropertyConfiguration("Property", "4711", 1000, 5, ShrinkingMode.ON, new Reporting[0]).withParallelism(parallelism);
+		}
+	}
+
 	private List<Arbitrary> arbitraries(Arbitrary... arbitraries) {
 		return Arrays.asList(arbitraries);
 	}
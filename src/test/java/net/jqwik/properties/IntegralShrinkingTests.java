@@ -105,4 +105,43 @@ class IntegralShrinkingTests {
 			);
 	}
 
+	@Group
+	class PrimitiveShrinkCandidates {
+
+		@Property
+		void longCandidatesAreSameAsForBigIntegers(@ForAll long min, @ForAll long max, @ForAll long value) {
+			ShrinkCandidates<BigInteger> bigIntegerShrinker = new BigIntegerShrinkCandidates(BigInteger.valueOf(min), BigInteger.valueOf(max));
+			ShrinkCandidates<Long> longShrinker = new LongShrinkCandidates(min, max);
+
+			assertThat(longShrinker.nextCandidates(value)).containsExactlyInAnyOrderElementsOf(
+				toLongs(bigIntegerShrinker.nextCandidates(BigInteger.valueOf(value))));
+			assertThat(longShrinker.distance(value)).isEqualTo(bigIntegerShrinker.distance(BigInteger.valueOf(value)));
+		}
+
+		@Property
+		void intCandidatesAreSameAsForBigIntegers(@ForAll int min, @ForAll int max, @ForAll int value) {
+			ShrinkCandidates<BigInteger> bigIntegerShrinker = new BigIntegerShrinkCandidates(BigInteger.valueOf(min), BigInteger.valueOf(max));
+			ShrinkCandidates<Integer> intShrinker = new IntegerShrinkCandidates(min, max);
+
+			assertThat(toLongs(intShrinker.nextCandidates(value))).containsExactlyInAnyOrderElementsOf(
+				toLongs(bigIntegerShrinker.nextCandidates(BigInteger.valueOf(value))));
+			assertThat(intShrinker.distance(value)).isEqualTo(bigIntegerShrinker.distance(BigInteger.valueOf(value)));
+		}
+
+		@Example
+		void extremeValuesDoNotOverflow() {
+			ShrinkCandidates<Long> shrinker = new LongShrinkCandidates(Long.MIN_VALUE, Long.MAX_VALUE);
+			assertThat(shrinker.distance(Long.MIN_VALUE)).isEqualTo(Integer.MAX_VALUE);
+			assertThat(shrinker.distance(Long.MAX_VALUE)).isEqualTo(Integer.MAX_VALUE);
+			assertThat(shrinker.nextCandidates(Long.MIN_VALUE)).containsExactlyInAnyOrder(Long.MIN_VALUE / 2, Long.MIN_VALUE + 1);
+			assertThat(shrinker.nextCandidates(Long.MAX_VALUE)).containsExactlyInAnyOrder(Long.MAX_VALUE - Long.MAX_VALUE / 2, Long.MAX_VALUE - 1);
+		}
+
+		private Set<Long> toLongs(Set<? extends Number> numbers) {
+			Set<Long> longs = new HashSet<>();
+			numbers.forEach(number -> longs.add(number.longValue()));
+			return longs;
+		}
+	}
+
 }
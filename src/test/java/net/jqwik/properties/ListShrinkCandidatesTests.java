@@ -4,6 +4,7 @@ import net.jqwik.api.*;
 import net.jqwik.properties.arbitraries.*;
 
 import java.util.*;
+import java.util.stream.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -35,17 +36,54 @@ class ListShrinkCandidatesTests {
 	}
 
 	@Example
-	void longerStringsAreShrunkFromBothSides() {
-		assertThat(shrinker.nextCandidates(ArbitraryTestHelper.listOfShrinkableIntegers(1, 2, 3, 4))).containsExactly(
-			ArbitraryTestHelper.listOfShrinkableIntegers(1, 2, 3),
-			ArbitraryTestHelper.listOfShrinkableIntegers(2, 3, 4)
+	void longerListsAreShrunkByCuttingChunksOfIncreasingGranularity() {
+		assertThat(shrinker.nextCandidates(ArbitraryTestHelper.listOfShrinkableIntegers(1, 2, 3, 4))).containsExactlyInAnyOrder(
+			ArbitraryTestHelper.listOfShrinkableIntegers(3, 4),
+			ArbitraryTestHelper.listOfShrinkableIntegers(1, 2),
+			ArbitraryTestHelper.listOfShrinkableIntegers(2, 3, 4),
+			ArbitraryTestHelper.listOfShrinkableIntegers(1, 3, 4),
+			ArbitraryTestHelper.listOfShrinkableIntegers(1, 2, 4),
+			ArbitraryTestHelper.listOfShrinkableIntegers(1, 2, 3)
 		);
 	}
 
+	@Example
+	void lazyCandidatesCutLargerChunksFirst() {
+		List<List<Shrinkable<Integer>>> candidates = shrinker
+			.nextCandidatesLazily(ArbitraryTestHelper.listOfShrinkableIntegers(1, 2, 3))
+			.collect(Collectors.toList());
+		assertThat(candidates).containsExactly(
+			ArbitraryTestHelper.listOfShrinkableIntegers(2, 3),
+			ArbitraryTestHelper.listOfShrinkableIntegers(1),
+			ArbitraryTestHelper.listOfShrinkableIntegers(1, 3),
+			ArbitraryTestHelper.listOfShrinkableIntegers(1, 2)
+		);
+	}
+
+	@Example
+	void largeListsAreOnlyCutInChunksOfMaxGranularityAtOnce() {
+		List<Shrinkable<Integer>> largeList = ArbitraryTestHelper.listOfShrinkableIntegers(IntStream.range(0, 10000).toArray());
+
+		Set<List<Shrinkable<Integer>>> candidates = shrinker.nextCandidates(largeList);
+
+		assertThat(candidates).hasSize(2 + 4 + 8 + 16);
+		assertThat(candidates.stream().mapToInt(List::size).min().getAsInt()).isEqualTo(5000);
+		assertThat(candidates.stream().mapToInt(List::size).max().getAsInt()).isEqualTo(10000 - 10000 / 16);
+		assertThat(shrinker.nextCandidatesLazily(largeList).filter(candidate -> candidate.size() == 9999).count()).isEqualTo(10000);
+	}
+
 	@Example
 	void listsAreNeverShrunkBeyondTheirMinimumSize() {
 		shrinker = new ListShrinkCandidates<>(4);
 		assertThat(shrinker.nextCandidates(ArbitraryTestHelper.listOfShrinkableIntegers(1, 2, 3, 4))).isEmpty();
 	}
 
+	@Example
+	void nearTheMinimumSizeOnlySingleElementsAreCut() {
+		shrinker = new ListShrinkCandidates<>(39);
+		Set<List<Shrinkable<Integer>>> candidates = shrinker.nextCandidates(ArbitraryTestHelper.listOfShrinkableIntegers(new int[40]));
+		assertThat(candidates).isNotEmpty();
+		assertThat(candidates).allMatch(candidate -> candidate.size() == 39);
+	}
+
 }
@@ -52,6 +52,34 @@ class ParameterListShrinkerTests {
 			assertThat(shrinkResult.throwable()).isNotPresent();
 		}
 
+		@Example
+		void shrinkGreedily() {
+			List<Shrinkable<Integer>> shrinkableValues = ArbitraryTestHelper.listOfShrinkableIntegers(30, 20, 10);
+			ParameterListShrinker<Integer> listShrinker = new ParameterListShrinker<>(shrinkableValues, e -> {}, new Reporting[0]);
+
+			Predicate<List<Integer>> falsifier = params -> params.stream().mapToInt(anInt -> anInt).sum() < 15;
+			ShrinkResult<List<Shrinkable<Integer>>> shrinkResult = listShrinker.shrinkGreedily(falsifier, null);
+
+			assertThat(extractParams(shrinkResult)).containsExactly(0, 5, 10);
+		}
+
+		@Example
+		void eachParameterListIsCheckedOnlyOnce() {
+			List<Shrinkable<Integer>> shrinkableValues = ArbitraryTestHelper.listOfShrinkableIntegers(30, 20, 10);
+			ParameterListShrinker<Integer> listShrinker = new ParameterListShrinker<>(shrinkableValues, e -> {}, new Reporting[0]);
+
+			Map<List<Integer>, Integer> checks = new HashMap<>();
+			Predicate<List<Integer>> falsifier = params -> {
+				checks.merge(new ArrayList<>(params), 1, Integer::sum);
+				return params.stream().mapToInt(anInt -> anInt).sum() < 15;
+			};
+			ShrinkResult<List<Shrinkable<Integer>>> shrinkResult = listShrinker.shrink(falsifier, null);
+
+			assertThat(extractParams(shrinkResult)).containsExactly(0, 5, 10);
+			assertThat(checks.values()).containsOnly(1);
+			assertThat(listShrinker.lastSessionStatistics().get()).contains("from cache");
+		}
+
 		private List<Integer> extractParams(ShrinkResult<List<Shrinkable<Integer>>> shrinkResult) {
 			return shrinkResult.shrunkValue().stream().map(Shrinkable::value).collect(Collectors.toList());
 		}
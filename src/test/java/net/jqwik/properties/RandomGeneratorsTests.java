@@ -2,6 +2,7 @@ package net.jqwik.properties;
 
 import net.jqwik.*;
 import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
 import net.jqwik.properties.arbitraries.*;
 
 import java.math.*;
@@ -89,6 +90,61 @@ class RandomGeneratorsTests {
 				.isInstanceOf(JqwikException.class);
 		}
 
+		@Property(tries = 100)
+		void intsAreGeneratedLikeBigIntegers(@ForAll long seed, @ForAll int min, @ForAll int max) {
+			Assume.that(min <= max);
+			int[] partitionPoints = {-1000, 0, 1000};
+			RandomGenerator<Integer> intGenerator = RandomGenerators.integers(min, max, partitionPoints);
+			RandomGenerator<BigInteger> bigIntegerGenerator = RandomGenerators.bigIntegers(
+				BigInteger.valueOf(min), BigInteger.valueOf(max), toBigIntegers(partitionPoints));
+
+			assertSameValuesGenerated(seed, intGenerator, bigIntegerGenerator);
+		}
+
+		@Property(tries = 100)
+		void longsAreGeneratedLikeBigIntegers(@ForAll long seed, @ForAll long min, @ForAll long max) {
+			Assume.that(min <= max);
+			long[] partitionPoints = {-100_000_000_000L, 0, 100_000_000_000L};
+			RandomGenerator<Long> longGenerator = RandomGenerators.longs(min, max, partitionPoints);
+			RandomGenerator<BigInteger> bigIntegerGenerator = RandomGenerators.bigIntegers(
+				BigInteger.valueOf(min), BigInteger.valueOf(max), toBigIntegers(partitionPoints));
+
+			assertSameValuesGenerated(seed, longGenerator, bigIntegerGenerator);
+		}
+
+		@Example
+		void longsInFullRange() {
+			RandomGenerator<Long> generator = RandomGenerators.longs(Long.MIN_VALUE, Long.MAX_VALUE);
+			assertAtLeastOneGenerated(generator, aLong -> aLong > Integer.MAX_VALUE);
+			assertAtLeastOneGenerated(generator, aLong -> aLong < Integer.MIN_VALUE);
+		}
+
+		@Example
+		void minGreaterThanMaxFailsForPrimitives() {
+			assertThatThrownBy(() -> RandomGenerators.integers(1, -1)).isInstanceOf(JqwikException.class);
+			assertThatThrownBy(() -> RandomGenerators.longs(1L, -1L)).isInstanceOf(JqwikException.class);
+		}
+
+		private <T extends Number> void assertSameValuesGenerated(
+			long seed, RandomGenerator<T> primitiveGenerator, RandomGenerator<BigInteger> bigIntegerGenerator
+		) {
+			Random primitiveRandom = new Random(seed);
+			Random bigIntegerRandom = new Random(seed);
+			for (int i = 0; i < 20; i++) {
+				T primitive = primitiveGenerator.next(primitiveRandom).value();
+				BigInteger bigInteger = bigIntegerGenerator.next(bigIntegerRandom).value();
+				assertThat(BigInteger.valueOf(primitive.longValue())).isEqualTo(bigInteger);
+			}
+		}
+
+		private BigInteger[] toBigIntegers(int[] values) {
+			return Arrays.stream(values).mapToObj(BigInteger::valueOf).toArray(BigInteger[]::new);
+		}
+
+		private BigInteger[] toBigIntegers(long[] values) {
+			return Arrays.stream(values).mapToObj(BigInteger::valueOf).toArray(BigInteger[]::new);
+		}
+
 	}
 	
 	@Group
@@ -132,6 +188,43 @@ class RandomGeneratorsTests {
 			});
 		}
 
+		@Property(tries = 100)
+		void doublesAreGeneratedLikeBigDecimals(
+			@ForAll long seed,
+			@ForAll @DoubleRange(min = -1000, max = 1000) double min,
+			@ForAll @DoubleRange(min = -1000, max = 1000) double max,
+			@ForAll @IntRange(min = 0, max = 5) int scale
+		) {
+			Assume.that(min <= max);
+			double[] partitionPoints = {-10.0, 0.0, 10.0};
+			RandomGenerator<Double> doubleGenerator = RandomGenerators.doubles(min, max, scale, partitionPoints);
+			RandomGenerator<BigDecimal> bigDecimalGenerator = RandomGenerators.bigDecimals(
+				BigDecimal.valueOf(min), BigDecimal.valueOf(max), scale,
+				Arrays.stream(partitionPoints).mapToObj(BigDecimal::valueOf).toArray(BigDecimal[]::new)
+			);
+
+			Random doubleRandom = new Random(seed);
+			Random bigDecimalRandom = new Random(seed);
+			for (int i = 0; i < 20; i++) {
+				double aDouble = doubleGenerator.next(doubleRandom).value();
+				BigDecimal bigDecimal = bigDecimalGenerator.next(bigDecimalRandom).value();
+				assertThat(aDouble).isEqualTo(bigDecimal.doubleValue());
+			}
+		}
+
+		@Example
+		void bigDoublesAreSpreadOverWholeRange() {
+			RandomGenerator<Double> generator = RandomGenerators.doubles(-Double.MAX_VALUE, Double.MAX_VALUE, 2);
+			assertAtLeastOneGenerated(generator, aDouble -> aDouble > Long.MAX_VALUE);
+			assertAtLeastOneGenerated(generator, aDouble -> aDouble < Long.MIN_VALUE);
+		}
+
+		@Example
+		void doublesAreGeneratedWithScale() {
+			RandomGenerator<Double> generator = RandomGenerators.doubles(-10.0, 10.0, 1);
+			ArbitraryTestHelper.assertAllGenerated(generator, aDouble -> BigDecimal.valueOf(aDouble).stripTrailingZeros().scale() <= 1);
+		}
+
 		@Example
 		void smallFloats() {
 			float min = -10;
@@ -188,6 +281,53 @@ class RandomGeneratorsTests {
 
 	}
 
+	@Group
+	class ValuesOnlyGeneration {
+
+		@Property(tries = 20)
+		void primitivesAndDecimals(@ForAll long seed) {
+			assertSameValuesAsShrinkables(seed, Arbitraries.integers().between(-10_000, 10_000));
+			assertSameValuesAsShrinkables(seed, Arbitraries.longs());
+			assertSameValuesAsShrinkables(seed, Arbitraries.doubles().between(-1000.0, 1000.0).ofScale(3));
+			assertSameValuesAsShrinkables(seed, Arbitraries.bigDecimals().between(BigDecimal.ZERO, BigDecimal.TEN).ofScale(5));
+			assertSameValuesAsShrinkables(seed, Arbitraries.bigIntegers().between(BigInteger.ZERO, BigInteger.valueOf(Long.MAX_VALUE).pow(2)));
+			assertSameValuesAsShrinkables(seed, Arbitraries.of("a", "b", "c"));
+			assertSameValuesAsShrinkables(seed, Arbitraries.frequency(Tuples.tuple(1, "rare"), Tuples.tuple(10, "common")));
+		}
+
+		@Property(tries = 20)
+		void containers(@ForAll long seed) {
+			assertSameValuesAsShrinkables(seed, Arbitraries.strings().alpha().ofMaxLength(20));
+			assertSameValuesAsShrinkables(seed, Arbitraries.integers().between(0, 100).list().ofMaxSize(10));
+			assertSameValuesAsShrinkables(seed, Arbitraries.integers().between(0, 100).set().ofMaxSize(10));
+			assertSameValuesAsShrinkables(seed, Arbitraries.integers().between(0, 100).array(Integer[].class).ofMaxSize(10));
+		}
+
+		@Property(tries = 20)
+		void combinationsAndTransformations(@ForAll long seed) {
+			Arbitrary<Integer> integers = Arbitraries.integers().between(0, 1000);
+			assertSameValuesAsShrinkables(seed, integers.filter(i -> i % 2 == 0).map(i -> i * 3));
+			assertSameValuesAsShrinkables(seed, integers.injectNull(0.2));
+			assertSameValuesAsShrinkables(seed, integers.withSamples(-1, -2, -3));
+			assertSameValuesAsShrinkables(seed, integers.flatMap(i -> Arbitraries.strings().alpha().ofLength(i % 10)));
+			assertSameValuesAsShrinkables(seed, Combinators.combine(integers, Arbitraries.strings().alpha()).as((i, str) -> str + i));
+		}
+
+		private <T> void assertSameValuesAsShrinkables(long seed, Arbitrary<T> arbitrary) {
+			RandomGenerator<T> shrinkablesGenerator = arbitrary.generator(100);
+			RandomGenerator<T> valuesGenerator = arbitrary.generator(100);
+			Random shrinkablesRandom = new Random(seed);
+			Random valuesRandom = new Random(seed);
+			for (int i = 0; i < 20; i++) {
+				T value = valuesGenerator.nextValue(valuesRandom);
+				if (value != null && value.getClass().isArray())
+					assertThat((Object[]) value).isEqualTo(shrinkablesGenerator.next(shrinkablesRandom).value());
+				else
+					assertThat(value).isEqualTo(shrinkablesGenerator.next(shrinkablesRandom).value());
+			}
+		}
+	}
+
 	private void assertAllPartitionsAreCovered(
 		RandomGenerator<BigInteger> generator, BigInteger min, BigInteger max,
 		BigInteger[] partitionPoints
@@ -0,0 +1,181 @@
+package net.jqwik.properties;
+
+import net.jqwik.api.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ShrinkingSessionTests {
+
+	@Example
+	void outcomeOfEachValueIsOnlyCheckedOnce() {
+		AtomicInteger countChecks = new AtomicInteger();
+		Predicate<Integer> isEven = anInt -> {
+			countChecks.incrementAndGet();
+			return anInt % 2 == 0;
+		};
+		ShrinkingSession session = new ShrinkingSession(100, 0);
+		Predicate<Integer> memoized = session.memoize(isEven);
+
+		assertThat(memoized.test(2)).isTrue();
+		assertThat(memoized.test(3)).isFalse();
+		assertThat(memoized.test(2)).isTrue();
+		assertThat(memoized.test(3)).isFalse();
+
+		assertThat(countChecks.get()).isEqualTo(2);
+		assertThat(session.hits()).isEqualTo(2);
+		assertThat(session.misses()).isEqualTo(2);
+		assertThat(session.statistics()).isEqualTo("4 checks, 2 from cache (50 %)");
+	}
+
+	@Example
+	void errorsAreRethrownFromCache() {
+		AssertionError error = new AssertionError("test");
+		Predicate<Integer> failing = anInt -> {
+			throw error;
+		};
+		Predicate<Integer> memoized = new ShrinkingSession(100, 0).memoize(failing);
+
+		assertThatThrownBy(() -> memoized.test(1)).isSameAs(error);
+		assertThatThrownBy(() -> memoized.test(1)).isSameAs(error);
+	}
+
+	@Example
+	void leastRecentlyUsedOutcomesAreForgotten() {
+		AtomicInteger countChecks = new AtomicInteger();
+		Predicate<Integer> memoized = new ShrinkingSession(2, 0).memoize(anInt -> countChecks.incrementAndGet() > 0);
+
+		memoized.test(1);
+		memoized.test(2);
+		memoized.test(3);
+		memoized.test(1);
+
+		assertThat(countChecks.get()).isEqualTo(4);
+	}
+
+	@Example
+	void largeValuesAreNotCached() {
+		AtomicInteger countChecks = new AtomicInteger();
+		ShrinkingSession session = new ShrinkingSession(100, 5);
+		Predicate<List<String>> memoized = session.memoize(params -> countChecks.incrementAndGet() > 0);
+
+		memoized.test(Collections.singletonList("short"));
+		memoized.test(Collections.singletonList("short"));
+		memoized.test(Collections.singletonList("a long string"));
+		memoized.test(Collections.singletonList("a long string"));
+
+		assertThat(countChecks.get()).isEqualTo(3);
+		assertThat(session.hits()).isEqualTo(1);
+	}
+
+	@Example
+	void blacklistedExceptionsAreNotCached() {
+		AtomicInteger countChecks = new AtomicInteger();
+		Predicate<Integer> outOfMemory = anInt -> {
+			countChecks.incrementAndGet();
+			throw new OutOfMemoryError();
+		};
+		Predicate<Integer> memoized = new ShrinkingSession(100, 0).memoize(outOfMemory);
+
+		assertThatThrownBy(() -> memoized.test(1)).isInstanceOf(OutOfMemoryError.class);
+		assertThatThrownBy(() -> memoized.test(1)).isInstanceOf(OutOfMemoryError.class);
+		assertThat(countChecks.get()).isEqualTo(2);
+	}
+
+	@Example
+	void candidatesAreNotFalsifiedOnceMaxChecksAreUsedUp() {
+		AtomicInteger countChecks = new AtomicInteger();
+		ShrinkingSession session = new ShrinkingSession(100, 0, 2, null);
+		Predicate<Integer> memoized = session.memoize(anInt -> countChecks.incrementAndGet() < 0);
+
+		assertThat(memoized.test(1)).isFalse();
+		assertThat(memoized.test(2)).isFalse();
+		assertThat(session.wasCutShort()).isFalse();
+		assertThat(memoized.test(3)).isTrue();
+		assertThat(memoized.test(1)).isFalse();
+
+		assertThat(countChecks.get()).isEqualTo(2);
+		assertThat(session.wasCutShort()).isTrue();
+		assertThat(session.statistics()).startsWith("cut short after").endsWith("3 checks, 1 from cache (33 %)");
+	}
+
+	@Example
+	void candidatesAreNotFalsifiedOnceMaxDurationHasPassed() {
+		ShrinkingSession session = new ShrinkingSession(100, 0, Integer.MAX_VALUE, Duration.ZERO);
+		Predicate<Integer> memoized = session.memoize(anInt -> false);
+
+		assertThat(memoized.test(1)).isTrue();
+		assertThat(session.wasCutShort()).isTrue();
+	}
+
+	@Example
+	void parallelSessionEvaluatesCandidatesConcurrentlyInOrder() {
+		List<Integer> candidates = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		ShrinkingSession session = ShrinkingSession.start(Integer.MAX_VALUE, null, 4);
+		try {
+			List<Integer> results = ShrinkingSession.evaluateAll(candidates, anInt -> {
+				threads.add(Thread.currentThread());
+				return anInt * 2;
+			});
+			assertThat(results).isEqualTo(candidates.stream().map(anInt -> anInt * 2).collect(Collectors.toList()));
+			assertThat(threads).doesNotContain(Thread.currentThread());
+		} finally {
+			session.close();
+		}
+	}
+
+	@Example
+	void findFirstStopsAfterBatchWithFoundResult() {
+		List<Integer> candidates = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+		Set<Integer> evaluated = ConcurrentHashMap.newKeySet();
+		Function<Integer, Integer> evaluation = anInt -> {
+			evaluated.add(anInt);
+			return anInt;
+		};
+
+		Optional<Integer> sequentialFound = ShrinkingSession.findFirst(candidates, evaluation, anInt -> anInt >= 5);
+		assertThat(sequentialFound).hasValue(5);
+		assertThat(evaluated).hasSize(6);
+
+		evaluated.clear();
+		ShrinkingSession session = ShrinkingSession.start(Integer.MAX_VALUE, null, 4);
+		try {
+			Optional<Integer> parallelFound = ShrinkingSession.findFirst(candidates, evaluation, anInt -> anInt >= 5);
+			assertThat(parallelFound).hasValue(5);
+			assertThat(evaluated).hasSize(8);
+		} finally {
+			session.close();
+		}
+	}
+
+	@Example
+	void nestedSessionsShareCacheOfOutermostSession() {
+		ShrinkingSession outer = ShrinkingSession.start();
+		try {
+			Predicate<Integer> outerFalsifier = anInt -> true;
+			assertThat(outer.memoize(outerFalsifier)).isNotSameAs(outerFalsifier);
+			ShrinkingSession nested = ShrinkingSession.start();
+			try {
+				assertThat(nested).isSameAs(outer);
+				Predicate<Integer> falsifier = anInt -> true;
+				assertThat(nested.memoize(falsifier)).isSameAs(falsifier);
+			} finally {
+				nested.close();
+			}
+			assertThat(ShrinkingSession.start()).isSameAs(outer);
+			outer.close();
+		} finally {
+			outer.close();
+		}
+		ShrinkingSession afterwards = ShrinkingSession.start();
+		afterwards.close();
+		assertThat(afterwards).isNotSameAs(outer);
+	}
+}
@@ -0,0 +1,73 @@
+package net.jqwik.properties;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.*;
+import net.jqwik.api.*;
+
+class SourceOfRandomnessTests {
+
+	@Example
+	void compatibleAlgorithmReproducesValuesOfJavaUtilRandom() {
+		Random random = RandomAlgorithm.COMPATIBLE.create(42L);
+		Random expected = new Random(42L);
+		for (int i = 0; i < 100; i++) {
+			assertThat(random.nextLong()).isEqualTo(expected.nextLong());
+		}
+	}
+
+	@Example
+	void sameSeedReproducesSameValues() {
+		for (RandomAlgorithm algorithm : RandomAlgorithm.values()) {
+			Random first = algorithm.create(4711L);
+			Random second = algorithm.create(4711L);
+			for (int i = 0; i < 100; i++) {
+				assertThat(first.nextInt(1000)).isEqualTo(second.nextInt(1000));
+				assertThat(first.nextDouble()).isEqualTo(second.nextDouble());
+			}
+		}
+	}
+
+	@Example
+	void seedsOfTriesWithoutRandomnessStayDistinctBeyond65536Tries() {
+		for (RandomAlgorithm algorithm : RandomAlgorithm.values()) {
+			TrySeeds trySeeds = algorithm.trySeeds(4711L);
+			Set<Long> seeds = new HashSet<>();
+			for (int i = 0; i < 100_000; i++) {
+				seeds.add(trySeeds.nextTrySeed());
+			}
+			assertThat(seeds).hasSize(100_000);
+		}
+	}
+
+	@Example
+	void xoroshiroCoversAllValuesOfSmallRange() {
+		Random random = RandomAlgorithm.XOROSHIRO.create(1L);
+		Set<Integer> values = IntStream.range(0, 1000).mapToObj(i -> random.nextInt(10)).collect(Collectors.toSet());
+		assertThat(values).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+		double doubleValue = random.nextDouble();
+		assertThat(doubleValue).isBetween(0.0, 1.0);
+	}
+
+	@Example
+	void createUsesChosenAlgorithm() {
+		RandomAlgorithm previous = SourceOfRandomness.algorithm();
+		try {
+			SourceOfRandomness.useAlgorithm(RandomAlgorithm.XOROSHIRO);
+			Random random = SourceOfRandomness.create("42");
+			assertThat(random).isInstanceOf(XoroshiroRandom.class);
+			assertThat(SourceOfRandomness.current()).isSameAs(random);
+		} finally {
+			SourceOfRandomness.useAlgorithm(previous);
+		}
+	}
+
+	@Example
+	void invalidSeedIsRejected() {
+		assertThatThrownBy(() -> SourceOfRandomness.create("notASeed")).isInstanceOf(JqwikException.class);
+	}
+}
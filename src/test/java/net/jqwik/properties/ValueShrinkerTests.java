@@ -2,6 +2,7 @@ package net.jqwik.properties;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.*;
 import java.util.function.*;
 
 import org.assertj.core.api.*;
@@ -70,4 +71,81 @@ class ValueShrinkerTests {
 		assertThat(shrinkResult.throwable()).isNotPresent();
 	}
 
+	@Group
+	class Greedily {
+
+		@Example
+		void shrinkToFalsifiedValueWithLowestDistance() {
+			Shrinkable<Integer> shrinkable = ArbitraryTestHelper.shrinkableInteger(10);
+			MockFalsifier<Integer> falsifier = MockFalsifier.falsifyWhen(anInt -> anInt < 3);
+			ShrinkResult<Shrinkable<Integer>> shrinkResult = new ValueShrinker<>(shrinkable).shrinkGreedily(falsifier, null);
+			assertThat(shrinkResult.shrunkValue().value()).isEqualTo(3);
+			assertThat(shrinkResult.throwable()).isNotPresent();
+		}
+
+		@Example
+		void needFewerChecksThanShrinkingAllCandidates() {
+			Shrinkable<String> shrinkable = ArbitraryTestHelper.shrinkableString("hello this is a longer sentence.");
+			Map<String, Integer> greedyChecks = new HashMap<>();
+			Map<String, Integer> allChecks = new HashMap<>();
+
+			ShrinkResult<Shrinkable<String>> greedyResult = new ValueShrinker<>(shrinkable) //
+				.shrinkGreedily(countingFalsifier(greedyChecks), null);
+			ShrinkResult<Shrinkable<String>> allResult = new ValueShrinker<>(shrinkable) //
+				.shrink(countingFalsifier(allChecks), null);
+
+			assertThat(greedyResult.shrunkValue().value()).isEqualTo("haa");
+			assertThat(allResult.shrunkValue().value()).isEqualTo("haa");
+			assertThat(greedyChecks.size()).isLessThan(allChecks.size());
+		}
+
+		private Predicate<String> countingFalsifier(Map<String, Integer> checks) {
+			return aString -> {
+				checks.merge(aString, 1, Integer::sum);
+				return aString.length() < 3 || !aString.startsWith("h");
+			};
+		}
+
+		@Example
+		void keepErrorOfLastFalsifiedCandidate() {
+			Shrinkable<Integer> shrinkable = ArbitraryTestHelper.shrinkableInteger(10);
+			Predicate<Integer> falsifier = anInt -> {
+				Assertions.assertThat(anInt).isEqualTo(0);
+				return true;
+			};
+			ShrinkResult<Shrinkable<Integer>> shrinkResult = new ValueShrinker<>(shrinkable).shrinkGreedily(falsifier, null);
+			assertThat(shrinkResult.shrunkValue().value()).isEqualTo(1);
+			assertThat(shrinkResult.throwable().get()).isInstanceOf(AssertionError.class);
+		}
+
+		@Example
+		void lazyCandidatesAreOnlyCheckedUntilFirstFalsified() {
+			Shrinkable<List<Integer>> shrinkable = ArbitraryTestHelper.shrinkableListOfIntegers(1, 2, 3, 4);
+			List<List<Integer>> checks = new ArrayList<>();
+			Predicate<List<Integer>> falsifyAll = aList -> {
+				checks.add(aList);
+				return false;
+			};
+
+			Optional<ShrinkResult<Shrinkable<List<Integer>>>> first = shrinkable.shrinkNextLazily(falsifyAll).findFirst();
+
+			assertThat(first.get().shrunkValue().value()).hasSize(2);
+			assertThat(checks).hasSize(1);
+		}
+	}
+
+	@Example
+	void eachCandidateIsCheckedOnlyOnce() {
+		Shrinkable<String> shrinkable = ArbitraryTestHelper.shrinkableString("hello this is a longer sentence.");
+		Map<String, Integer> checks = new HashMap<>();
+		Predicate<String> falsifier = aString -> {
+			checks.merge(aString, 1, Integer::sum);
+			return aString.length() < 3 || !aString.startsWith("h");
+		};
+		ValueShrinker<String> singleValueShrinker = new ValueShrinker<>(shrinkable);
+		ShrinkResult<Shrinkable<String>> shrinkResult = singleValueShrinker.shrink(falsifier, null);
+		assertThat(shrinkResult.shrunkValue().value()).isEqualTo("haa");
+		assertThat(checks.values()).containsOnly(1);
+	}
+
 }
@@ -0,0 +1,48 @@
+package net.jqwik.properties.arbitraries;
+
+import net.jqwik.api.*;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CharacterTableTests {
+
+	@Example
+	void overlappingAndAdjacentRangesAreMerged() {
+		CharacterTable table = CharacterTable.of(Arrays.asList(
+			Range.of('x', 'z'), Range.of('a', 'c'), Range.of('b', 'e'), Range.of('f', 'f'), Range.of('z', 'z')
+		));
+
+		assertThat(table.size()).isEqualTo(9);
+		assertThat(allChars(table)).containsExactly('a', 'b', 'c', 'd', 'e', 'f', 'x', 'y', 'z');
+	}
+
+	@Example
+	void indexOfIsInverseOfCharAt() {
+		CharacterTable table = CharacterTable.of(Arrays.asList(Range.of('0', '9'), Range.of('A', 'Z'), Range.of('a', 'z')));
+
+		for (int index = 0; index < table.size(); index++) {
+			assertThat(table.indexOf(table.charAt(index))).isEqualTo(index);
+		}
+		assertThat(table.indexOf('/')).isEqualTo(-1);
+		assertThat(table.indexOf('_')).isEqualTo(-1);
+		assertThat(table.indexOf('{')).isEqualTo(-1);
+	}
+
+	@Example
+	void tablesForSameRangesAreShared() {
+		CharacterTable table1 = CharacterTable.of(Arrays.asList(Range.of('a', 'z'), Range.of('0', '9')));
+		CharacterTable table2 = CharacterTable.of(Arrays.asList(Range.of('0', '9'), Range.of('a', 'm'), Range.of('n', 'z')));
+
+		assertThat(table1).isSameAs(table2);
+	}
+
+	private List<Character> allChars(CharacterTable table) {
+		List<Character> chars = new ArrayList<>();
+		for (int index = 0; index < table.size(); index++) {
+			chars.add(table.charAt(index));
+		}
+		return chars;
+	}
+}
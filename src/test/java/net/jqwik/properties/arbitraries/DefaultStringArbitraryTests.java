@@ -1,10 +1,17 @@
 package net.jqwik.properties.arbitraries;
 
+import net.jqwik.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.properties.*;
+
+import java.util.*;
+import java.util.function.*;
 
 import static net.jqwik.properties.ArbitraryTestHelper.*;
+import static org.assertj.core.api.Assertions.*;
 
+@Group
 class DefaultStringArbitraryTests {
 
 	StringArbitrary arbitrary = new DefaultStringArbitrary();
@@ -40,6 +47,11 @@ class DefaultStringArbitraryTests {
 		assertAtLeastOneGenerated(stringArbitrary.generator(10), s -> s.contains(Character.toString('Z')));
 	}
 
+	@Example
+	void withCharRangeFromGreaterThanToFails() {
+		assertThatThrownBy(() -> this.arbitrary.withCharRange('z', 'a')).isInstanceOf(JqwikException.class);
+	}
+
 	@Example
 	void withChars() {
 		StringArbitrary stringArbitrary = this.arbitrary.withChars(new char[] { 'a', 'm', 'x' });
@@ -102,4 +114,80 @@ class DefaultStringArbitraryTests {
 		});
 	}
 
+	@Example
+	void allValidCharsHaveSameProbability() {
+		RandomGenerator<String> generator = this.arbitrary.alpha().numeric().ofLength(100).generator(10);
+		Random random = SourceOfRandomness.current();
+		int countDigits = 0;
+		for (int i = 0; i < 100; i++) {
+			countDigits += generator.next(random).value().chars().filter(Character::isDigit).count();
+		}
+		// 10 out of 62 chars are digits
+		assertThat(countDigits).isBetween(1000, 2300);
+	}
+
+	@Example
+	void derivedArbitrariesDoNotChangeOriginalChars() {
+		StringArbitrary onlyA = this.arbitrary.withChars(new char[] { 'a' });
+		onlyA.withChars(new char[] { 'b' });
+		onlyA.numeric();
+
+		assertAllGenerated(onlyA.generator(10), s -> {
+			return s.chars().allMatch(c -> c == 'a');
+		});
+	}
+
+	@Group
+	class Shrinking {
+
+		private final Random random = SourceOfRandomness.current();
+
+		@Example
+		void shrinkToShortestStringOfSmallestChar() {
+			StringArbitrary stringArbitrary = arbitrary.withCharRange('x', 'z').withCharRange('c', 'e').ofMinLength(2);
+
+			assertThat(shrinkToEnd(stringArbitrary, random)).isEqualTo("cc");
+		}
+
+		@Example
+		void shrinkCharsOfAllRangesTowardsSmallestValidChar() {
+			StringArbitrary stringArbitrary = arbitrary.alpha().ofLength(3);
+			Shrinkable<String> string = generateUntil(stringArbitrary.generator(10), s -> s.chars().allMatch(Character::isLowerCase));
+
+			ShrinkResult<Shrinkable<String>> shrinkResult = new ValueShrinker<>(string).shrink(s -> false, null);
+
+			assertThat(shrinkResult.shrunkValue().value()).isEqualTo("AAA");
+		}
+
+		@Example
+		void shrinkCharsAndLengthWhileFalsified() {
+			StringArbitrary stringArbitrary = arbitrary.withCharRange('a', 'z').ofMinLength(5).ofMaxLength(50);
+			Shrinkable<String> string = generateUntil(stringArbitrary.generator(50), s -> s.contains("x"));
+
+			ShrinkResult<Shrinkable<String>> shrinkResult = new ValueShrinker<>(string).shrink(s -> !s.contains("x"), null);
+
+			assertThat(shrinkResult.shrunkValue().value()).isIn("xaaaa", "axaaa", "aaxaa", "aaaxa", "aaaax");
+			assertThat(shrinkResult.shrunkValue().distance()).isEqualTo(5 + 'x' - 'a');
+		}
+
+		@Example
+		void cutCharsFromTheMiddle() {
+			StringArbitrary stringArbitrary = arbitrary.withCharRange('a', 'z').ofMinLength(2).ofMaxLength(50);
+			Predicate<String> zAtBothEnds = s -> s.startsWith("z") && s.endsWith("z");
+			Shrinkable<String> string = generateUntil(stringArbitrary.generator(50), zAtBothEnds);
+
+			ShrinkResult<Shrinkable<String>> shrinkResult = new ValueShrinker<>(string).shrinkGreedily(zAtBothEnds.negate(), null);
+
+			assertThat(shrinkResult.shrunkValue().value()).isEqualTo("zz");
+		}
+
+		private Shrinkable<String> generateUntil(RandomGenerator<String> generator, Predicate<String> condition) {
+			while (true) {
+				Shrinkable<String> next = generator.next(random);
+				if (condition.test(next.value()))
+					return next;
+			}
+		}
+	}
+
 }
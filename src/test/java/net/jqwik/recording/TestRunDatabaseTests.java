@@ -0,0 +1,158 @@
+package net.jqwik.recording;
+
+import net.jqwik.api.*;
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.TestExecutionResult.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TestRunDatabaseTests {
+
+	private final Path databasePath;
+
+	TestRunDatabaseTests() throws IOException {
+		databasePath = Files.createTempFile("jqwik-database", "");
+		Files.delete(databasePath);
+		databasePath.toFile().deleteOnExit();
+	}
+
+	@Example
+	void recordedRunsAreAvailableInNextRun() {
+		record(run("a", Status.SUCCESSFUL, 10), run("b", Status.FAILED, 20));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.size()).isEqualTo(2);
+		assertThat(previousRun.byUniqueId(id("a"))).contains(run("a", Status.SUCCESSFUL, 10));
+		assertThat(previousRun.byUniqueId(id("b"))).contains(run("b", Status.FAILED, 20));
+		assertThat(previousRun.byUniqueId(id("c"))).isEmpty();
+	}
+
+	@Example
+	void laterRunsReplaceEarlierRunsAndUnrecordedRunsAreKept() {
+		record(run("a", Status.SUCCESSFUL, 10), run("b", Status.FAILED, 20));
+		record(run("b", Status.SUCCESSFUL, 30));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.size()).isEqualTo(2);
+		assertThat(previousRun.byUniqueId(id("a"))).contains(run("a", Status.SUCCESSFUL, 10));
+		assertThat(previousRun.byUniqueId(id("b"))).contains(run("b", Status.SUCCESSFUL, 30));
+	}
+
+	@Example
+	void unchangedRunsAreNotWrittenAgain() throws IOException {
+		record(run("a", Status.SUCCESSFUL, 10));
+		long sizeAfterFirstRun = Files.size(databasePath);
+
+		record(run("a", Status.SUCCESSFUL, 10));
+
+		assertThat(Files.size(databasePath)).isEqualTo(sizeAfterFirstRun);
+	}
+
+	@Example
+	void runsWithOnlySlightlyDifferentDurationAreNotWrittenAgain() throws IOException {
+		record(run("a", Status.SUCCESSFUL, 10));
+		long sizeAfterFirstRun = Files.size(databasePath);
+
+		record(run("a", Status.SUCCESSFUL, 11));
+
+		assertThat(Files.size(databasePath)).isEqualTo(sizeAfterFirstRun);
+		assertThat(new TestRunDatabase(databasePath).previousRun().byUniqueId(id("a"))).contains(run("a", Status.SUCCESSFUL, 10));
+	}
+
+	@Example
+	void runsWithSignificantlyDifferentDurationAreWrittenAgain() {
+		record(run("a", Status.SUCCESSFUL, 10));
+		record(run("a", Status.SUCCESSFUL, 100));
+		record(run("a", Status.SUCCESSFUL, 60));
+
+		assertThat(new TestRunDatabase(databasePath).previousRun().byUniqueId(id("a"))).contains(run("a", Status.SUCCESSFUL, 100));
+
+		record(run("a", Status.SUCCESSFUL, 40));
+
+		assertThat(new TestRunDatabase(databasePath).previousRun().byUniqueId(id("a"))).contains(run("a", Status.SUCCESSFUL, 40));
+	}
+
+	@Example
+	void partiallyWrittenRecordIsDropped() throws IOException {
+		record(run("a", Status.SUCCESSFUL, 10), run("b", Status.FAILED, 20));
+		byte[] bytes = Files.readAllBytes(databasePath);
+		Files.write(databasePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().size()).isEqualTo(1);
+		assertThat(database.previousRun().byUniqueId(id("a"))).isPresent();
+
+		try (TestRunRecorder recorder = database.recorder()) {
+			recorder.record(run("c", Status.SUCCESSFUL, 30));
+		}
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.size()).isEqualTo(2);
+		assertThat(previousRun.byUniqueId(id("c"))).isPresent();
+	}
+
+	@Example
+	void fileInUnknownFormatIsReplaced() throws IOException {
+		try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(databasePath))) {
+			out.writeObject("written by an earlier version");
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().size()).isEqualTo(0);
+
+		try (TestRunRecorder recorder = database.recorder()) {
+			recorder.record(run("a", Status.SUCCESSFUL, 10));
+		}
+		assertThat(new TestRunDatabase(databasePath).previousRun().byUniqueId(id("a"))).isPresent();
+	}
+
+	@Example
+	void logWithManyReplacedRecordsIsCompacted() throws IOException {
+		for (int i = 1; i <= 300; i++) {
+			record(run("a", Status.SUCCESSFUL, Integer.toString(i), 10));
+		}
+		long sizeAfterCompaction = Files.size(databasePath);
+		record(run("a", Status.SUCCESSFUL, "301", 10));
+
+		assertThat(Files.size(databasePath)).isGreaterThan(sizeAfterCompaction);
+		assertThat(sizeAfterCompaction).isLessThan(300 * 30);
+		assertThat(new TestRunDatabase(databasePath).previousRun().byUniqueId(id("a"))).contains(run("a", Status.SUCCESSFUL, "301", 10));
+	}
+
+	@Example
+	void compactionDropsRunsNotRecordedInLastSession() {
+		record(run("deleted", Status.SUCCESSFUL, 10));
+		for (int i = 1; i <= 300; i++) {
+			record(run("a", Status.SUCCESSFUL, Integer.toString(i), 10));
+		}
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(id("a"))).isPresent();
+		assertThat(previousRun.byUniqueId(id("deleted"))).isEmpty();
+	}
+
+	private void record(TestRun... testRuns) {
+		try (TestRunRecorder recorder = new TestRunDatabase(databasePath).recorder()) {
+			for (TestRun testRun : testRuns) {
+				recorder.record(testRun);
+			}
+		}
+	}
+
+	private static TestRun run(String name, Status status, long durationMillis) {
+		return run(name, status, "42", durationMillis);
+	}
+
+	private static TestRun run(String name, Status status, String randomSeed, long durationMillis) {
+		return new TestRun(id(name), status, randomSeed, "4711", durationMillis);
+	}
+
+	private static UniqueId id(String name) {
+		return UniqueId.forEngine("jqwik").append("method", name);
+	}
+}